@@ -1,17 +1,28 @@
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.ArrayList;
-import java.util.PriorityQueue;
-import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Загальний клас BasicDataOperation координує роботу різних структур даних.
  * 
  * <p>Цей клас служить центральною точкою для демонстрації операцій з різними
  * колекціями Java: List, Queue та Set. Він об'єднує функціональність всіх
- * спеціалізованих класів для комплексного аналізу даних LocalTime.</p>
+ * спеціалізованих класів для комплексного аналізу часових даних. Тип даних обирається
+ * параметром {@code --type} (LocalTime, LocalDate, LocalDateTime; типово LocalTime),
+ * набір читається з відповідного файлу list/&lt;тип&gt;.data.</p>
  * 
  * <p>Основні можливості:</p>
  * <ul>
@@ -24,41 +35,268 @@ import java.util.Queue;
  * <p>Приклад використання:</p>
  * <pre>
  * {@code
- * java BasicDataOperation "2024-03-16T00:12:38Z" list
- * java BasicDataOperation "2024-03-16T00:12:38Z" queue  
- * java BasicDataOperation "2024-03-16T00:12:38Z" set
- * java BasicDataOperation "2024-03-16T00:12:38Z" all
+ * java BasicDataOperation "12:34:56" list
+ * java BasicDataOperation "12:34:56" queue
+ * java BasicDataOperation "12:34:56" set
+ * java BasicDataOperation "12:34:56" map
+ * java BasicDataOperation "12:34:56" buckets
+ * java BasicDataOperation "12:34:56" window --window 5 --top 10
+ * java BasicDataOperation "tall trees" text
+ * java BasicDataOperation "-5.857972E-6" numeric --type double
+ * java BasicDataOperation "Ж" numeric --type Character
+ * java BasicDataOperation "12:34:56" all
+ * java BasicDataOperation "2025-02-12" --type LocalDate
+ * java BasicDataOperation "2025-06-21T09:46:21" set --type LocalDateTime
  * }
  * </pre>
  */
 public class BasicDataOperation {
-    static final String PATH_TO_DATA_FILE = "list/LocalTime.data";
+    static final String PATH_TO_DATA_FILE = DataFileHandler.dataFilePath(TemporalCodec.LOCAL_TIME);
+
+    // тип часових даних; значення для пошуку розбирається кодеком цього типу
+    TemporalCodec<?> temporalType = TemporalCodec.LOCAL_TIME;
+    String searchValue;
+    // набір завантажується один раз і спільно використовується обробниками без копіювання
+    TemporalDataset<?> dateTimeDataset;
+    // тип числового набору для режиму numeric
+    String numericType = "int";
+
+    // куди вивантажити метрики продуктивності (null - не вивантажувати)
+    private String metricsJsonPath;
+    private String metricsPrometheusPath;
+    private int metricsPort = -1;
+
+    /**
+     * Режим роботи: які структури даних будуються і обробляються.
+     */
+    enum Mode {
+        LIST, QUEUE, SET, MAP, TEXT, NUMERIC, BUCKETS, WINDOW, ALL;
+
+        /**
+         * @return true, якщо режиму потрібен часовий набір з файлу
+         */
+        boolean usesTemporalData() {
+            return this != MAP && this != TEXT && this != NUMERIC;
+        }
+    }
+
+    // будуються лише структури обраного режиму (all - List, Queue і Set; text - пошук у String.data;
+    // numeric - числовий набір, тип якого задає --type; buckets - лічильники подій LocalTime за інтервалами;
+    // window - черга з ковзним вікном над потоком подій)
+    private Mode mode = Mode.ALL;
 
-    LocalTime dateTimeValueToSearch;
-    LocalTime[] dateTimeArray;
+    // параметри режиму window: довжина вікна в хвилинах і кількість останніх подій (K)
+    private static final int DEFAULT_WINDOW_MINUTES = 60;
+    private static final int DEFAULT_WINDOW_TOP = 10;
+    private int windowMinutes = DEFAULT_WINDOW_MINUTES;
+    private int windowTop = DEFAULT_WINDOW_TOP;
+
+    // посекундні лічильники, що заповнюються під час завантаження (лише в режимі buckets)
+    private TimeBucketAggregator timeBuckets;
+
+    // паралельний режим: List, Queue і Set обробляються одночасно у власних потоках
+    private boolean parallel;
+
+    // зовнішнє сортування: файл сортується злиттям частин з диска, без завантаження в пам'ять
+    private boolean externalSort;
+
+    // режим вимірювання: прогрівальні та вимірювані ітерації (0 - одноразовий запуск)
+    private static final int DEFAULT_WARMUP_ITERATIONS = 5;
+    private static final int DEFAULT_MEASURED_ITERATIONS = 10;
+    private static final double CONFIDENCE_LEVEL = 0.999;
+    private int warmupIterations = -1;
+    private int measuredIterations = -1;
+
+    // перевірка регресій продуктивності відносно еталонного файлу
+    private static final double DEFAULT_REGRESSION_THRESHOLD = 10.0;
+    private static final int DEFAULT_REGRESSION_ROUNDS = 5;
+    // p99 має сенс лише на десятках вимірювань у раунді
+    private static final int DEFAULT_REGRESSION_ITERATIONS = 100;
+    private static final int DEFAULT_REGRESSION_WARMUP = 200;
+    private String checkBaselinePath;
+    private String recordBaselinePath;
+    private double regressionThreshold = DEFAULT_REGRESSION_THRESHOLD;
+    private int regressionRounds = DEFAULT_REGRESSION_ROUNDS;
 
     private static final String SEPARATOR = "\n" + "=".repeat(80) + "\n";
-    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошукове-значення> \n" +
+    private static final String TITLE_RULE = "=".repeat(60);
+    private static final String PROCESSOR_SEPARATOR = "\n" + "~".repeat(60) + "\n";
+    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошукове-значення> [list|queue|set|map|text|numeric|buckets|window|all] " +
+"[--type LocalTime|LocalDate|LocalDateTime|byte|short|int|long|float|double|Character] [--parallel] [--external-sort] [--warmup <N>] [--iterations <M>] [--metrics-json <файл>] [--metrics-prom <файл>] [--metrics-port <порт>]\n" +
+"       [--window <хвилини>] [--top <K>] [--check-baseline <файл>] [--record-baseline <файл>] [--threshold <відсотки>] [--rounds <R>]\n" +
+"       [--report quiet|text|json]\n" +
 "Приклад:\n" +
-"  java BasicDataOperation \"12:34:56\"";
+"  java BasicDataOperation \"12:34:56\"\n" +
+"  java BasicDataOperation \"12:34:56\" queue\n" +
+"  java BasicDataOperation \"2025-02-12\" --type LocalDate\n" +
+"  java BasicDataOperation \"tall trees\" text\n" +
+"  java BasicDataOperation \"42\" numeric --type int\n" +
+"  java BasicDataOperation \"12:34:56\" buckets\n" +
+"  java BasicDataOperation \"12:34:56\" window --window 5 --top 10\n" +
+"  java BasicDataOperation \"12:34:56\" --parallel\n" +
+"  java BasicDataOperation \"12:34:56\" --external-sort\n" +
+"  java BasicDataOperation \"12:34:56\" --warmup 10 --iterations 20\n" +
+"  java BasicDataOperation \"12:34:56\" --report json\n" +
+"  java BasicDataOperation \"12:34:56\" --metrics-json metrics.jsonl --metrics-prom metrics.prom\n" +
+"  java BasicDataOperation \"12:34:56\" --record-baseline baseline.tsv\n" +
+"  java BasicDataOperation \"12:34:56\" --check-baseline baseline.tsv --threshold 15";
 
     public static void main(String[] args) {
-        if (args.length != 1) {
+        if (args.length < 1) {
             System.out.println(USAGE_MESSAGE);
             return;
         }
 
-        String searchValue = args[0];
+        BasicDataOperation coordinator = new BasicDataOperation();
+        int firstOption = 1;
+        if (args.length > 1 && !args[1].startsWith("--")) {
+            try {
+                coordinator.mode = Mode.valueOf(args[1].toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Помилка: Невідомий режим " + args[1]);
+                System.out.println(USAGE_MESSAGE);
+                return;
+            }
+            firstOption = 2;
+        }
+        for (int i = firstOption; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--parallel")) {
+                coordinator.parallel = true;
+                continue;
+            }
+            if (option.equals("--external-sort")) {
+                coordinator.externalSort = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                System.out.println("Помилка: Параметр " + option + " потребує значення");
+                System.out.println(USAGE_MESSAGE);
+                return;
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--metrics-json":
+                    coordinator.metricsJsonPath = value;
+                    break;
+                case "--metrics-prom":
+                    coordinator.metricsPrometheusPath = value;
+                    break;
+                case "--check-baseline":
+                    coordinator.checkBaselinePath = value;
+                    break;
+                case "--record-baseline":
+                    coordinator.recordBaselinePath = value;
+                    break;
+                case "--type":
+                    // map і text мають власні дані, тож тип у них не впливає ні на що
+                    if (coordinator.mode == Mode.MAP || coordinator.mode == Mode.TEXT) {
+                        System.out.println("Помилка: Параметр --type не підтримується в режимі "
+                            + coordinator.mode.name().toLowerCase(Locale.ROOT));
+                        System.out.println(USAGE_MESSAGE);
+                        return;
+                    }
+                    if (coordinator.mode == Mode.NUMERIC) {
+                        coordinator.numericType = value;
+                        break;
+                    }
+                    try {
+                        coordinator.temporalType = TemporalCodec.forName(value);
+                    } catch (IllegalArgumentException e) {
+                        System.out.println("Помилка: " + e.getMessage() + " (підтримуються LocalTime, LocalDate, LocalDateTime)");
+                        return;
+                    }
+                    break;
+                case "--report":
+                    try {
+                        ReportSink.setMode(ReportSink.Mode.parse(value));
+                    } catch (IllegalArgumentException e) {
+                        System.out.println("Помилка: Невідомий режим виводу: " + value);
+                        return;
+                    }
+                    break;
+                case "--threshold":
+                    try {
+                        coordinator.regressionThreshold = Double.parseDouble(value);
+                    } catch (NumberFormatException e) {
+                        System.out.println("Помилка: Невірний поріг регресії: " + value);
+                        return;
+                    }
+                    break;
+                case "--metrics-port":
+                case "--window":
+                case "--top":
+                case "--warmup":
+                case "--iterations":
+                case "--rounds":
+                    int number;
+                    try {
+                        number = Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        number = -1;
+                    }
+                    if (number < 0) {
+                        System.out.println("Помилка: Невірне числове значення параметра " + option + ": " + value);
+                        return;
+                    }
+                    if (option.equals("--metrics-port")) {
+                        coordinator.metricsPort = number;
+                    } else if (option.equals("--warmup")) {
+                        coordinator.warmupIterations = number;
+                    } else if (option.equals("--window")) {
+                        coordinator.windowMinutes = Math.max(1, number);
+                    } else if (option.equals("--top")) {
+                        coordinator.windowTop = Math.max(1, number);
+                    } else if (option.equals("--rounds")) {
+                        coordinator.regressionRounds = Math.max(1, number);
+                    } else {
+                        coordinator.measuredIterations = number;
+                    }
+                    break;
+                default:
+                    System.out.println("Помилка: Невідомий параметр " + option);
+                    System.out.println(USAGE_MESSAGE);
+                    return;
+            }
+        }
 
-        // Валідація введеного значення дати
-        try {
-            LocalTime.parse(searchValue, DateTimeFormatter.ISO_TIME);
-        } catch (Exception e) {
-            System.out.println("Помилка: Невірний формат дати-часу. Використовуйте ISO формат (наприклад: 2024-03-16T00:12:38Z)");
+        if (coordinator.externalSort && (coordinator.temporalType != TemporalCodec.LOCAL_TIME || !coordinator.mode.usesTemporalData())) {
+            System.out.println("Помилка: Зовнішнє сортування підтримується лише для LocalTime");
             return;
         }
 
-        BasicDataOperation coordinator = new BasicDataOperation();
+        if (coordinator.parallel && coordinator.mode != Mode.ALL) {
+            System.out.println("Помилка: Паралельне виконання підтримується лише в режимі all");
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        if (coordinator.mode == Mode.BUCKETS && coordinator.temporalType != TemporalCodec.LOCAL_TIME) {
+            System.out.println("Помилка: Інтервали доби підтримуються лише для LocalTime");
+            return;
+        }
+
+        coordinator.searchValue = args[0];
+
+        // Валідація введеного значення (у режимах map і text воно не є часовим)
+        if (coordinator.mode == Mode.NUMERIC) {
+            try {
+                BasicDataOperationUsingNumbers.checkValue(coordinator.numericType, coordinator.searchValue);
+            } catch (IllegalArgumentException e) {
+                System.out.println("Помилка: Невірне значення " + coordinator.searchValue + " для типу "
+                    + coordinator.numericType + ": " + e.getMessage());
+                return;
+            }
+        } else if (coordinator.mode.usesTemporalData()) {
+            try {
+                coordinator.temporalType.parse(coordinator.searchValue);
+            } catch (Exception e) {
+                System.out.println("Помилка: Невірний формат значення " + coordinator.temporalType
+                    + ". Використовуйте ISO формат (наприклад: 12:34:56, 2025-02-12 або 2024-03-16T00:12:38Z)");
+                return;
+            }
+        }
+
         coordinator.executeOperations(args);
     }
 
@@ -68,20 +306,202 @@ public class BasicDataOperation {
      * @param args Аргументи командного рядка
      */
     private void executeOperations(String[] args) {
-        System.out.println(SEPARATOR);
-        System.out.println("🚀 РОЗПОЧАТО АНАЛІЗ ДАНИХ LocalTime 🚀");
-        System.out.println("Пошуковий параметр: " + args[0]);
-        System.out.println(SEPARATOR);
-        
-        // Підготовка даних та перевірка формату
-        dateTimeValueToSearch = LocalTime.parse(args[0], DateTimeFormatter.ISO_TIME);
-        dateTimeArray = DataFileHandler.loadArrayFromFile(PATH_TO_DATA_FILE);
+        ReportSink.decoration(SEPARATOR);
+        ReportSink.status("🚀 РОЗПОЧАТО АНАЛІЗ ДАНИХ {} 🚀", mode == Mode.TEXT ? "String" : mode == Mode.NUMERIC ? numericType : temporalType);
+        ReportSink.status("Пошуковий параметр: {}", args[0]);
+        ReportSink.status("Режим: {}", mode.name().toLowerCase(Locale.ROOT));
+        ReportSink.decoration(SEPARATOR);
         
-        runAllOperations();
+        // часовий набір завантажується лише для режимів, яким він потрібен
+        if (!externalSort && mode.usesTemporalData()) {
+            if (mode == Mode.BUCKETS) {
+                timeBuckets = new TimeBucketAggregator(TimeBucketAggregator.Granularity.SECOND);
+            }
+            dateTimeDataset = DataFileHandler.loadDatasetFromFile(DataFileHandler.dataFilePath(temporalType), temporalType, timeBuckets);
+        }
+
+        boolean gatePassed = true;
+        if (externalSort) {
+            // мінімум, максимум і пошук обчислюються під час злиття, масив не потрібен
+            ExternalLocalTimeSorter.sortAndReport(new ExternalLocalTimeSorter(),
+                Paths.get(PATH_TO_DATA_FILE), Paths.get(PATH_TO_DATA_FILE + ".sorted"), TemporalCodec.LOCAL_TIME.parse(searchValue));
+        } else if (checkBaselinePath != null || recordBaselinePath != null) {
+            gatePassed = runRegressionGate(
+                warmupIterations >= 0 ? warmupIterations : DEFAULT_REGRESSION_WARMUP,
+                measuredIterations > 0 ? measuredIterations : DEFAULT_REGRESSION_ITERATIONS,
+                regressionRounds);
+        } else if (warmupIterations >= 0 || measuredIterations >= 0) {
+            runMeasurement(
+                warmupIterations >= 0 ? warmupIterations : DEFAULT_WARMUP_ITERATIONS,
+                measuredIterations > 0 ? measuredIterations : DEFAULT_MEASURED_ITERATIONS);
+        } else {
+            runSelectedOperations();
+        }
+
+        PerformanceTracker.printSummary();
+        exportMetrics();
+
+        ReportSink.decoration(SEPARATOR);
+        ReportSink.status("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
+        ReportSink.decoration(SEPARATOR);
+        ReportSink.flush();
+
+        if (metricsPort >= 0) {
+            serveMetrics();
+        }
+        if (!gatePassed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Виконує всі операції в режимі вимірювання: спочатку прогрівальні ітерації,
+     * результати яких відкидаються (JIT встигає скомпілювати гарячий код),
+     * потім вимірювані. Кожна ітерація працює зі свіжою копією набору даних.
+     * Для кожної операції виводяться середнє, стандартне відхилення та довірчий інтервал
+     * за середніми тривалостями окремих ітерацій.
+     * 
+     * @param warmup Кількість прогрівальних ітерацій
+     * @param iterations Кількість вимірюваних ітерацій
+     */
+    private void runMeasurement(int warmup, int iterations) {
+        Map<OperationMetrics, double[]> samples = new LinkedHashMap<>();
+
+        ReportSink.status("⏱ РЕЖИМ ВИМІРЮВАННЯ: прогрівальних ітерацій {}, вимірюваних ітерацій {}", warmup, iterations);
+        ReportSink.quietly(() -> {
+            warmUp(warmup);
+
+            Map<OperationMetrics, long[]> previousTotals = new HashMap<>();
+            for (int iteration = 0; iteration < iterations; iteration++) {
+                runSelectedOperations();
+                for (OperationMetrics operationMetrics : PerformanceTracker.allMetrics()) {
+                    OperationHistogram.Snapshot latency = operationMetrics.latencySnapshot();
+                    long[] previous = previousTotals.computeIfAbsent(operationMetrics, key -> new long[2]);
+                    long count = latency.getCount() - previous[1];
+                    // середня тривалість операції в цій ітерації (операція може виконуватися кілька разів)
+                    double[] iterationMeans = samples.computeIfAbsent(operationMetrics, key -> new double[iterations]);
+                    iterationMeans[iteration] = count > 0 ? (double) (latency.getSum() - previous[0]) / count : Double.NaN;
+                    previous[0] = latency.getSum();
+                    previous[1] = latency.getCount();
+                }
+                ReportSink.status("Вимірювана ітерація {}/{} завершена", iteration + 1, iterations);
+            }
+        });
+
+        printMeasurementReport(samples);
+    }
+
+    /**
+     * Виконує прогрівальні ітерації та відкидає їхні вимірювання.
+     * 
+     * @param warmup Кількість прогрівальних ітерацій
+     */
+    private void warmUp(int warmup) {
+        for (int i = 1; i <= warmup; i++) {
+            runSelectedOperations();
+            ReportSink.status("Прогрівальна ітерація {}/{} завершена", i, warmup);
+        }
+        PerformanceTracker.reset();
+    }
+
+    /**
+     * Вимірює набір операцій кількома раундами і порівнює перцентилі з еталоном
+     * та/або записує їх як новий еталон.
+     * 
+     * @param warmup Кількість прогрівальних ітерацій
+     * @param iterations Кількість ітерацій у раунді
+     * @param rounds Кількість раундів
+     * @return true, якщо регресій не виявлено (або порівняння не виконувалося)
+     */
+    private boolean runRegressionGate(int warmup, int iterations, int rounds) {
+        List<RegressionGate.OperationPercentiles> current = new ArrayList<>();
+
+        ReportSink.status("🚦 ПЕРЕВІРКА РЕГРЕСІЙ: прогрівальних ітерацій {}, раундів {} по {} ітерацій", warmup, rounds, iterations);
+        ReportSink.quietly(() -> {
+            warmUp(warmup);
+            current.addAll(RegressionGate.measure(this::runSelectedOperations, iterations, rounds));
+        });
+
+        boolean passed = true;
+        if (checkBaselinePath != null) {
+            List<RegressionGate.OperationPercentiles> baseline = RegressionGate.readBaseline(Paths.get(checkBaselinePath));
+            passed = RegressionGate.compare(baseline, current, regressionThreshold);
+        }
+        if (recordBaselinePath != null) {
+            RegressionGate.writeBaseline(Paths.get(recordBaselinePath), current);
+            ReportSink.status("📌 Еталон записано у {}", recordBaselinePath);
+        }
+        return passed;
+    }
+
+    /**
+     * Виводить статистику вимірюваних ітерацій для кожної операції.
+     * 
+     * @param samples Середні тривалості операцій за ітераціями
+     */
+    private void printMeasurementReport(Map<OperationMetrics, double[]> samples) {
+        boolean json = ReportSink.isJson();
+        if (!json) {
+            ReportSink.status("\n========= Статистика вимірюваних ітерацій (нс, довірчий інтервал "
+                + String.format("%.1f", CONFIDENCE_LEVEL * 100) + "%) =========");
+            ReportSink.status(String.format("%-60s %-14s %8s %8s %14s %14s %14s %14s %14s",
+                "Операція", "Структура", "Розмір", "Ітерацій", "Середнє", "Ст. відх.", "± Інтервал", "Мін", "Макс"));
+        }
+        for (OperationMetrics operationMetrics : PerformanceTracker.allMetrics()) {
+            double[] iterationMeans = samples.get(operationMetrics);
+            if (iterationMeans == null) {
+                continue;
+            }
+            double[] measured = Arrays.stream(iterationMeans).filter(value -> !Double.isNaN(value)).toArray();
+            if (measured.length == 0) {
+                continue;
+            }
+            BenchmarkStatistics statistics = new BenchmarkStatistics(measured);
+            if (json) {
+                OperationHistogram.Snapshot latency = operationMetrics.latencySnapshot();
+                ReportSink.measurement(operationMetrics.getOperationName(), operationMetrics.getBackend(),
+                    operationMetrics.getDatasetSize(), statistics.count(), statistics.mean(),
+                    statistics.standardDeviation(), statistics.confidenceHalfWidth(CONFIDENCE_LEVEL),
+                    statistics.min(), statistics.max(), latency.getPercentile(50), latency.getPercentile(99));
+                continue;
+            }
+            ReportSink.status(String.format("%-60s %-14s %8d %8d %14.0f %14.0f %14.0f %14.0f %14.0f",
+                operationMetrics.getOperationName(), operationMetrics.getBackend(), operationMetrics.getDatasetSize(),
+                statistics.count(), statistics.mean(), statistics.standardDeviation(),
+                statistics.confidenceHalfWidth(CONFIDENCE_LEVEL), statistics.min(), statistics.max()));
+        }
+    }
+
+    /**
+     * Вивантажує метрики продуктивності у файли JSON lines та Prometheus, якщо їх задано.
+     */
+    private void exportMetrics() {
+        if (metricsJsonPath != null) {
+            MetricsExporter.appendJsonLines(Paths.get(metricsJsonPath));
+            ReportSink.status("📈 Метрики дописано у {}", metricsJsonPath);
+        }
+        if (metricsPrometheusPath != null) {
+            MetricsExporter.writePrometheusFile(Paths.get(metricsPrometheusPath));
+            ReportSink.status("📈 Метрики записано у {}", metricsPrometheusPath);
+        }
+    }
 
-        System.out.println(SEPARATOR);
-        System.out.println("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
-        System.out.println(SEPARATOR);
+    /**
+     * Віддає метрики через локальний HTTP до натискання Enter.
+     */
+    private void serveMetrics() {
+        HttpServer server = MetricsExporter.startHttpServer(metricsPort);
+        int port = server.getAddress().getPort();
+        ReportSink.status("📡 Метрики доступні на http://localhost:{}/metrics та /metrics.json", port);
+        ReportSink.status("Натисніть Enter для завершення...");
+        ReportSink.flush();
+        try {
+            System.in.read();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            server.stop(0);
+        }
     }
 
     /**
@@ -90,15 +510,13 @@ public class BasicDataOperation {
      * @param args Аргументи для передачі до класу
      */
     private void runListOperations() {
-        System.out.println("📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST");
-        System.out.println("-".repeat(50));
+        ReportSink.section("📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST");
         
         try {
-            // Створення екземпляру класу з передаванням даних
-            BasicDataOperationUsingList listProcessor = new BasicDataOperationUsingList(dateTimeValueToSearch, dateTimeArray);
-            listProcessor.executeDataOperations();
+            // Створення екземпляру класу з поданням спільного незмінного набору даних
+            createListProcessor(dateTimeDataset).executeDataOperations();
         } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з List: " + e.getMessage());
+            ReportSink.status("❌ Помилка при роботі з List: {}", e.getMessage());
             e.printStackTrace();
         }
     }
@@ -109,15 +527,27 @@ public class BasicDataOperation {
      * @param args Аргументи для передачі до класу
      */
     private void runQueueOperations() {
-        System.out.println("🔄 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE");
-        System.out.println("-".repeat(50));
+        ReportSink.section("🔄 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE");
         
         try {
-            // Створення екземпляру класу з передаванням даних
-            BasicDataOperationUsingQueue queueProcessor = new BasicDataOperationUsingQueue(dateTimeValueToSearch, dateTimeArray);
-            queueProcessor.runDataProcessing();
+            // Створення екземпляру класу з поданням спільного незмінного набору даних
+            createQueueProcessor(dateTimeDataset).runDataProcessing();
         } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з Queue: " + e.getMessage());
+            ReportSink.status("❌ Помилка при роботі з Queue: {}", e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Запускає чергу з ковзним вікном над набором, відтвореним як потік подій.
+     */
+    private void runWindowOperations() {
+        ReportSink.section("🪟 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE З КОВЗНИМ ВІКНОМ");
+
+        try {
+            createQueueProcessor(dateTimeDataset).runWindowedProcessing(Duration.ofMinutes(windowMinutes), windowTop);
+        } catch (Exception e) {
+            ReportSink.status("❌ Помилка при роботі з вікном Queue: {}", e.getMessage());
             e.printStackTrace();
         }
     }
@@ -128,37 +558,195 @@ public class BasicDataOperation {
      * @param args Аргументи для передачі до класу
      */
     private void runSetOperations() {
-        System.out.println("🔍 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ SET");
-        System.out.println("-".repeat(50));
+        ReportSink.section("🔍 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ SET");
         
         try {
-            // Створення екземпляру класу з передаванням даних           
-            BasicDataOperationUsingSet setProcessor = new BasicDataOperationUsingSet(dateTimeValueToSearch, dateTimeArray);
-            setProcessor.executeDataAnalysis();
+            // Створення екземпляру класу з поданням спільного незмінного набору даних
+            createSetProcessor(dateTimeDataset).executeDataAnalysis();
+        } catch (Exception e) {
+            ReportSink.status("❌ Помилка при роботі з Set: {}", e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    // обробники параметризовані типом набору; значення для пошуку розбирається його кодеком
+
+    private <T extends Comparable<? super T>> BasicDataOperationUsingList<T> createListProcessor(TemporalDataset<T> dataset) {
+        return new BasicDataOperationUsingList<>(dataset.codec().parse(searchValue), dataset);
+    }
+
+    private <T extends Comparable<? super T>> BasicDataOperationUsingQueue<T> createQueueProcessor(TemporalDataset<T> dataset) {
+        return new BasicDataOperationUsingQueue<>(dataset.codec().parse(searchValue), dataset);
+    }
+
+    private <T extends Comparable<? super T>> BasicDataOperationUsingSet<T> createSetProcessor(TemporalDataset<T> dataset) {
+        return new BasicDataOperationUsingSet<>(dataset.codec().parse(searchValue), dataset);
+    }
+
+    /**
+     * Запускає операції з Map над власним початковим набором даних.
+     */
+    private void runMapOperations() {
+        ReportSink.section("🗺 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ MAP");
+
+        try {
+            BasicDataOperationUsingMap mapProcessor = BasicDataOperationUsingMap.withInitialData();
+            mapProcessor.executeDataOperations();
+        } catch (Exception e) {
+            ReportSink.status("❌ Помилка при роботі з Map: {}", e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Запускає повнотекстовий пошук у рядках через інвертований індекс.
+     */
+    private void runStringOperations() {
+        ReportSink.section("🔤 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ ІНВЕРТОВАНОГО ІНДЕКСУ");
+
+        try {
+            BasicDataOperationUsingString stringProcessor =
+                new BasicDataOperationUsingString(searchValue, BasicDataOperationUsingString.PATH_TO_DATA_FILE);
+            stringProcessor.executeDataOperations();
+        } catch (Exception e) {
+            ReportSink.status("❌ Помилка при роботі з рядками: {}", e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Запускає операції з числовим набором обраного типу.
+     */
+    private void runNumericOperations() {
+        ReportSink.section("🔢 ОБРОБКА ЧИСЛОВИХ ДАНИХ " + numericType);
+
+        try {
+            BasicDataOperationUsingNumbers numericProcessor = new BasicDataOperationUsingNumbers(numericType, searchValue);
+            numericProcessor.executeDataOperations();
+        } catch (Exception e) {
+            ReportSink.status("❌ Помилка при роботі з числовими даними: {}", e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Запускає підрахунок подій за інтервалами доби; лічильники заповнено під час завантаження.
+     */
+    private void runTimeBucketOperations() {
+        ReportSink.section("⏱️ ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ ЛІЧИЛЬНИКІВ ІНТЕРВАЛІВ");
+
+        try {
+            BasicDataOperationUsingTimeBuckets bucketProcessor =
+                new BasicDataOperationUsingTimeBuckets(TemporalCodec.LOCAL_TIME.parse(searchValue), timeBuckets);
+            bucketProcessor.executeDataOperations();
         } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з Set: " + e.getMessage());
+            ReportSink.status("❌ Помилка при роботі з інтервалами: {}", e.getMessage());
             e.printStackTrace();
         }
     }
 
+    /**
+     * Запускає операції обраного режиму; обробники інших структур не створюються.
+     */
+    private void runSelectedOperations() {
+        switch (mode) {
+            case LIST:
+                runListOperations();
+                break;
+            case QUEUE:
+                runQueueOperations();
+                break;
+            case SET:
+                runSetOperations();
+                break;
+            case MAP:
+                runMapOperations();
+                break;
+            case TEXT:
+                runStringOperations();
+                break;
+            case NUMERIC:
+                runNumericOperations();
+                break;
+            case BUCKETS:
+                runTimeBucketOperations();
+                break;
+            case WINDOW:
+                runWindowOperations();
+                break;
+            default:
+                runAllOperations();
+                break;
+        }
+    }
+
     /**
      * Запускає операції з усіма типами колекцій для порівняння.
      * 
      * @param args Аргументи для передачі до класів
      */
     private void runAllOperations() {
-        System.out.println("🎯 КОМПЛЕКСНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
-        System.out.println("=".repeat(60));
+        if (parallel) {
+            runAllOperationsInParallel();
+            return;
+        }
+
+        ReportSink.message("🎯 КОМПЛЕКСНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
+        ReportSink.decoration(TITLE_RULE);
         
         // Обробка List
         runListOperations();
-        System.out.println("\n" + "~".repeat(60) + "\n");
+        ReportSink.decoration(PROCESSOR_SEPARATOR);
         
         // Обробка Queue  
         runQueueOperations();
-        System.out.println("\n" + "~".repeat(60) + "\n");
+        ReportSink.decoration(PROCESSOR_SEPARATOR);
         
         // Обробка Set
         runSetOperations();
     }
+
+    /**
+     * Запускає операції з List, Queue і Set одночасно, кожну у власному потоці.
+     * Обробники читають спільний незмінний набір і сортують лише власні копії, тож не впливають один на одного,
+     * а загальна тривалість дорівнює тривалості найповільнішого з них.
+     * Вивід кожного потоку збирається окремо і виводиться після завершення в звичному порядку.
+     */
+    private void runAllOperationsInParallel() {
+        ReportSink.message("🎯 ПАРАЛЕЛЬНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
+        ReportSink.decoration(TITLE_RULE);
+
+        List<Runnable> processors = List.of(this::runListOperations, this::runQueueOperations, this::runSetOperations);
+        ExecutorService executor = Executors.newFixedThreadPool(processors.size(), runnable -> {
+            Thread thread = new Thread(runnable, "data-processor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long wallStart = System.nanoTime();
+        List<Future<String>> outputs = new ArrayList<>();
+        try {
+            for (Runnable processor : processors) {
+                outputs.add(executor.submit(() -> ReportSink.capture(processor)));
+            }
+
+            for (int i = 0; i < outputs.size(); i++) {
+                try {
+                    ReportSink.writeCaptured(outputs.get(i).get());
+                } catch (ExecutionException e) {
+                    ReportSink.status("❌ Помилка обробника: {}", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (i < outputs.size() - 1) {
+                    ReportSink.decoration(PROCESSOR_SEPARATOR);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ReportSink.message("\n⏱ Загальна тривалість паралельної обробки: {} нс", System.nanoTime() - wallStart);
+    }
 }
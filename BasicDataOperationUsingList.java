@@ -1,44 +1,49 @@
-import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 /**
- * Клас BasicDataOperationUsingList реалізує операції з колекціями типу ArrayList для даних LocalTime.
+ * Клас BasicDataOperationUsingList реалізує операції з колекціями типу ArrayList для часових даних
+ * (LocalTime, LocalDate, LocalDateTime).
  * 
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив елементів LocalTime.</li>
- *   <li>{@link #findInArray()} - Здійснює пошук елемента в масиві LocalTime.</li>
+ *   <li>{@link #performArraySorting()} - Упорядковує масив часових значень.</li>
+ *   <li>{@link #findInArray()} - Здійснює пошук елемента в масиві часових значень.</li>
  *   <li>{@link #locateMinMaxInArray()} - Визначає найменше і найбільше значення в масиві.</li>
- *   <li>{@link #sortList()} - Сортує колекцію List з LocalTime.</li>
+ *   <li>{@link #sortList()} - Сортує колекцію List з часовими значеннями.</li>
  *   <li>{@link #findInList()} - Пошук конкретного значення в списку.</li>
  *   <li>{@link #locateMinMaxInList()} - Пошук мінімального і максимального значення в списку.</li>
  * </ul>
+ *
+ * @param <T> Часовий тип
  */
-public class BasicDataOperationUsingList {
-    private LocalTime localTimeValueToSearch;
-    private LocalTime[] localTimeArray;
-    private List<LocalTime> localTimeList;
+public class BasicDataOperationUsingList<T extends Comparable<? super T>> {
+    private static final String BACKEND_ARRAY = "array";
+    private static final String BACKEND_LIST = "List";
+
+    private T valueToSearch;
+    // спільний незмінний набір; після сортування - власна відсортована копія обробника
+    private TemporalDataset<T> temporalData;
+    private List<T> temporalList;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
      * 
-     * @param localTimeValueToSearch Значення для пошуку
-     * @param localTimeArray Масив LocalTime
+     * @param valueToSearch Значення для пошуку
+     * @param temporalData Спільний незмінний набір часових даних
      */
-    BasicDataOperationUsingList(LocalTime localTimeValueToSearch, LocalTime[] localTimeArray) {
-        this.localTimeValueToSearch = localTimeValueToSearch;
-        this.localTimeArray = localTimeArray;
-        this.localTimeList = new ArrayList<>(Arrays.asList(localTimeArray));
+    BasicDataOperationUsingList(T valueToSearch, TemporalDataset<T> temporalData) {
+        this.valueToSearch = valueToSearch;
+        this.temporalData = temporalData;
+        // список - подання над спільним набором без копіювання елементів
+        this.temporalList = temporalData.asList();
     }
     
     /**
      * Виконує комплексні операції з структурами даних.
      * 
-     * Метод завантажує масив і список об'єктів LocalTime, 
+     * Метод завантажує масив і список часових значень, 
      * здійснює сортування та пошукові операції.
      */
     public void executeDataOperations() {
@@ -61,35 +66,45 @@ public class BasicDataOperationUsingList {
         locateMinMaxInArray();
 
         // зберігаємо відсортований масив до окремого файлу
-        DataFileHandler.writeArrayToFile(localTimeArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
+        DataFileHandler.writeDatasetToFile(temporalData, DataFileHandler.dataFilePath(temporalData.codec()) + ".sorted");
     }
 
     /**
-     * Упорядковує масив об'єктів LocalTime за зростанням.
+     * Упорядковує масив часових значень за зростанням.
      * Фіксує та виводить тривалість операції сортування в наносекундах.
      */
     void performArraySorting() {
-        long timeStart = System.nanoTime();
+        // спільний набір незмінний, тож власна копія стовпця створюється лише тут, коли вона потрібна
+        long[] column = temporalData.copyKeys();
+
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Sort());
 
-        Arrays.sort(localTimeArray);
+        SortEngine.Strategy strategy = SortEngine.sort(column);
+        temporalData = TemporalDataset.wrap(temporalData.codec(), column);
+        event.finish("упорядкування масиву дати i часу", BACKEND_ARRAY, temporalData.size(), strategy);
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу", BACKEND_ARRAY, temporalData.size());
+
+        ReportSink.message("Стратегія сортування масиву: {}", strategy);
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві дати та часу.
      */
     void findInArray() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
 
-        int position = Arrays.binarySearch(this.localTimeArray, localTimeValueToSearch);
+        int position = temporalData.binarySearch(valueToSearch);
+        event.finish("пошук елемента в масивi дати i часу", BACKEND_ARRAY, temporalData.size(), position);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу", BACKEND_ARRAY, temporalData.size());
 
         if (position >= 0) {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' знайдено в масивi за позицією: " + position);
+            ReportSink.message("Елемент '{}' знайдено в масивi за позицією: {}", valueToSearch, position);
         } else {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' відсутній в масиві.");
+            ReportSink.message("Елемент '{}' відсутній в масиві.", valueToSearch);
         }
     }
 
@@ -97,45 +112,42 @@ public class BasicDataOperationUsingList {
      * Визначає найменше та найбільше значення в масиві дати та часу.
      */
     void locateMinMaxInArray() {
-        if (localTimeArray == null || localTimeArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
+        if (temporalData == null || temporalData.isEmpty()) {
+            ReportSink.message("Масив є пустим або не ініціалізованим.");
             return;
         }
+        long timeStart = PerformanceTracker.startOperation();
 
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MinMax());
 
-        LocalTime minValue = localTimeArray[0];
-        LocalTime maxValue = localTimeArray[0];
+        // порівнюємо ключі стовпця без створення об'єктів значень
+        long[] minMaxKeys = temporalData.minMaxKeys();
+        T minValue = temporalData.codec().decode(minMaxKeys[0]);
+        T maxValue = temporalData.codec().decode(minMaxKeys[1]);
+        event.finish("визначення мiнiмальної i максимальної дати в масивi", BACKEND_ARRAY, temporalData.size(), minValue, maxValue);
 
-        for (LocalTime currentDateTime : localTimeArray) {
-            if (currentDateTime.isBefore(minValue)) {
-                minValue = currentDateTime;
-            }
-            if (currentDateTime.isAfter(maxValue)) {
-                maxValue = currentDateTime;
-            }
-        }
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi", BACKEND_ARRAY, temporalData.size());
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
-
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
+        ReportSink.message("Найменше значення в масивi: {}", minValue);
+        ReportSink.message("Найбільше значення в масивi: {}", maxValue);
     }
 
     /**
      * Шукає конкретне значення дати та часу в колекції ArrayList.
      */
     void findInList() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
 
-        int position = Collections.binarySearch(this.localTimeList, localTimeValueToSearch);
+        int position = Collections.binarySearch(this.temporalList, valueToSearch);
+        event.finish("пошук елемента в List дати i часу", BACKEND_LIST, temporalData.size(), position);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в List дати i часу");        
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в List дати i часу", BACKEND_LIST, temporalData.size());
 
         if (position >= 0) {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' знайдено в ArrayList за позицією: " + position);
+            ReportSink.message("Елемент '{}' знайдено в ArrayList за позицією: {}", valueToSearch, position);
         } else {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' відсутній в ArrayList.");
+            ReportSink.message("Елемент '{}' відсутній в ArrayList.", valueToSearch);
         }
     }
 
@@ -143,31 +155,41 @@ public class BasicDataOperationUsingList {
      * Визначає найменше і найбільше значення в колекції ArrayList з датами.
      */
     void locateMinMaxInList() {
-        if (localTimeList == null || localTimeList.isEmpty()) {
-            System.out.println("Колекція ArrayList є пустою або не ініціалізованою.");
+        if (temporalList == null || temporalList.isEmpty()) {
+            ReportSink.message("Колекція ArrayList є пустою або не ініціалізованою.");
             return;
         }
+        long timeStart = PerformanceTracker.startOperation();
 
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MinMax());
 
-        LocalTime minValue = Collections.min(localTimeList);
-        LocalTime maxValue = Collections.max(localTimeList);
+        T minValue = Collections.min(temporalList);
+        T maxValue = Collections.max(temporalList);
+        event.finish("визначення мiнiмальної i максимальної дати в List", BACKEND_LIST, temporalData.size(), minValue, maxValue);
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в List");
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в List", BACKEND_LIST, temporalData.size());
 
-        System.out.println("Найменше значення в List: " + minValue);
-        System.out.println("Найбільше значення в List: " + maxValue);
+        ReportSink.message("Найменше значення в List: {}", minValue);
+        ReportSink.message("Найбільше значення в List: {}", maxValue);
     }
 
     /**
-     * Упорядковує колекцію List з об'єктами LocalTime за зростанням.
+     * Упорядковує колекцію List з часовими значеннями за зростанням.
      * Відстежує та виводить час виконання операції сортування.
      */
     void sortList() {
-        long timeStart = System.nanoTime();
+        // подання незмінне, тож відсортований список будується над власною копією стовпця
+        long[] column = temporalData.copyKeys();
+
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Sort());
+
+        SortEngine.Strategy strategy = SortEngine.sort(column);
+        temporalList = TemporalDataset.wrap(temporalData.codec(), column).asList();
+        event.finish("упорядкування ArrayList дати i часу", BACKEND_LIST, temporalData.size(), strategy);
 
-        Collections.sort(localTimeList);
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування ArrayList дати i часу", BACKEND_LIST, temporalData.size());
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування ArrayList дати i часу");
+        ReportSink.message("Стратегія сортування ArrayList: {}", strategy);
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.HashMap;
 
 /**
@@ -14,22 +16,57 @@ import java.util.HashMap;
  *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними Map.</li>
  *   <li>{@link #findByKey()} - Здійснює пошук елемента за ключем в Map.</li>
  *   <li>{@link #findByValue()} - Здійснює пошук елемента за значенням в Map.</li>
+ *   <li>{@link #findByNicknamePrefixInHashMap()} - Здійснює пошук ключів за префіксом клички.</li>
+ *   <li>{@link #findByKeyInCache()} - Здійснює пошук за ключем через обмежений кеш BoaLookupCache.</li>
  *   <li>{@link #addEntry()} - Додає новий запис до Map.</li>
  *   <li>{@link #removeByKey()} - Видаляє запис з Map за ключем.</li>
  *   <li>{@link #removeByValue()} - Видаляє записи з Map за значенням.</li>
  *   <li>{@link #sortByKey()} - Сортує Map за ключами.</li>
  *   <li>{@link #sortByValue()} - Сортує Map за значеннями.</li>
  * </ul>
+ *
+ * <p>Крім HashMap та LinkedHashMap, ті самі операції виконуються над {@link OffHeapBoaMap} -
+ * хеш-таблицею поза купою для реєстрів, що не вміщуються в купу JVM.</p>
+ *
+ * <p>Масові операції за значенням також виконуються над {@link BoaColumnTable} - стовпцевою
+ * таблицею, де фільтри за власником чи містом є щільними циклами над масивами int.</p>
+ *
+ * <p>Якщо підключено {@link BoaMapJournal}, зміни HashMap записуються в журнал попереднього
+ * запису, а стан періодично зберігається знімком.</p>
  */
 public class BasicDataOperationUsingMap {
+    private static final String BACKEND_HASH_MAP = "HashMap";
+    private static final String BACKEND_LINKED_HASH_MAP = "LinkedHashMap";
+    private static final String BACKEND_LOOKUP_CACHE = "BoaLookupCache";
+    private static final String BACKEND_COLUMN_TABLE = "BoaColumnTable";
+    private static final String BACKEND_OFF_HEAP_MAP = "OffHeapBoaMap";
+
     private final Boa KEY_TO_SEARCH_AND_DELETE = new Boa("Тайсон", "Каракас");
     private final Boa KEY_TO_ADD = new Boa("Зорро", "Сан-Хосе");
 
+    private final String NICKNAME_PREFIX_TO_SEARCH = "Ко";
+    private final String NICKNAME_TO_SEARCH = "Тайсон";
+    private final String NICKNAME_RANGE_FROM = "Лорд";
+    private final String NICKNAME_RANGE_TO = "Пітон";
+
     private final String VALUE_TO_SEARCH_AND_DELETE = "Олександр";
     private final String VALUE_TO_ADD = "Богдан";
+    private final String CITY_TO_FILTER = "Ліма";
+
+    private static final int LOOKUP_CACHE_SIZE = 4;
+    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperationUsingMap [<каталог-OffHeapBoaMap>] "
+        + "[--journal <каталог>] [--metrics-json <файл>] [--metrics-prom <файл>] [--report quiet|text|json]";
+    private static final int SNAPSHOT_INTERVAL = 1_000;
 
     private HashMap<Boa, String> hashmap;
     private LinkedHashMap<Boa, String> linkedHashmap;
+    private OffHeapBoaMap offHeapMap;
+    private BoaNicknameIndex nicknameIndex;
+    private BoaLookupCache lookupCache;
+    private BoaMapJournal journal;
+    private BoaColumnTable columnTable;
+    // початковий розмір набору даних - мітка метрик продуктивності
+    private final int datasetSize;
 
     /**
      * Компаратор для сортування Map.Entry за значеннями String.
@@ -95,17 +132,8 @@ public class BasicDataOperationUsingMap {
         public int compareTo(Boa other) {
             if (other == null) return 1;
             
-            // Спочатку порівнюємо за кличкою (за зростанням; null у кінці)
-            int nicknameComparison;
-            if (this.nickname == null && other.nickname == null) {
-                nicknameComparison = 0;
-            } else if (this.nickname == null) {
-                nicknameComparison = 1;
-            } else if (other.nickname == null) {
-                nicknameComparison = -1;
-            } else {
-                nicknameComparison = other.nickname.compareTo(this.nickname);
-            }
+            // Спочатку порівнюємо за кличкою
+            int nicknameComparison = compareNicknames(this.nickname, other.nickname);
             
             // Якщо клички різні, повертаємо результат
             if (nicknameComparison != 0) {
@@ -119,6 +147,21 @@ public class BasicDataOperationUsingMap {
             return other.birthCity.compareTo(this.birthCity);  // Інвертоване порівняння для спадання
         }
 
+        /**
+         * Порівнює клички так само, як {@link #compareTo(Boa)}: за спаданням, null у кінці.
+         * Використовується також впорядкованим індексом кличок {@link BoaNicknameIndex}.
+         */
+        static int compareNicknames(String nickname, String otherNickname) {
+            if (nickname == null && otherNickname == null) {
+                return 0;
+            } else if (nickname == null) {
+                return 1;
+            } else if (otherNickname == null) {
+                return -1;
+            }
+            return otherNickname.compareTo(nickname);
+        }
+
         /**
          * Перевіряє рівність цього Pet з іншим об'єктом.
          * Два Pet вважаються рівними, якщо їх клички (nickname) та види (species) однакові.
@@ -188,10 +231,41 @@ public class BasicDataOperationUsingMap {
      * @param linkedHashmap LinkedHashMap з початковими даними (ключ: Pet, значення: ім'я власника)
      */
     BasicDataOperationUsingMap(HashMap<Boa, String> hashmap, LinkedHashMap<Boa, String> linkedHashmap) {
+        this(hashmap, linkedHashmap, OffHeapBoaMap.allocateDirect(hashmap.size()));
+    }
+
+    /**
+     * Конструктор з готовою мапою поза купою.
+     * Якщо мапа порожня, вона заповнюється даними з hashmap; інакше використовується як є
+     * (наприклад, після повторного підключення до файлів, відображених у пам'ять).
+     * 
+     * @param hashmap HashMap з початковими даними (ключ: Pet, значення: ім'я власника)
+     * @param linkedHashmap LinkedHashMap з початковими даними (ключ: Pet, значення: ім'я власника)
+     * @param offHeapMap Мапа поза купою
+     */
+    BasicDataOperationUsingMap(HashMap<Boa, String> hashmap, LinkedHashMap<Boa, String> linkedHashmap, OffHeapBoaMap offHeapMap) {
         this.hashmap = hashmap;
         this.linkedHashmap = linkedHashmap;
+        this.offHeapMap = offHeapMap;
+        this.datasetSize = hashmap.size();
+        this.nicknameIndex = new BoaNicknameIndex(hashmap.keySet());
+        this.columnTable = new BoaColumnTable(hashmap);
+        // кеш читає з поля hashmap під час промаху, тому бачить і відсортовану мапу
+        this.lookupCache = new BoaLookupCache(LOOKUP_CACHE_SIZE, key -> this.hashmap.get(key));
+        if (offHeapMap.isEmpty()) {
+            offHeapMap.putAll(hashmap);
+        }
     }
     
+    /**
+     * Підключає журнал, у який записуватимуться зміни HashMap.
+     * 
+     * @param journal Журнал попереднього запису
+     */
+    void attachJournal(BoaMapJournal journal) {
+        this.journal = journal;
+    }
+
     /**
      * Виконує комплексні операції з Map.
      * 
@@ -199,13 +273,18 @@ public class BasicDataOperationUsingMap {
      */
     public void executeDataOperations() {
         // Спочатку працюємо з HashMap
-        System.out.println("========= Операції з HashMap =========");
-        System.out.println("Початковий розмір HashMap: " + hashmap.size());
+        ReportSink.message("========= Операції з HashMap =========");
+        ReportSink.message("Початковий розмір HashMap: {}", hashmap.size());
         
         // Пошук до сортування
         findByKeyInHashMap();
         findByValueInHashMap();
 
+        // Пошук за кличкою через впорядкований індекс
+        findByNicknamePrefixInHashMap();
+        findByNicknameInHashMap();
+        findByNicknameRangeInHashMap();
+
         printHashMap();
         sortHashMap();
         printHashMap();
@@ -214,16 +293,24 @@ public class BasicDataOperationUsingMap {
         findByKeyInHashMap();
         findByValueInHashMap();
 
+        // Повторний пошук за ключем через кеш: перший - промах, другий - влучання
+        findByKeyInCache();
+        findByKeyInCache();
+        PerformanceTracker.displayCacheStatistics("BoaLookupCache", lookupCache.hitCount(),
+            lookupCache.missCount(), lookupCache.evictionCount());
+
         addEntryToHashMap();
         
         removeByKeyFromHashMap();
         removeByValueFromHashMap();
+
+        persistHashMapChanges();
                
-        System.out.println("Кінцевий розмір HashMap: " + hashmap.size());
+        ReportSink.message("Кінцевий розмір HashMap: {}", hashmap.size());
 
         // Потім обробляємо LinkedHashMap
-        System.out.println("\n\n========= Операції з LinkedHashMap =========");
-        System.out.println("Початковий розмір LinkedHashMap: " + linkedHashmap.size());
+        ReportSink.message("\n\n========= Операції з LinkedHashMap =========");
+        ReportSink.message("Початковий розмір LinkedHashMap: {}", linkedHashmap.size());
         
         findByKeyInLinkedHashMap();
         findByValueInLinkedHashMap();
@@ -241,7 +328,38 @@ public class BasicDataOperationUsingMap {
         removeByKeyFromLinkedHashMap();
         removeByValueFromLinkedHashMap();
         
-        System.out.println("Кінцевий розмір LinkedHashMap: " + linkedHashmap.size());
+        ReportSink.message("Кінцевий розмір LinkedHashMap: {}", linkedHashmap.size());
+
+        // Потім обробляємо стовпцеву таблицю
+        ReportSink.message("\n\n========= Операції з BoaColumnTable =========");
+        ReportSink.message("Початковий розмір BoaColumnTable: {}", columnTable.size());
+
+        findByKeyInColumnTable();
+        filterByOwnerInColumnTable();
+        filterByCityInColumnTable();
+
+        addEntryToColumnTable();
+
+        removeByKeyFromColumnTable();
+        removeByValueFromColumnTable();
+
+        ReportSink.message("Кінцевий розмір BoaColumnTable: {}", columnTable.size());
+
+        // Наостанок працюємо з мапою поза купою
+        ReportSink.message("\n\n========= Операції з OffHeapBoaMap =========");
+        ReportSink.message("Початковий розмір OffHeapBoaMap: {}", offHeapMap.size());
+
+        findByKeyInOffHeapMap();
+        findByValueInOffHeapMap();
+
+        addEntryToOffHeapMap();
+
+        removeByKeyFromOffHeapMap();
+        removeByValueFromOffHeapMap();
+
+        ReportSink.message("Кінцевий розмір OffHeapBoaMap: {}", offHeapMap.size());
+        ReportSink.message("Зайнято пам'яті поза купою: {} байт", offHeapMap.offHeapBytes());
+        offHeapMap.close();
     }
 
 
@@ -252,14 +370,17 @@ public class BasicDataOperationUsingMap {
      * HashMap не гарантує жодного порядку елементів.
      */
     private void printHashMap() {
-        System.out.println("\n=== Пари ключ-значення в HashMap ===");
-        long timeStart = System.nanoTime();
+        ReportSink.message("\n=== Пари ключ-значення в HashMap ===");
+        long timeStart = PerformanceTracker.startOperation();
 
-        for (Map.Entry<Boa, String> entry : hashmap.entrySet()) {
-            System.out.println("  " + entry.getKey() + " -> " + entry.getValue());
+        // у тихому режимі мапа не обходиться зовсім
+        if (ReportSink.isMessageEnabled()) {
+            for (Map.Entry<Boa, String> entry : hashmap.entrySet()) {
+                ReportSink.message("  {} -> {}", entry.getKey(), entry.getValue());
+            }
         }
 
-        PerformanceTracker.displayOperationTime(timeStart, "виведення пари ключ-значення в HashMap");
+        PerformanceTracker.displayOperationTime(timeStart, "виведення пари ключ-значення в HashMap", BACKEND_HASH_MAP, datasetSize);
     }
 
     /**
@@ -268,7 +389,8 @@ public class BasicDataOperationUsingMap {
      * Перезаписує hashmap відсортованими даними.
      */
     private void sortHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Sort());
 
         // Створюємо список ключів і сортуємо за природним порядком Pet
         List<Boa> sortedKeys = new ArrayList<>(hashmap.keySet());
@@ -282,8 +404,9 @@ public class BasicDataOperationUsingMap {
         
         // Перезаписуємо оригінальну hashmap
         hashmap = sortedHashMap;
+        event.finish("сортування HashMap за ключами", BACKEND_HASH_MAP, datasetSize);
 
-        PerformanceTracker.displayOperationTime(timeStart, "сортування HashMap за ключами");
+        PerformanceTracker.displayOperationTime(timeStart, "сортування HashMap за ключами", BACKEND_HASH_MAP, datasetSize);
     }
 
     /**
@@ -291,17 +414,19 @@ public class BasicDataOperationUsingMap {
      * Використовує Pet.hashCode() та Pet.equals() для пошуку.
      */
     void findByKeyInHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
 
         boolean found = hashmap.containsKey(KEY_TO_SEARCH_AND_DELETE);
+        event.finish("пошук за ключем в HashMap", BACKEND_HASH_MAP, datasetSize, found);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в HashMap");
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в HashMap", BACKEND_HASH_MAP, datasetSize);
 
         if (found) {
             String value = hashmap.get(KEY_TO_SEARCH_AND_DELETE);
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
+            ReportSink.message("Елемент з ключем '{}' знайдено. Власник: {}", KEY_TO_SEARCH_AND_DELETE, value);
         } else {
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в HashMap.");
+            ReportSink.message("Елемент з ключем '{}' відсутній в HashMap.", KEY_TO_SEARCH_AND_DELETE);
         }
     }
 
@@ -310,7 +435,8 @@ public class BasicDataOperationUsingMap {
      * Сортує список Map.Entry за значеннями та використовує бінарний пошук.
      */
     void findByValueInHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
 
         // Створюємо список Entry та сортуємо за значеннями
         List<Map.Entry<Boa, String>> entries = new ArrayList<>(hashmap.entrySet());
@@ -325,14 +451,15 @@ public class BasicDataOperationUsingMap {
         };
 
         int position = Collections.binarySearch(entries, searchEntry, comparator);
+        event.finish("бінарний пошук за значенням в HashMap", BACKEND_HASH_MAP, datasetSize, position);
 
-        PerformanceTracker.displayOperationTime(timeStart, "бінарний пошук за значенням в HashMap");
+        PerformanceTracker.displayOperationTime(timeStart, "бінарний пошук за значенням в HashMap", BACKEND_HASH_MAP, datasetSize);
 
         if (position >= 0) {
             Map.Entry<Boa, String> foundEntry = entries.get(position);
-            System.out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + foundEntry.getKey());
+            ReportSink.message("Власника '{}' знайдено. Pet: {}", VALUE_TO_SEARCH_AND_DELETE, foundEntry.getKey());
         } else {
-            System.out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в HashMap.");
+            ReportSink.message("Власник '{}' відсутній в HashMap.", VALUE_TO_SEARCH_AND_DELETE);
         }
     }
 
@@ -340,29 +467,43 @@ public class BasicDataOperationUsingMap {
      * Додає новий запис до HashMap.
      */
     void addEntryToHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
 
         hashmap.put(KEY_TO_ADD, VALUE_TO_ADD);
+        nicknameIndex.add(KEY_TO_ADD);
+        lookupCache.invalidate(KEY_TO_ADD);
+        if (journal != null) {
+            journal.logPut(KEY_TO_ADD, VALUE_TO_ADD);
+        }
+        event.finish("додавання запису до HashMap", BACKEND_HASH_MAP, datasetSize, VALUE_TO_ADD);
 
-        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до HashMap");
+        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до HashMap", BACKEND_HASH_MAP, datasetSize);
 
-        System.out.println("Додано новий запис: Pet='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
+        ReportSink.message("Додано новий запис: Pet='{}', власник='{}'", KEY_TO_ADD, VALUE_TO_ADD);
     }
 
     /**
      * Видаляє запис з HashMap за ключем.
      */
     void removeByKeyFromHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
 
         String removedValue = hashmap.remove(KEY_TO_SEARCH_AND_DELETE);
+        nicknameIndex.remove(KEY_TO_SEARCH_AND_DELETE);
+        lookupCache.invalidate(KEY_TO_SEARCH_AND_DELETE);
+        if (journal != null && removedValue != null) {
+            journal.logRemove(KEY_TO_SEARCH_AND_DELETE);
+        }
+        event.finish("видалення за ключем з HashMap", BACKEND_HASH_MAP, datasetSize, removedValue);
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з HashMap");
+        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з HashMap", BACKEND_HASH_MAP, datasetSize);
 
         if (removedValue != null) {
-            System.out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
+            ReportSink.message("Видалено запис з ключем '{}'. Власник був: {}", KEY_TO_SEARCH_AND_DELETE, removedValue);
         } else {
-            System.out.println("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
+            ReportSink.message("Ключ '{}' не знайдено для видалення.", KEY_TO_SEARCH_AND_DELETE);
         }
     }
 
@@ -370,7 +511,8 @@ public class BasicDataOperationUsingMap {
      * Видаляє записи з HashMap за значенням.
      */
     void removeByValueFromHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
 
         List<Boa> keysToRemove = new ArrayList<>();
         for (Map.Entry<Boa, String> entry : hashmap.entrySet()) {
@@ -381,11 +523,118 @@ public class BasicDataOperationUsingMap {
         
         for (Boa key : keysToRemove) {
             hashmap.remove(key);
+            nicknameIndex.remove(key);
+            lookupCache.invalidate(key);
+            if (journal != null) {
+                journal.logRemove(key);
+            }
+        }
+        event.finish("видалення за значенням з HashMap", BACKEND_HASH_MAP, datasetSize, keysToRemove.size());
+
+        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з HashMap", BACKEND_HASH_MAP, datasetSize);
+
+        ReportSink.message("Видалено {} записів з власником '{}'", keysToRemove.size(), VALUE_TO_SEARCH_AND_DELETE);
+    }
+
+    /**
+     * Скидає на диск групу змін HashMap з журналу та, якщо після останнього знімка
+     * накопичилося достатньо записів, зберігає новий знімок.
+     */
+    void persistHashMapChanges() {
+        if (journal == null) {
+            return;
+        }
+
+        long timeStart = PerformanceTracker.startOperation();
+
+        journal.commit();
+        boolean snapshotTaken = journal.recordsSinceSnapshot() >= SNAPSHOT_INTERVAL;
+        if (snapshotTaken) {
+            journal.snapshot(hashmap);
+        }
+
+        PerformanceTracker.displayOperationTime(timeStart, "збереження змін HashMap у журнал", BACKEND_HASH_MAP, datasetSize);
+
+        if (snapshotTaken) {
+            ReportSink.message("Груп скинуто на диск: {}, збережено новий знімок", journal.groupCommitCount());
+        } else {
+            ReportSink.message("Груп скинуто на диск: {}, записів після знімка: {}", journal.groupCommitCount(), journal.recordsSinceSnapshot());
+        }
+    }
+
+    /**
+     * Здійснює пошук елемента за ключем через кеш BoaLookupCache.
+     * При промаху значення завантажується з HashMap (read-through).
+     */
+    void findByKeyInCache() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        String value = lookupCache.get(KEY_TO_SEARCH_AND_DELETE);
+        event.finish("пошук за ключем через кеш", BACKEND_LOOKUP_CACHE, datasetSize, value);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем через кеш", BACKEND_LOOKUP_CACHE, datasetSize);
+
+        if (value != null) {
+            ReportSink.message("Елемент з ключем '{}' знайдено в кеші. Власник: {}", KEY_TO_SEARCH_AND_DELETE, value);
+        } else {
+            ReportSink.message("Елемент з ключем '{}' відсутній у сховищі.", KEY_TO_SEARCH_AND_DELETE);
+        }
+    }
+
+    /**
+     * Здійснює пошук ключів HashMap за префіксом клички.
+     * Використовує BoaNicknameIndex замість повного перегляду мапи.
+     */
+    void findByNicknamePrefixInHashMap() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        List<Boa> foundKeys = nicknameIndex.findByPrefix(NICKNAME_PREFIX_TO_SEARCH);
+        event.finish("пошук за префіксом клички в HashMap", BACKEND_HASH_MAP, datasetSize, foundKeys.size());
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за префіксом клички в HashMap", BACKEND_HASH_MAP, datasetSize);
+
+        ReportSink.message("Знайдено {} записів з кличкою '{}*':", foundKeys.size(), NICKNAME_PREFIX_TO_SEARCH);
+        for (Boa key : foundKeys) {
+            ReportSink.message("  {} -> {}", key, hashmap.get(key));
+        }
+    }
+
+    /**
+     * Здійснює пошук ключів HashMap за кличкою з будь-яким містом.
+     */
+    void findByNicknameInHashMap() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        Set<Boa> foundKeys = nicknameIndex.findByNickname(NICKNAME_TO_SEARCH);
+        event.finish("пошук за кличкою в HashMap", BACKEND_HASH_MAP, datasetSize, foundKeys.size());
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за кличкою в HashMap", BACKEND_HASH_MAP, datasetSize);
+
+        ReportSink.message("Знайдено {} записів з кличкою '{}':", foundKeys.size(), NICKNAME_TO_SEARCH);
+        for (Boa key : foundKeys) {
+            ReportSink.message("  {} -> {}", key, hashmap.get(key));
         }
+    }
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з HashMap");
+    /**
+     * Здійснює пошук ключів HashMap з кличками в лексикографічному діапазоні.
+     */
+    void findByNicknameRangeInHashMap() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
 
-        System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+        List<Boa> foundKeys = nicknameIndex.findInRange(NICKNAME_RANGE_FROM, NICKNAME_RANGE_TO);
+        event.finish("пошук за діапазоном кличок в HashMap", BACKEND_HASH_MAP, datasetSize, foundKeys.size());
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за діапазоном кличок в HashMap", BACKEND_HASH_MAP, datasetSize);
+
+        ReportSink.message("Знайдено {} записів з кличками від '{}' до '{}':", foundKeys.size(), NICKNAME_RANGE_FROM, NICKNAME_RANGE_TO);
+        for (Boa key : foundKeys) {
+            ReportSink.message("  {} -> {}", key, hashmap.get(key));
+        }
     }
 
     // ===== Методи для LinkedHashMap =====
@@ -395,14 +644,17 @@ public class BasicDataOperationUsingMap {
      * LinkedHashMap зберігає порядок вставки (не сортує автоматично).
      */
     private void printLinkedHashMap() {
-        System.out.println("\n=== Пари ключ-значення в LinkedHashMap ===");
+        ReportSink.message("\n=== Пари ключ-значення в LinkedHashMap ===");
 
-        long timeStart = System.nanoTime();
-        for (Map.Entry<Boa, String> entry : linkedHashmap.entrySet()) {
-            System.out.println("  " + entry.getKey() + " -> " + entry.getValue());
+        long timeStart = PerformanceTracker.startOperation();
+        // у тихому режимі мапа не обходиться зовсім
+        if (ReportSink.isMessageEnabled()) {
+            for (Map.Entry<Boa, String> entry : linkedHashmap.entrySet()) {
+                ReportSink.message("  {} -> {}", entry.getKey(), entry.getValue());
+            }
         }
 
-        PerformanceTracker.displayOperationTime(timeStart, "виведення пар ключ-значення в LinkedHashMap");
+        PerformanceTracker.displayOperationTime(timeStart, "виведення пар ключ-значення в LinkedHashMap", BACKEND_LINKED_HASH_MAP, datasetSize);
     }
 
     /**
@@ -411,7 +663,8 @@ public class BasicDataOperationUsingMap {
      * Перезаписує linkedHashmap відсортованими даними.
      */
     private void sortLinkedHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Sort());
 
         // Створюємо список ключів і сортуємо за природним порядком Pet
         List<Boa> sortedKeys = new ArrayList<>(linkedHashmap.keySet());
@@ -426,8 +679,9 @@ public class BasicDataOperationUsingMap {
         
         // Перезаписуємо оригінальну linkedHashmap
         linkedHashmap = sortedLinkedHashMap;
+        event.finish("сортування LinkedHashMap за ключами", BACKEND_LINKED_HASH_MAP, datasetSize);
 
-        PerformanceTracker.displayOperationTime(timeStart, "сортування LinkedHashMap за ключами");
+        PerformanceTracker.displayOperationTime(timeStart, "сортування LinkedHashMap за ключами", BACKEND_LINKED_HASH_MAP, datasetSize);
     }
 
     /**
@@ -435,17 +689,19 @@ public class BasicDataOperationUsingMap {
      * Використовує Pet.compareTo() для навігації по дереву.
      */
     void findByKeyInLinkedHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
 
         boolean found = linkedHashmap.containsKey(KEY_TO_SEARCH_AND_DELETE);
+        event.finish("пошук за ключем в LinkedHashMap", BACKEND_LINKED_HASH_MAP, datasetSize, found);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в LinkedHashMap");
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в LinkedHashMap", BACKEND_LINKED_HASH_MAP, datasetSize);
 
         if (found) {
             String value = linkedHashmap.get(KEY_TO_SEARCH_AND_DELETE);
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
+            ReportSink.message("Елемент з ключем '{}' знайдено. Власник: {}", KEY_TO_SEARCH_AND_DELETE, value);
         } else {
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в LinkedHashMap.");
+            ReportSink.message("Елемент з ключем '{}' відсутній в LinkedHashMap.", KEY_TO_SEARCH_AND_DELETE);
         }
     }
 
@@ -454,7 +710,8 @@ public class BasicDataOperationUsingMap {
      * Сортує список Map.Entry за значеннями та використовує бінарний пошук.
      */
     void findByValueInLinkedHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
 
         // Створюємо список Entry та сортуємо за значеннями
         List<Map.Entry<Boa, String>> entries = new ArrayList<>(linkedHashmap.entrySet());
@@ -469,14 +726,15 @@ public class BasicDataOperationUsingMap {
         };
 
         int position = Collections.binarySearch(entries, searchEntry, comparator);
+        event.finish("бінарний пошук за значенням в LinkedHashMap", BACKEND_LINKED_HASH_MAP, datasetSize, position);
 
-        PerformanceTracker.displayOperationTime(timeStart, "бінарний пошук за значенням в LinkedHashMap");
+        PerformanceTracker.displayOperationTime(timeStart, "бінарний пошук за значенням в LinkedHashMap", BACKEND_LINKED_HASH_MAP, datasetSize);
 
         if (position >= 0) {
             Map.Entry<Boa, String> foundEntry = entries.get(position);
-            System.out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + foundEntry.getKey());
+            ReportSink.message("Власника '{}' знайдено. Pet: {}", VALUE_TO_SEARCH_AND_DELETE, foundEntry.getKey());
         } else {
-            System.out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в LinkedHashMap.");
+            ReportSink.message("Власник '{}' відсутній в LinkedHashMap.", VALUE_TO_SEARCH_AND_DELETE);
         }
     }
 
@@ -484,29 +742,33 @@ public class BasicDataOperationUsingMap {
      * Додає новий запис до LinkedHashMap.
      */
     void addEntryToLinkedHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
 
         linkedHashmap.put(KEY_TO_ADD, VALUE_TO_ADD);
+        event.finish("додавання запису до LinkedHashMap", BACKEND_LINKED_HASH_MAP, datasetSize, VALUE_TO_ADD);
 
-        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до LinkedHashMap");
+        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до LinkedHashMap", BACKEND_LINKED_HASH_MAP, datasetSize);
 
-        System.out.println("Додано новий запис: Pet='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
+        ReportSink.message("Додано новий запис: Pet='{}', власник='{}'", KEY_TO_ADD, VALUE_TO_ADD);
     }
 
     /**
      * Видаляє запис з LinkedHashMap за ключем.
      */
     void removeByKeyFromLinkedHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
 
         String removedValue = linkedHashmap.remove(KEY_TO_SEARCH_AND_DELETE);
+        event.finish("видалення за ключем з LinkedHashMap", BACKEND_LINKED_HASH_MAP, datasetSize, removedValue);
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з LinkedHashMap");
+        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з LinkedHashMap", BACKEND_LINKED_HASH_MAP, datasetSize);
 
         if (removedValue != null) {
-            System.out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
+            ReportSink.message("Видалено запис з ключем '{}'. Власник був: {}", KEY_TO_SEARCH_AND_DELETE, removedValue);
         } else {
-            System.out.println("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
+            ReportSink.message("Ключ '{}' не знайдено для видалення.", KEY_TO_SEARCH_AND_DELETE);
         }
     }
 
@@ -514,7 +776,8 @@ public class BasicDataOperationUsingMap {
      * Видаляє записи з LinkedHashMap за значенням.
      */
     void removeByValueFromLinkedHashMap() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
 
         List<Boa> keysToRemove = new ArrayList<>();
         for (Map.Entry<Boa, String> entry : linkedHashmap.entrySet()) {
@@ -526,45 +789,335 @@ public class BasicDataOperationUsingMap {
         for (Boa key : keysToRemove) {
             linkedHashmap.remove(key);
         }
+        event.finish("видалення за значенням з LinkedHashMap", BACKEND_LINKED_HASH_MAP, datasetSize, keysToRemove.size());
+
+        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з LinkedHashMap", BACKEND_LINKED_HASH_MAP, datasetSize);
+
+        ReportSink.message("Видалено {} записів з власником '{}'", keysToRemove.size(), VALUE_TO_SEARCH_AND_DELETE);
+    }
+
+    // ===== Методи для BoaColumnTable =====
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з LinkedHashMap");
+    /**
+     * Здійснює пошук елемента за ключем в BoaColumnTable через хеш-індекс.
+     */
+    void findByKeyInColumnTable() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        String value = columnTable.get(KEY_TO_SEARCH_AND_DELETE);
+        event.finish("пошук за ключем в BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize, value);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize);
 
-        System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+        if (value != null) {
+            ReportSink.message("Елемент з ключем '{}' знайдено. Власник: {}", KEY_TO_SEARCH_AND_DELETE, value);
+        } else {
+            ReportSink.message("Елемент з ключем '{}' відсутній в BoaColumnTable.", KEY_TO_SEARCH_AND_DELETE);
+        }
+    }
+
+    /**
+     * Відбирає записи BoaColumnTable за власником одним проходом по стовпцю власників.
+     */
+    void filterByOwnerInColumnTable() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        int[] rows = columnTable.rowsByOwner(VALUE_TO_SEARCH_AND_DELETE);
+        event.finish("фільтр за власником в BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize, rows.length);
+
+        PerformanceTracker.displayOperationTime(timeStart, "фільтр за власником в BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize);
+
+        ReportSink.message("Записів з власником '{}': {}", VALUE_TO_SEARCH_AND_DELETE, rows.length);
+        for (int row : rows) {
+            ReportSink.message("  {} -> {}", columnTable.keyAt(row), columnTable.ownerAt(row));
+        }
+    }
+
+    /**
+     * Рахує записи BoaColumnTable за містом народження одним проходом по стовпцю міст.
+     */
+    void filterByCityInColumnTable() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        int count = columnTable.countByCity(CITY_TO_FILTER);
+        event.finish("фільтр за містом в BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize, count);
+
+        PerformanceTracker.displayOperationTime(timeStart, "фільтр за містом в BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize);
+
+        ReportSink.message("Записів з містом народження '{}': {}", CITY_TO_FILTER, count);
+    }
+
+    /**
+     * Додає новий запис до BoaColumnTable.
+     */
+    void addEntryToColumnTable() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
+
+        columnTable.put(KEY_TO_ADD, VALUE_TO_ADD);
+        event.finish("додавання запису до BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize, VALUE_TO_ADD);
+
+        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize);
+
+        ReportSink.message("Додано новий запис: Pet='{}', власник='{}'", KEY_TO_ADD, VALUE_TO_ADD);
+    }
+
+    /**
+     * Видаляє запис з BoaColumnTable за ключем.
+     */
+    void removeByKeyFromColumnTable() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
+
+        String removedValue = columnTable.remove(KEY_TO_SEARCH_AND_DELETE);
+        event.finish("видалення за ключем з BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize, removedValue);
+
+        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize);
+
+        if (removedValue != null) {
+            ReportSink.message("Видалено запис з ключем '{}'. Власник був: {}", KEY_TO_SEARCH_AND_DELETE, removedValue);
+        } else {
+            ReportSink.message("Ключ '{}' не знайдено для видалення.", KEY_TO_SEARCH_AND_DELETE);
+        }
+    }
+
+    /**
+     * Видаляє записи з BoaColumnTable за значенням одним проходом ущільнення стовпців.
+     */
+    void removeByValueFromColumnTable() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
+
+        int removedCount = columnTable.removeByOwner(VALUE_TO_SEARCH_AND_DELETE);
+        event.finish("видалення за значенням з BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize, removedCount);
+
+        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з BoaColumnTable", BACKEND_COLUMN_TABLE, datasetSize);
+
+        ReportSink.message("Видалено {} записів з власником '{}'", removedCount, VALUE_TO_SEARCH_AND_DELETE);
+    }
+
+    // ===== Методи для OffHeapBoaMap =====
+
+    /**
+     * Здійснює пошук елемента за ключем в OffHeapBoaMap.
+     * Порівнює UTF-8 байти кличок і міст прямо в арені, без створення об'єктів.
+     */
+    void findByKeyInOffHeapMap() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        String value = offHeapMap.get(KEY_TO_SEARCH_AND_DELETE);
+        event.finish("пошук за ключем в OffHeapBoaMap", BACKEND_OFF_HEAP_MAP, datasetSize, value);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в OffHeapBoaMap", BACKEND_OFF_HEAP_MAP, datasetSize);
+
+        if (value != null) {
+            ReportSink.message("Елемент з ключем '{}' знайдено. Власник: {}", KEY_TO_SEARCH_AND_DELETE, value);
+        } else {
+            ReportSink.message("Елемент з ключем '{}' відсутній в OffHeapBoaMap.", KEY_TO_SEARCH_AND_DELETE);
+        }
+    }
+
+    /**
+     * Здійснює пошук елемента за значенням в OffHeapBoaMap.
+     * Послідовно переглядає слоти таблиці.
+     */
+    void findByValueInOffHeapMap() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        Boa foundKey = offHeapMap.findKeyByValue(VALUE_TO_SEARCH_AND_DELETE);
+        event.finish("пошук за значенням в OffHeapBoaMap", BACKEND_OFF_HEAP_MAP, datasetSize, foundKey);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за значенням в OffHeapBoaMap", BACKEND_OFF_HEAP_MAP, datasetSize);
+
+        if (foundKey != null) {
+            ReportSink.message("Власника '{}' знайдено. Pet: {}", VALUE_TO_SEARCH_AND_DELETE, foundKey);
+        } else {
+            ReportSink.message("Власник '{}' відсутній в OffHeapBoaMap.", VALUE_TO_SEARCH_AND_DELETE);
+        }
+    }
+
+    /**
+     * Додає новий запис до OffHeapBoaMap.
+     */
+    void addEntryToOffHeapMap() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
+
+        offHeapMap.put(KEY_TO_ADD, VALUE_TO_ADD);
+        event.finish("додавання запису до OffHeapBoaMap", BACKEND_OFF_HEAP_MAP, datasetSize, VALUE_TO_ADD);
+
+        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до OffHeapBoaMap", BACKEND_OFF_HEAP_MAP, datasetSize);
+
+        ReportSink.message("Додано новий запис: Pet='{}', власник='{}'", KEY_TO_ADD, VALUE_TO_ADD);
+    }
+
+    /**
+     * Видаляє запис з OffHeapBoaMap за ключем.
+     */
+    void removeByKeyFromOffHeapMap() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
+
+        String removedValue = offHeapMap.remove(KEY_TO_SEARCH_AND_DELETE);
+        event.finish("видалення за ключем з OffHeapBoaMap", BACKEND_OFF_HEAP_MAP, datasetSize, removedValue);
+
+        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з OffHeapBoaMap", BACKEND_OFF_HEAP_MAP, datasetSize);
+
+        if (removedValue != null) {
+            ReportSink.message("Видалено запис з ключем '{}'. Власник був: {}", KEY_TO_SEARCH_AND_DELETE, removedValue);
+        } else {
+            ReportSink.message("Ключ '{}' не знайдено для видалення.", KEY_TO_SEARCH_AND_DELETE);
+        }
+    }
+
+    /**
+     * Видаляє записи з OffHeapBoaMap за значенням.
+     */
+    void removeByValueFromOffHeapMap() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MapMutation());
+
+        int removedCount = offHeapMap.removeByValue(VALUE_TO_SEARCH_AND_DELETE);
+        event.finish("видалення за значенням з OffHeapBoaMap", BACKEND_OFF_HEAP_MAP, datasetSize, removedCount);
+
+        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з OffHeapBoaMap", BACKEND_OFF_HEAP_MAP, datasetSize);
+
+        ReportSink.message("Видалено {} записів з власником '{}'", removedCount, VALUE_TO_SEARCH_AND_DELETE);
     }
 
     /**
      * Головний метод для запуску програми.
+     * 
+     * Необов'язковий аргумент - каталог для файлів OffHeapBoaMap. Якщо його вказано,
+     * мапа поза купою відображається у файли і після перезапуску підключається до них.
+     * 
+     * Параметр {@code --journal <каталог>} вмикає журнал змін HashMap: при старті дані
+     * відновлюються з останнього знімка та хвоста журналу замість початкового набору.
+     * 
+     * Параметр {@code --report quiet|text|json} задає режим виводу {@link ReportSink}.
      */
     public static void main(String[] args) {
-        // Створюємо початкові дані (ключ: Pet, значення: ім'я власника)
+        String offHeapDirectory = null;
+        String journalDirectory = null;
+        String metricsJsonPath = null;
+        String metricsPrometheusPath = null;
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (!option.startsWith("--")) {
+                if (offHeapDirectory != null) {
+                    System.out.println("Помилка: Зайвий аргумент " + option);
+                    System.out.println(USAGE_MESSAGE);
+                    return;
+                }
+                offHeapDirectory = option;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                System.out.println("Помилка: Параметр " + option + " потребує значення");
+                System.out.println(USAGE_MESSAGE);
+                return;
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--journal":
+                    journalDirectory = value;
+                    break;
+                case "--metrics-json":
+                    metricsJsonPath = value;
+                    break;
+                case "--metrics-prom":
+                    metricsPrometheusPath = value;
+                    break;
+                case "--report":
+                    try {
+                        ReportSink.setMode(ReportSink.Mode.parse(value));
+                    } catch (IllegalArgumentException e) {
+                        System.out.println("Помилка: Невідомий режим виводу: " + value);
+                        System.out.println(USAGE_MESSAGE);
+                        return;
+                    }
+                    break;
+                default:
+                    System.out.println("Помилка: Невідомий параметр " + option);
+                    System.out.println(USAGE_MESSAGE);
+                    return;
+            }
+        }
+
+        // Відновлюємо HashMap зі знімка та журналу, якщо їх підключено
         HashMap<Boa, String> hashmap = new HashMap<>();
-        hashmap.put(new Boa("Яшма", "Сан-Паулу"), "Олександр");
-        hashmap.put(new Boa("Фантом", "Ріо-де-Жанейро"), "Наталія");
-        hashmap.put(new Boa("Удав", "Мехіко"), "Ірина");
-        hashmap.put(new Boa("Тайсон", "Каракас"), "Дмитро");
-        hashmap.put(new Boa("Сіріус", "Богота"), "Олександр");
-        hashmap.put(new Boa("Пітон", "Ліма"), "Софія");
-        hashmap.put(new Boa("Немо", "Гвантемала"), "Наталія");
-        hashmap.put(new Boa("Мідас", "Буенос-Айрес"), "Андрій");
-        hashmap.put(new Boa("Лорд", "Сантьяго"), "Марія");
-        hashmap.put(new Boa("Кобра", "Панама"), "Ірина");
-
-        LinkedHashMap<Boa, String> linkedHashMap = new LinkedHashMap<Boa, String>() {{
-            put(new Boa("Яшма", "Сан-Паулу"), "Олександр");
-            put(new Boa("Фантом", "Ріо-де-Жанейро"), "Наталія");
-            put(new Boa("Удав", "Мехіко"), "Ірина");
-            put(new Boa("Тайсон", "Каракас"), "Дмитро");
-            put(new Boa("Сіріус", "Богота"), "Олександр");
-            put(new Boa("Пітон", "Ліма"), "Софія");
-            put(new Boa("Немо", "Гвантемала"), "Наталія");
-            put(new Boa("Мідас", "Буенос-Айрес"), "Андрій");
-            put(new Boa("Лорд", "Сантьяго"), "Марія");
-            put(new Boa("Кобра", "Панама"), "Ірина");
-
-        }};
+        BoaMapJournal journal = null;
+        if (journalDirectory != null) {
+            journal = new BoaMapJournal(Paths.get(journalDirectory));
+            long replayedRecords = journal.restore(hashmap);
+            ReportSink.status("Відновлено з журналу: {} записів, відтворено операцій: {}", hashmap.size(), replayedRecords);
+        }
+
+        if (journal == null || !journal.hasPersistedState()) {
+            // Створюємо початкові дані (ключ: Pet, значення: ім'я власника)
+            fillInitialData(hashmap);
+            if (journal != null) {
+                journal.snapshot(hashmap);
+            }
+        }
+
+        LinkedHashMap<Boa, String> linkedHashMap = new LinkedHashMap<>();
+        fillInitialData(linkedHashMap);
 
         // Створюємо об'єкт і виконуємо операції
-        BasicDataOperationUsingMap operations = new BasicDataOperationUsingMap(hashmap, linkedHashMap);
+        BasicDataOperationUsingMap operations = offHeapDirectory != null
+            ? new BasicDataOperationUsingMap(hashmap, linkedHashMap, OffHeapBoaMap.openMapped(Paths.get(offHeapDirectory)))
+            : new BasicDataOperationUsingMap(hashmap, linkedHashMap);
+        operations.attachJournal(journal);
         operations.executeDataOperations();
+        PerformanceTracker.printSummary();
+        if (metricsJsonPath != null) {
+            MetricsExporter.appendJsonLines(Paths.get(metricsJsonPath));
+        }
+        if (metricsPrometheusPath != null) {
+            MetricsExporter.writePrometheusFile(Paths.get(metricsPrometheusPath));
+        }
+
+        if (journal != null) {
+            journal.close();
+        }
+        ReportSink.flush();
+    }
+
+    /**
+     * Створює обробник над початковим набором даних у HashMap та LinkedHashMap
+     * (без журналу і файлів поза купою).
+     * 
+     * @return Обробник з початковими даними
+     */
+    static BasicDataOperationUsingMap withInitialData() {
+        HashMap<Boa, String> hashmap = new HashMap<>();
+        fillInitialData(hashmap);
+        LinkedHashMap<Boa, String> linkedHashMap = new LinkedHashMap<>();
+        fillInitialData(linkedHashMap);
+        return new BasicDataOperationUsingMap(hashmap, linkedHashMap);
+    }
+
+    /**
+     * Заповнює мапу початковими даними (ключ: Pet, значення: ім'я власника).
+     * 
+     * @param map Мапа для заповнення
+     */
+    private static void fillInitialData(Map<Boa, String> map) {
+        map.put(new Boa("Яшма", "Сан-Паулу"), "Олександр");
+        map.put(new Boa("Фантом", "Ріо-де-Жанейро"), "Наталія");
+        map.put(new Boa("Удав", "Мехіко"), "Ірина");
+        map.put(new Boa("Тайсон", "Каракас"), "Дмитро");
+        map.put(new Boa("Сіріус", "Богота"), "Олександр");
+        map.put(new Boa("Пітон", "Ліма"), "Софія");
+        map.put(new Boa("Немо", "Гвантемала"), "Наталія");
+        map.put(new Boa("Мідас", "Буенос-Айрес"), "Андрій");
+        map.put(new Boa("Лорд", "Сантьяго"), "Марія");
+        map.put(new Boa("Кобра", "Панама"), "Ірина");
     }
 }
@@ -0,0 +1,374 @@
+import java.util.Arrays;
+
+/**
+ * Клас BasicDataOperationUsingNumbers реалізує операції з числовими наборами даних
+ * (byte, short, int, long, float, double) через ядра {@link NumericKernels}, а також
+ * з наборами з малим діапазоном ключів (byte, short, Character) через {@link FrequencyTable}.
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними.</li>
+ *   <li>{@link #locateMinMaxInArray()} - Визначає найменше і найбільше значення.</li>
+ *   <li>{@link #computeSumAndMean()} - Обчислює суму та середнє.</li>
+ *   <li>{@link #countNotGreaterThanSearch()} - Рахує значення, не більші за пошукове.</li>
+ *   <li>{@link #findInArray()} - Лінійний пошук значення в масиві.</li>
+ *   <li>{@link #buildFrequencyTable()} - Будує таблицю частот (byte, short, Character).</li>
+ *   <li>{@link #sortByCounting()} - Сортування підрахунком за таблицею частот.</li>
+ *   <li>{@link #locateMinMaxModeInTable()} - Найменше, найбільше і найчастіше значення за таблицею.</li>
+ *   <li>{@link #countNotGreaterInTable()} - Кількість значень, не більших за пошукове, за таблицею.</li>
+ *   <li>{@link #findInTable()} - Кількість входжень пошукового значення за O(1).</li>
+ * </ul>
+ *
+ * <p>byte, short та int зберігаються в int[], float - у double[] (розширення без втрат),
+ * тож ядра спільні. Для float значення виводяться у вигляді float. Character зберігається
+ * кодами UTF-16 в int[] і обробляється лише через таблицю частот (сума символів не має сенсу).</p>
+ */
+public class BasicDataOperationUsingNumbers {
+    static final String[] TYPES = {"byte", "short", "int", "long", "float", "double", "Character"};
+
+    private static final String BACKEND_ARRAY = "array";
+    private static final String BACKEND_TABLE = "FrequencyTable";
+    // скільки перших відсортованих значень виводити
+    private static final int PREVIEW_SIZE = 10;
+
+    private final String typeName;
+    private final String dataFilePath;
+    private final String searchText;
+
+    // заповнений лише один масив - відповідно до типу
+    private int[] intValues;
+    private long[] longValues;
+    private double[] doubleValues;
+    private int size;
+    // таблиця частот для типів з малим діапазоном ключів
+    private FrequencyTable frequencyTable;
+
+    /**
+     * Конструктор, який iнiцiалiзує об'єкт з типом даних і значенням для пошуку.
+     *
+     * @param typeName Числовий тип, як у назві файлу list/ (наприклад, "double")
+     * @param searchText Значення для пошуку
+     * @throws NumberFormatException якщо значення не належить до типу
+     */
+    BasicDataOperationUsingNumbers(String typeName, String searchText) {
+        checkValue(typeName, searchText);
+        this.typeName = typeName;
+        this.searchText = searchText;
+        this.dataFilePath = DataFileHandler.dataFilePath(typeName);
+    }
+
+    /**
+     * Перевіряє, що тип підтримується, а значення належить до нього.
+     *
+     * @param typeName Числовий тип
+     * @param text Значення
+     * @throws NumberFormatException якщо значення не належить до типу
+     * @throws IllegalArgumentException якщо тип не підтримується
+     */
+    static void checkValue(String typeName, String text) {
+        switch (typeName) {
+            case "byte":
+                Byte.parseByte(text);
+                break;
+            case "short":
+                Short.parseShort(text);
+                break;
+            case "int":
+                Integer.parseInt(text);
+                break;
+            case "long":
+                Long.parseLong(text);
+                break;
+            case "float":
+                Float.parseFloat(text);
+                break;
+            case "double":
+                Double.parseDouble(text);
+                break;
+            case "Character":
+                if (text.length() != 1) {
+                    throw new IllegalArgumentException("Очікується один символ");
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Непідтримуваний числовий тип: " + typeName
+                    + ". Підтримуються: " + String.join(", ", TYPES));
+        }
+    }
+
+    /**
+     * Виконує комплексні операції з числовим масивом.
+     */
+    public void executeDataOperations() {
+        loadArray();
+        if (size == 0) {
+            ReportSink.message("Масив є пустим або не ініціалізованим.");
+            return;
+        }
+
+        if (hasSmallKeyRange()) {
+            buildFrequencyTable();
+            sortByCounting();
+            locateMinMaxModeInTable();
+            countNotGreaterInTable();
+            findInTable();
+            if (typeName.equals("Character")) {
+                return;
+            }
+        }
+
+        locateMinMaxInArray();
+        computeSumAndMean();
+        countNotGreaterThanSearch();
+        findInArray();
+    }
+
+    /**
+     * @return true для типів, діапазон ключів яких вміщується в таблицю частот
+     */
+    private boolean hasSmallKeyRange() {
+        return typeName.equals("byte") || typeName.equals("short") || typeName.equals("Character");
+    }
+
+    private void loadArray() {
+        switch (typeName) {
+            case "long":
+                longValues = DataFileHandler.loadLongColumnFromFile(dataFilePath);
+                size = longValues.length;
+                break;
+            case "float":
+            case "double":
+                doubleValues = DataFileHandler.loadDoubleColumnFromFile(dataFilePath, typeName.equals("float"));
+                size = doubleValues.length;
+                break;
+            case "Character":
+                intValues = DataFileHandler.loadCharColumnFromFile(dataFilePath);
+                size = intValues.length;
+                break;
+            default:
+                intValues = DataFileHandler.loadIntColumnFromFile(dataFilePath);
+                size = intValues.length;
+                break;
+        }
+    }
+
+    /**
+     * Визначає найменше та найбільше значення в масиві.
+     */
+    void locateMinMaxInArray() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MinMax());
+
+        Object minValue;
+        Object maxValue;
+        if (intValues != null) {
+            int[] minMax = NumericKernels.minMax(intValues);
+            minValue = minMax[0];
+            maxValue = minMax[1];
+        } else if (longValues != null) {
+            long[] minMax = NumericKernels.minMax(longValues);
+            minValue = minMax[0];
+            maxValue = minMax[1];
+        } else {
+            double[] minMax = NumericKernels.minMax(doubleValues);
+            minValue = realValue(minMax[0]);
+            maxValue = realValue(minMax[1]);
+        }
+        event.finish("визначення мiнiмального i максимального числа в масивi", BACKEND_ARRAY, size, minValue, maxValue);
+
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального числа в масивi", BACKEND_ARRAY, size);
+
+        ReportSink.message("Найменше значення в масивi {}: {}", typeName, minValue);
+        ReportSink.message("Найбільше значення в масивi {}: {}", typeName, maxValue);
+    }
+
+    /**
+     * Обчислює суму та середнє значення масиву.
+     */
+    void computeSumAndMean() {
+        long timeStart = PerformanceTracker.startOperation();
+
+        Object sum;
+        double mean;
+        if (intValues != null) {
+            long exactSum = NumericKernels.sum(intValues);
+            sum = exactSum;
+            mean = (double) exactSum / size;
+        } else if (longValues != null) {
+            double approximateSum = NumericKernels.sum(longValues);
+            sum = approximateSum;
+            mean = approximateSum / size;
+        } else {
+            double realSum = NumericKernels.sum(doubleValues);
+            sum = realSum;
+            mean = realSum / size;
+        }
+
+        PerformanceTracker.displayOperationTime(timeStart, "обчислення суми i середнього в масивi чисел", BACKEND_ARRAY, size);
+
+        ReportSink.message("Сума значень: {}, середнє: {}", sum, mean);
+    }
+
+    /**
+     * Рахує значення, не більші за пошукове (діапазон від найменшого можливого до пошукового).
+     */
+    void countNotGreaterThanSearch() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        int count;
+        if (intValues != null) {
+            count = NumericKernels.countInRange(intValues, Integer.MIN_VALUE, Integer.parseInt(searchText));
+        } else if (longValues != null) {
+            count = NumericKernels.countInRange(longValues, Long.MIN_VALUE, Long.parseLong(searchText));
+        } else {
+            count = NumericKernels.countInRange(doubleValues, Double.NEGATIVE_INFINITY, parseReal(searchText));
+        }
+        event.finish("пiдрахунок чисел у дiапазонi в масивi", BACKEND_ARRAY, size, count);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пiдрахунок чисел у дiапазонi в масивi", BACKEND_ARRAY, size);
+
+        ReportSink.message("Значень, не більших за {}: {}", searchText, count);
+    }
+
+    /**
+     * Шукає перше входження значення лінійним переглядом (масив не впорядкований).
+     */
+    void findInArray() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        int position;
+        if (intValues != null) {
+            position = NumericKernels.indexOf(intValues, Integer.parseInt(searchText));
+        } else if (longValues != null) {
+            position = NumericKernels.indexOf(longValues, Long.parseLong(searchText));
+        } else {
+            position = NumericKernels.indexOf(doubleValues, parseReal(searchText));
+        }
+        event.finish("лiнiйний пошук числа в масивi", BACKEND_ARRAY, size, position);
+
+        PerformanceTracker.displayOperationTime(timeStart, "лiнiйний пошук числа в масивi", BACKEND_ARRAY, size);
+
+        if (position >= 0) {
+            ReportSink.message("Елемент '{}' знайдено в масивi за позицією: {}", searchText, position);
+        } else {
+            ReportSink.message("Елемент '{}' відсутній в масиві.", searchText);
+        }
+    }
+
+    /**
+     * Будує таблицю частот за один (для великих масивів - паралельний) прохід.
+     */
+    void buildFrequencyTable() {
+        long timeStart = PerformanceTracker.startOperation();
+
+        switch (typeName) {
+            case "byte":
+                frequencyTable = FrequencyTable.of(intValues, Byte.MIN_VALUE, Byte.MAX_VALUE);
+                break;
+            case "short":
+                frequencyTable = FrequencyTable.of(intValues, Short.MIN_VALUE, Short.MAX_VALUE);
+                break;
+            default:
+                frequencyTable = FrequencyTable.of(intValues, Character.MIN_VALUE, Character.MAX_VALUE);
+                break;
+        }
+
+        PerformanceTracker.displayOperationTime(timeStart, "побудова таблицi частот", BACKEND_TABLE, size);
+
+        ReportSink.message("Різних значень {}: {}", typeName, frequencyTable.distinctCount());
+    }
+
+    /**
+     * Сортує значення підрахунком: O(n + k) без порівнянь.
+     */
+    void sortByCounting() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Sort());
+
+        int[] sorted = frequencyTable.toSortedArray();
+        event.finish("сортування пiдрахунком за таблицею частот", BACKEND_TABLE, size, SortEngine.Strategy.COUNTING);
+
+        PerformanceTracker.displayOperationTime(timeStart, "сортування пiдрахунком за таблицею частот", BACKEND_TABLE, size);
+
+        if (ReportSink.isMessageEnabled()) {
+            Object[] preview = new Object[Math.min(sorted.length, PREVIEW_SIZE)];
+            for (int i = 0; i < preview.length; i++) {
+                preview[i] = keyValue(sorted[i]);
+            }
+            ReportSink.message("Перші відсортовані значення: {}", Arrays.toString(preview));
+        }
+    }
+
+    /**
+     * Визначає найменше, найбільше і найчастіше значення за таблицею частот.
+     */
+    void locateMinMaxModeInTable() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MinMax());
+
+        Object minValue = keyValue(frequencyTable.min());
+        Object maxValue = keyValue(frequencyTable.max());
+        int mode = frequencyTable.mode();
+        event.finish("мiнiмум, максимум i мода за таблицею частот", BACKEND_TABLE, size, minValue, maxValue);
+
+        PerformanceTracker.displayOperationTime(timeStart, "мiнiмум, максимум i мода за таблицею частот", BACKEND_TABLE, size);
+
+        ReportSink.message("Найменше значення {}: {}, найбільше: {}", typeName, minValue, maxValue);
+        ReportSink.message("Найчастіше значення: {} ({} разів)", keyValue(mode), frequencyTable.count(mode));
+    }
+
+    /**
+     * Рахує значення, не більші за пошукове, сумою лічильників таблиці.
+     */
+    void countNotGreaterInTable() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        long count = frequencyTable.countInRange(Integer.MIN_VALUE, searchKey());
+        event.finish("пiдрахунок значень у дiапазонi за таблицею частот", BACKEND_TABLE, size, count);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пiдрахунок значень у дiапазонi за таблицею частот", BACKEND_TABLE, size);
+
+        ReportSink.message("Значень, не більших за {}: {}", searchText, count);
+    }
+
+    /**
+     * Знаходить кількість входжень пошукового значення одним зверненням до таблиці.
+     */
+    void findInTable() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        int count = frequencyTable.count(searchKey());
+        event.finish("пошук значення в таблицi частот", BACKEND_TABLE, size, count);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук значення в таблицi частот", BACKEND_TABLE, size);
+
+        if (count > 0) {
+            ReportSink.message("Елемент '{}' знайдено в таблиці частот: {} входжень", searchText, count);
+        } else {
+            ReportSink.message("Елемент '{}' відсутній в таблиці частот.", searchText);
+        }
+    }
+
+    private int searchKey() {
+        return typeName.equals("Character") ? searchText.charAt(0) : Integer.parseInt(searchText);
+    }
+
+    private Object keyValue(int key) {
+        return typeName.equals("Character") ? (Object) (char) key : (Object) key;
+    }
+
+    /**
+     * Розбирає пошукове значення так само, як значення файлу: float спершу округлюється до float.
+     */
+    private double parseReal(String text) {
+        return typeName.equals("float") ? Float.parseFloat(text) : Double.parseDouble(text);
+    }
+
+    private Object realValue(double value) {
+        return typeName.equals("float") ? (Object) (float) value : (Object) value;
+    }
+}
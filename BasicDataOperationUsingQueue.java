@@ -1,48 +1,57 @@
-import java.time.LocalTime;
-import java.util.Queue;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Queue;
 import java.util.Collections;
-import java.util.PriorityQueue;
 
 /**
- * Клас BasicDataOperationUsingQueue реалізує роботу з колекціями типу Queue для LocalTime.
+ * Клас BasicDataOperationUsingQueue реалізує роботу з колекціями типу Queue для часових даних
+ * (LocalTime, LocalDate, LocalDateTime).
  * 
  * <p>Основні функції класу:</p>
  * <ul>
  *   <li>{@link #runDataProcessing()} - Запускає комплекс операцій з даними.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив LocalTime.</li>
- *   <li>{@link #findInArray()} - Пошук значення в масиві LocalTime.</li>
+ *   <li>{@link #performArraySorting()} - Упорядковує масив часових значень.</li>
+ *   <li>{@link #findInArray()} - Пошук значення в масиві часових значень.</li>
  *   <li>{@link #locateMinMaxInArray()} - Знаходить мінімальне і максимальне значення в масиві.</li>
- *   <li>{@link #findInQueue()} - Пошук значення в черзі LocalTime.</li>
+ *   <li>{@link #buildQueue()} - Будує чергу з пріоритетом над спільним набором.</li>
+ *   <li>{@link #findInQueue()} - Пошук значення в черзі часових значень.</li>
  *   <li>{@link #locateMinMaxInQueue()} - Знаходить граничні значення в черзі.</li>
  *   <li>{@link #performQueueOperations()} - Виконує операції peek і poll з чергою.</li>
+ *   <li>{@link #runWindowedProcessing(Duration, int)} - Відтворює набір як потік подій через
+ *       чергу з ковзним вікном ({@link SlidingWindowQueue}).</li>
  * </ul>
- * 
+ *
+ * @param <T> Часовий тип
  */
-public class BasicDataOperationUsingQueue {
-    private LocalTime localTimeValueToSearch;
-    private LocalTime[] localTimeArray;
-    private Queue<LocalTime> localTimeQueue;
+public class BasicDataOperationUsingQueue<T extends Comparable<? super T>> {
+    private static final String BACKEND_ARRAY = "array";
+    private static final String BACKEND_QUEUE = "Queue";
+    private static final String BACKEND_WINDOW = "SlidingWindow";
+
+    private T valueToSearch;
+    // спільний незмінний набір; після сортування - власна відсортована копія обробника
+    private TemporalDataset<T> temporalData;
+    private Queue<T> temporalQueue;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
      * 
-     * @param localTimeValueToSearch Значення для пошуку
-     * @param localTimeArray Масив LocalTime
+     * @param valueToSearch Значення для пошуку
+     * @param temporalData Спільний незмінний набір часових даних
      */
-    BasicDataOperationUsingQueue(LocalTime localTimeValueToSearch, LocalTime[] localTimeArray) {
-        this.localTimeValueToSearch = localTimeValueToSearch;
-        this.localTimeArray = localTimeArray;
-        this.localTimeQueue = new PriorityQueue<>(Arrays.asList(localTimeArray));
+    BasicDataOperationUsingQueue(T valueToSearch, TemporalDataset<T> temporalData) {
+        this.valueToSearch = valueToSearch;
+        this.temporalData = temporalData;
     }
     
     /**
      * Запускає комплексну обробку даних з використанням черги.
      * 
-     * Метод завантажує дані, виконує операції з чергою та масивом LocalTime.
+     * Метод завантажує дані, виконує операції з чергою та масивом часових значень.
      */
     public void runDataProcessing() {
         // спочатку обробляємо чергу дати та часу
+        buildQueue();
         findInQueue();
         locateMinMaxInQueue();
         performQueueOperations();
@@ -57,20 +66,28 @@ public class BasicDataOperationUsingQueue {
         locateMinMaxInArray();
 
         // зберігаємо відсортований масив до файлу
-        DataFileHandler.writeArrayToFile(localTimeArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
+        DataFileHandler.writeDatasetToFile(temporalData, DataFileHandler.dataFilePath(temporalData.codec()) + ".sorted");
     }
 
     /**
-     * Сортує масив об'єктiв LocalTime та виводить початковий i вiдсортований масиви.
+     * Сортує масив часових значень та виводить початковий i вiдсортований масиви.
      * Вимiрює та виводить час, витрачений на сортування масиву в наносекундах.
      */
     private void performArraySorting() {
+        // спільний набір незмінний, тож власна копія стовпця створюється лише тут, коли вона потрібна
+        long[] column = temporalData.copyKeys();
+
         // вимірюємо тривалість упорядкування масиву дати та часу
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Sort());
+
+        SortEngine.Strategy strategy = SortEngine.sort(column);
+        temporalData = TemporalDataset.wrap(temporalData.codec(), column);
+        event.finish("упорядкування масиву дати i часу", BACKEND_ARRAY, temporalData.size(), strategy);
 
-        Arrays.sort(localTimeArray);
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу", BACKEND_ARRAY, temporalData.size());
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+        ReportSink.message("Стратегія сортування масиву: {}", strategy);
     }
 
     /**
@@ -78,47 +95,58 @@ public class BasicDataOperationUsingQueue {
      */
     private void findInArray() {
         // відстежуємо час виконання пошуку в масиві
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
         
-        int position = Arrays.binarySearch(this.localTimeArray, localTimeValueToSearch);
+        int position = temporalData.binarySearch(valueToSearch);
+        event.finish("пошук елемента в масивi дати i часу", BACKEND_ARRAY, temporalData.size(), position);
         
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу", BACKEND_ARRAY, temporalData.size());
 
         if (position >= 0) {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' знайдено в масивi за позицією: " + position);
+            ReportSink.message("Елемент '{}' знайдено в масивi за позицією: {}", valueToSearch, position);
         } else {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' відсутній в масиві.");
+            ReportSink.message("Елемент '{}' відсутній в масиві.", valueToSearch);
         }
     }
 
     /**
-     * Визначає найменше та найбільше значення в масиві LocalTime.
+     * Визначає найменше та найбільше значення в масиві часових значень.
      */
     private void locateMinMaxInArray() {
-        if (localTimeArray == null || localTimeArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
+        if (temporalData == null || temporalData.isEmpty()) {
+            ReportSink.message("Масив є пустим або не ініціалізованим.");
             return;
         }
 
         // відстежуємо час на визначення граничних значень
-        long timeStart = System.nanoTime();
-
-        LocalTime minValue = localTimeArray[0];
-        LocalTime maxValue = localTimeArray[0];
-
-        for (LocalTime currentDateTime : localTimeArray) {
-            if (currentDateTime.isBefore(minValue)) {
-                minValue = currentDateTime;
-            }
-            if (currentDateTime.isAfter(maxValue)) {
-                maxValue = currentDateTime;
-            }
-        }
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MinMax());
+
+        // порівнюємо ключі стовпця без створення об'єктів значень
+        long[] minMaxKeys = temporalData.minMaxKeys();
+        T minValue = temporalData.codec().decode(minMaxKeys[0]);
+        T maxValue = temporalData.codec().decode(minMaxKeys[1]);
+        event.finish("визначення мiнiмальної i максимальної дати в масивi", BACKEND_ARRAY, temporalData.size(), minValue, maxValue);
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi", BACKEND_ARRAY, temporalData.size());
 
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
+        ReportSink.message("Найменше значення в масивi: {}", minValue);
+        ReportSink.message("Найбільше значення в масивi: {}", maxValue);
+    }
+
+    /**
+     * Будує чергу з пріоритетом - подання над власною відсортованою копією стовпця.
+     * Сортування вимірюється окремою операцією, тож пошук у черзі його не містить.
+     */
+    private void buildQueue() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Sort());
+
+        temporalQueue = temporalData.asQueue();
+        event.finish("побудова Queue дати i часу", BACKEND_QUEUE, temporalData.size(), temporalQueue.size());
+
+        PerformanceTracker.displayOperationTime(timeStart, "побудова Queue дати i часу", BACKEND_QUEUE, temporalData.size());
     }
 
     /**
@@ -126,56 +154,119 @@ public class BasicDataOperationUsingQueue {
      */
     private void findInQueue() {
         // вимірюємо час пошуку в черзі
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
 
-        boolean elementExists = this.localTimeQueue.contains(localTimeValueToSearch);
+        boolean elementExists = this.temporalQueue.contains(valueToSearch);
+        event.finish("пошук елемента в Queue дати i часу", BACKEND_QUEUE, temporalData.size(), elementExists);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в Queue дати i часу");
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в Queue дати i часу", BACKEND_QUEUE, temporalData.size());
 
         if (elementExists) {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' знайдено в Queue");
+            ReportSink.message("Елемент '{}' знайдено в Queue", valueToSearch);
         } else {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' відсутній в Queue.");
+            ReportSink.message("Елемент '{}' відсутній в Queue.", valueToSearch);
         }
     }
 
     /**
-     * Визначає найменше та найбільше значення в черзі LocalTime.
+     * Визначає найменше та найбільше значення в черзі часових значень.
      */
     private void locateMinMaxInQueue() {
-        if (localTimeQueue == null || localTimeQueue.isEmpty()) {
-            System.out.println("Черга є пустою або не ініціалізованою.");
+        if (temporalQueue == null || temporalQueue.isEmpty()) {
+            ReportSink.message("Черга є пустою або не ініціалізованою.");
             return;
         }
 
         // відстежуємо час пошуку граничних значень
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MinMax());
+
+        T minValue = Collections.min(temporalQueue);
+        T maxValue = Collections.max(temporalQueue);
+        event.finish("визначення мiнiмальної i максимальної дати в Queue", BACKEND_QUEUE, temporalData.size(), minValue, maxValue);
+
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в Queue", BACKEND_QUEUE, temporalData.size());
 
-        LocalTime minValue = Collections.min(localTimeQueue);
-        LocalTime maxValue = Collections.max(localTimeQueue);
+        ReportSink.message("Найменше значення в Queue: {}", minValue);
+        ReportSink.message("Найбільше значення в Queue: {}", maxValue);
+    }
+
+    /**
+     * Відтворює набір як потік подій у порядку часу через чергу з ковзним вікном:
+     * останні K подій, K найпізніших часів і кількість подій у вікні. Стан вікна виводиться
+     * на момент останньої події, не пізнішої за пошукове значення, і в кінці потоку.
+     *
+     * @param windowLength Довжина вікна
+     * @param latestCount Кількість останніх подій і найпізніших часів (K)
+     */
+    public void runWindowedProcessing(Duration windowLength, int latestCount) {
+        if (temporalData == null || temporalData.isEmpty()) {
+            ReportSink.message("Масив є пустим або не ініціалізованим.");
+            return;
+        }
+
+        TemporalCodec<T> codec = temporalData.codec();
+        // потік подій у порядку часу; черга і буфери створюються до виміру
+        long[] events = temporalData.copyKeys();
+        SortEngine.sort(events);
+        SlidingWindowQueue window = new SlidingWindowQueue(latestCount, codec.keySpan(windowLength));
+        long searchKey = codec.encode(valueToSearch);
+
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в Queue");
+        int position = 0;
+        while (position < events.length && events[position] <= searchKey) {
+            window.offer(events[position++]);
+        }
+        boolean reachedSearch = window.offeredCount() > 0;
+        long searchWindowEnd = window.latestKey();
+        int searchWindowCount = window.windowCount();
+        while (position < events.length) {
+            window.offer(events[position++]);
+        }
+        long elapsedNanos = System.nanoTime() - timeStart;
+        event.finish("обробка потоку подiй у Queue з ковзним вiкном", BACKEND_WINDOW, events.length, searchWindowCount);
+
+        PerformanceTracker.displayOperationTime(timeStart, "обробка потоку подiй у Queue з ковзним вiкном", BACKEND_WINDOW, events.length);
+
+        ReportSink.message("Оброблено подій: {}, запізнілих: {}, пропускна здатність: {} подій/с",
+            window.offeredCount(), window.lateCount(), elapsedNanos > 0 ? window.offeredCount() * 1_000_000_000L / elapsedNanos : "-");
+        if (reachedSearch) {
+            ReportSink.message("Подій у вікні {} до {}: {}", windowLength, codec.decode(searchWindowEnd), searchWindowCount);
+        }
+        ReportSink.message("Подій у вікні {} до кінця потоку ({}): {}", windowLength, codec.decode(window.latestKey()), window.windowCount());
+        if (ReportSink.isMessageEnabled()) {
+            ReportSink.message("Останні {} подій: {}", latestCount, Arrays.toString(decodeAll(codec, window.latestArrivals())));
+            ReportSink.message("Найпізніші {} часів: {}", latestCount, Arrays.toString(decodeAll(codec, window.latestTimes())));
+        }
+    }
 
-        System.out.println("Найменше значення в Queue: " + minValue);
-        System.out.println("Найбільше значення в Queue: " + maxValue);
+    private static Object[] decodeAll(TemporalCodec<?> codec, long[] keys) {
+        Object[] values = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = codec.decode(keys[i]);
+        }
+        return values;
     }
 
     /**
-     * Виконує операції peek і poll з чергою LocalTime.
+     * Виконує операції peek і poll з чергою часових значень.
      */
     private void performQueueOperations() {
-        if (localTimeQueue == null || localTimeQueue.isEmpty()) {
-            System.out.println("Черга є пустою або не ініціалізованою.");
+        if (temporalQueue == null || temporalQueue.isEmpty()) {
+            ReportSink.message("Черга є пустою або не ініціалізованою.");
             return;
         }
 
-        LocalTime headElement = localTimeQueue.peek();
-        System.out.println("Головний елемент черги (peek): " + headElement);
+        T headElement = temporalQueue.peek();
+        ReportSink.message("Головний елемент черги (peek): {}", headElement);
 
-        headElement = localTimeQueue.poll();
-        System.out.println("Видалений елемент черги (poll): " + headElement);
+        headElement = temporalQueue.poll();
+        ReportSink.message("Видалений елемент черги (poll): {}", headElement);
 
-        headElement = localTimeQueue.peek();
-        System.out.println("Новий головний елемент черги: " + headElement);
+        headElement = temporalQueue.peek();
+        ReportSink.message("Новий головний елемент черги: {}", headElement);
     }
 }
\ No newline at end of file
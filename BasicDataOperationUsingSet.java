@@ -1,48 +1,52 @@
-import java.time.LocalTime;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
- * Клас BasicDataOperationUsingSet реалізує операції з множиною HashSet для LocalTime.
+ * Клас BasicDataOperationUsingSet реалізує операції з множиною HashSet для часових даних
+ * (LocalTime, LocalDate, LocalDateTime).
  * 
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataAnalysis()} - Запускає аналіз даних.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив LocalTime.</li>
- *   <li>{@link #findInArray()} - Пошук значення в масиві LocalTime.</li>
+ *   <li>{@link #performArraySorting()} - Упорядковує масив часових значень.</li>
+ *   <li>{@link #findInArray()} - Пошук значення в масиві часових значень.</li>
  *   <li>{@link #locateMinMaxInArray()} - Знаходить граничні значення в масиві.</li>
- *   <li>{@link #findInSet()} - Пошук значення в множині LocalTime.</li>
+ *   <li>{@link #buildSet()} - Будує множину над спільним набором.</li>
+ *   <li>{@link #findInSet()} - Пошук значення в множині часових значень.</li>
  *   <li>{@link #locateMinMaxInSet()} - Знаходить мінімальне і максимальне значення в множині.</li>
  *   <li>{@link #analyzeArrayAndSet()} - Аналізує елементи масиву та множини.</li>
  * </ul>
+ *
+ * @param <T> Часовий тип
  */
-public class BasicDataOperationUsingSet {
-    LocalTime localTimeValueToSearch;
-    LocalTime[] localTimeArray;
-    Set<LocalTime> localTimeSet = new LinkedHashSet<>();
+public class BasicDataOperationUsingSet<T extends Comparable<? super T>> {
+    private static final String BACKEND_ARRAY = "array";
+    private static final String BACKEND_SET = "Set";
+
+    T valueToSearch;
+    // спільний незмінний набір; після сортування - власна відсортована копія обробника
+    TemporalDataset<T> temporalData;
+    Set<T> temporalSet;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
      * 
-     * @param localTimeValueToSearch Значення для пошуку
-     * @param localTimeArray Масив LocalTime
+     * @param valueToSearch Значення для пошуку
+     * @param temporalData Спільний незмінний набір часових даних
      */
-    BasicDataOperationUsingSet(LocalTime localTimeValueToSearch, LocalTime[] localTimeArray) {
-        this.localTimeValueToSearch = localTimeValueToSearch;
-        this.localTimeArray = localTimeArray;
-        this.localTimeSet = new LinkedHashSet<>(Arrays.asList(localTimeArray));
+    BasicDataOperationUsingSet(T valueToSearch, TemporalDataset<T> temporalData) {
+        this.valueToSearch = valueToSearch;
+        this.temporalData = temporalData;
     }
     
     /**
      * Запускає комплексний аналіз даних з використанням множини HashSet.
      * 
-     * Метод завантажує дані, виконує операції з множиною та масивом LocalTime.
+     * Метод завантажує дані, виконує операції з множиною та масивом часових значень.
      */
     public void executeDataAnalysis() {
         // спочатку аналізуємо множину дати та часу
+        buildSet();
         findInSet();
         locateMinMaxInSet();
         analyzeArrayAndSet();
@@ -57,123 +61,146 @@ public class BasicDataOperationUsingSet {
         locateMinMaxInArray();
 
         // зберігаємо відсортований масив до файлу
-        DataFileHandler.writeArrayToFile(localTimeArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
+        DataFileHandler.writeDatasetToFile(temporalData, DataFileHandler.dataFilePath(temporalData.codec()) + ".sorted");
     }
 
     /**
-     * Упорядковує масив об'єктів LocalTime за зростанням.
+     * Упорядковує масив часових значень за зростанням.
      * Фіксує та виводить тривалість операції сортування в наносекундах.
      */
     private void performArraySorting() {
-        long timeStart = System.nanoTime();
+        // спільний набір незмінний, тож власна копія стовпця створюється лише тут, коли вона потрібна
+        long[] column = temporalData.copyKeys();
+
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Sort());
+
+        SortEngine.Strategy strategy = SortEngine.sort(column);
+        temporalData = TemporalDataset.wrap(temporalData.codec(), column);
+        event.finish("упорядкування масиву дати i часу", BACKEND_ARRAY, temporalData.size(), strategy);
 
-        Arrays.sort(localTimeArray);
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу", BACKEND_ARRAY, temporalData.size());
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+        ReportSink.message("Стратегія сортування масиву: {}", strategy);
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві дати та часу.
      */
     private void findInArray() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
 
-        int position = Arrays.binarySearch(this.localTimeArray, localTimeValueToSearch);
+        int position = temporalData.binarySearch(valueToSearch);
+        event.finish("пошук елемента в масивi дати i часу", BACKEND_ARRAY, temporalData.size(), position);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу", BACKEND_ARRAY, temporalData.size());
 
         if (position >= 0) {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' знайдено в масивi за позицією: " + position);
+            ReportSink.message("Елемент '{}' знайдено в масивi за позицією: {}", valueToSearch, position);
         } else {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' відсутній в масиві.");
+            ReportSink.message("Елемент '{}' відсутній в масиві.", valueToSearch);
         }
     }
 
     /**
-     * Визначає найменше та найбільше значення в масиві LocalTime.
+     * Визначає найменше та найбільше значення в масиві часових значень.
      */
     private void locateMinMaxInArray() {
-        if (localTimeArray == null || localTimeArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
+        if (temporalData == null || temporalData.isEmpty()) {
+            ReportSink.message("Масив є пустим або не ініціалізованим.");
             return;
         }
+        long timeStart = PerformanceTracker.startOperation();
 
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MinMax());
 
-        LocalTime minValue = localTimeArray[0];
-        LocalTime maxValue = localTimeArray[0];
+        // порівнюємо ключі стовпця без створення об'єктів значень
+        long[] minMaxKeys = temporalData.minMaxKeys();
+        T minValue = temporalData.codec().decode(minMaxKeys[0]);
+        T maxValue = temporalData.codec().decode(minMaxKeys[1]);
+        event.finish("визначення мiнiмальної i максимальної дати в масивi", BACKEND_ARRAY, temporalData.size(), minValue, maxValue);
 
-        for (LocalTime currentDateTime : localTimeArray) {
-            if (currentDateTime.isBefore(minValue)) {
-                minValue = currentDateTime;
-            }
-            if (currentDateTime.isAfter(maxValue)) {
-                maxValue = currentDateTime;
-            }
-        }
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi", BACKEND_ARRAY, temporalData.size());
+
+        ReportSink.message("Найменше значення в масивi: {}", minValue);
+        ReportSink.message("Найбільше значення в масивi: {}", maxValue);
+    }
+
+    /**
+     * Будує множину - подання над власною відсортованою копією стовпця без вузлів і хешів.
+     * Сортування вимірюється окремою операцією, тож пошук у множині його не містить.
+     */
+    private void buildSet() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Sort());
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
+        temporalSet = temporalData.asSet();
+        event.finish("побудова Set дати i часу", BACKEND_SET, temporalData.size(), temporalSet.size());
 
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
+        PerformanceTracker.displayOperationTime(timeStart, "побудова Set дати i часу", BACKEND_SET, temporalData.size());
     }
 
     /**
      * Здійснює пошук конкретного значення в множині дати та часу.
      */
     private void findInSet() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
 
-        boolean elementExists = this.localTimeSet.contains(localTimeValueToSearch);
+        boolean elementExists = this.temporalSet.contains(valueToSearch);
+        event.finish("пошук елемента в HashSet дати i часу", BACKEND_SET, temporalData.size(), elementExists);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в HashSet дати i часу");
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в HashSet дати i часу", BACKEND_SET, temporalData.size());
 
         if (elementExists) {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' знайдено в HashSet");
+            ReportSink.message("Елемент '{}' знайдено в HashSet", valueToSearch);
         } else {
-            System.out.println("Елемент '" + localTimeValueToSearch + "' відсутній в HashSet.");
+            ReportSink.message("Елемент '{}' відсутній в HashSet.", valueToSearch);
         }
     }
 
     /**
-     * Визначає найменше та найбільше значення в множині LocalTime.
+     * Визначає найменше та найбільше значення в множині часових значень.
      */
     private void locateMinMaxInSet() {
-        if (localTimeSet == null || localTimeSet.isEmpty()) {
-            System.out.println("HashSet є пустим або не ініціалізованим.");
+        if (temporalSet == null || temporalSet.isEmpty()) {
+            ReportSink.message("HashSet є пустим або не ініціалізованим.");
             return;
         }
+        long timeStart = PerformanceTracker.startOperation();
 
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MinMax());
 
-        LocalTime minValue = Collections.min(localTimeSet);
-        LocalTime maxValue = Collections.max(localTimeSet);
+        T minValue = Collections.min(temporalSet);
+        T maxValue = Collections.max(temporalSet);
+        event.finish("визначення мiнiмальної i максимальної дати в HashSet", BACKEND_SET, temporalData.size(), minValue, maxValue);
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в HashSet");
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в HashSet", BACKEND_SET, temporalData.size());
 
-        System.out.println("Найменше значення в HashSet: " + minValue);
-        System.out.println("Найбільше значення в HashSet: " + maxValue);
+        ReportSink.message("Найменше значення в HashSet: {}", minValue);
+        ReportSink.message("Найбільше значення в HashSet: {}", maxValue);
     }
 
     /**
      * Аналізує та порівнює елементи масиву та множини.
      */
     private void analyzeArrayAndSet() {
-        System.out.println("Кiлькiсть елементiв в масивi: " + localTimeArray.length);
-        System.out.println("Кiлькiсть елементiв в HashSet: " + localTimeSet.size());
+        ReportSink.message("Кiлькiсть елементiв в масивi: {}", temporalData.size());
+        ReportSink.message("Кiлькiсть елементiв в HashSet: {}", temporalSet.size());
 
         boolean allElementsPresent = true;
-        for (LocalTime dateTimeElement : localTimeArray) {
-            if (!localTimeSet.contains(dateTimeElement)) {
+        for (int i = 0; i < temporalData.size(); i++) {
+            if (!temporalSet.contains(temporalData.get(i))) {
                 allElementsPresent = false;
                 break;
             }
         }
 
         if (allElementsPresent) {
-            System.out.println("Всi елементи масиву наявні в HashSet.");
+            ReportSink.message("Всi елементи масиву наявні в HashSet.");
         } else {
-            System.out.println("Не всi елементи масиву наявні в HashSet.");
+            ReportSink.message("Не всi елементи масиву наявні в HashSet.");
         }
     }
 }
\ No newline at end of file
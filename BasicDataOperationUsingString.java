@@ -0,0 +1,172 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Клас BasicDataOperationUsingString реалізує повнотекстовий пошук у рядках String.data
+ * через інвертований індекс слів ({@link StringInvertedIndex}).
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними.</li>
+ *   <li>{@link #buildIndex()} - Потоково будує індекс з файлу.</li>
+ *   <li>{@link #findTerm()} - Пошук рядків з першим словом запиту.</li>
+ *   <li>{@link #findAllTerms()} - Пошук рядків з усіма словами запиту (AND).</li>
+ *   <li>{@link #findAnyTerm()} - Пошук рядків з будь-яким словом запиту (OR).</li>
+ *   <li>{@link #findByPrefix()} - Пошук рядків зі словами, що починаються з першого слова запиту.</li>
+ *   <li>{@link #appendQueryLine()} - Дописує запит новим рядком до вже ущільненого індексу.</li>
+ * </ul>
+ *
+ * <p>Запит - це слова через пробіл, наприклад {@code "tall trees"}; регістр не враховується.</p>
+ */
+public class BasicDataOperationUsingString {
+    static final String PATH_TO_DATA_FILE = "list/String.data";
+
+    private static final String BACKEND_INDEX = "InvertedIndex";
+    // скільки перших знайдених позицій виводити
+    private static final int PREVIEW_SIZE = 10;
+
+    private final String dataFilePath;
+    private final List<String> queryTerms;
+    private StringInvertedIndex stringIndex;
+
+    /**
+     * Конструктор, який iнiцiалiзує об'єкт із запитом.
+     *
+     * @param query Рядок запиту
+     * @param dataFilePath Шлях до файлу з рядками
+     */
+    BasicDataOperationUsingString(String query, String dataFilePath) {
+        this.queryTerms = StringInvertedIndex.tokenize(query);
+        this.dataFilePath = dataFilePath;
+    }
+
+    /**
+     * Виконує комплексні операції з рядками: будує індекс і виконує запити.
+     */
+    public void executeDataOperations() {
+        buildIndex();
+
+        if (queryTerms.isEmpty()) {
+            ReportSink.message("Запит не містить жодного слова.");
+            return;
+        }
+
+        findTerm();
+        findAllTerms();
+        findAnyTerm();
+        findByPrefix();
+        appendQueryLine();
+    }
+
+    /**
+     * Будує індекс, читаючи файл потоково, і виводить його обсяг.
+     */
+    void buildIndex() {
+        long timeStart = PerformanceTracker.startOperation();
+
+        stringIndex = DataFileHandler.indexTextFile(dataFilePath);
+
+        PerformanceTracker.displayOperationTime(timeStart, "побудова інвертованого індексу рядків", BACKEND_INDEX, stringIndex.lineCount());
+
+        long postingsBytes = stringIndex.postingsBytes();
+        ReportSink.message("Проіндексовано рядків: {}, слів: {}, позицій слів: {}",
+            stringIndex.lineCount(), stringIndex.termCount(), stringIndex.postingCount());
+        ReportSink.message("Стиснуті списки позицій: {} байт (int[] зайняв би {} байт)",
+            postingsBytes, stringIndex.postingCount() * Integer.BYTES);
+    }
+
+    /**
+     * Шукає рядки з першим словом запиту.
+     */
+    void findTerm() {
+        String term = queryTerms.get(0);
+
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        int[] lines = stringIndex.findTerm(term);
+        event.finish("пошук слова в інвертованому індексі", BACKEND_INDEX, stringIndex.lineCount(), lines.length);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук слова в інвертованому індексі", BACKEND_INDEX, stringIndex.lineCount());
+
+        reportLines("Слово", term, lines);
+    }
+
+    /**
+     * Шукає рядки, що містять усі слова запиту.
+     */
+    void findAllTerms() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        int[] lines = stringIndex.findAll(queryTerms);
+        event.finish("пошук усіх слів (AND) в інвертованому індексі", BACKEND_INDEX, stringIndex.lineCount(), lines.length);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук усіх слів (AND) в інвертованому індексі", BACKEND_INDEX, stringIndex.lineCount());
+
+        reportLines("Усі слова", queryTerms, lines);
+    }
+
+    /**
+     * Шукає рядки, що містять хоча б одне слово запиту.
+     */
+    void findAnyTerm() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        int[] lines = stringIndex.findAny(queryTerms);
+        event.finish("пошук будь-якого слова (OR) в інвертованому індексі", BACKEND_INDEX, stringIndex.lineCount(), lines.length);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук будь-якого слова (OR) в інвертованому індексі", BACKEND_INDEX, stringIndex.lineCount());
+
+        reportLines("Будь-яке слово", queryTerms, lines);
+    }
+
+    /**
+     * Шукає рядки зі словами, що починаються з першого слова запиту.
+     */
+    void findByPrefix() {
+        String prefix = queryTerms.get(0);
+
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        int[] lines = stringIndex.findByPrefix(prefix);
+        event.finish("пошук за префіксом слова в інвертованому індексі", BACKEND_INDEX, stringIndex.lineCount(), lines.length);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за префіксом слова в інвертованому індексі", BACKEND_INDEX, stringIndex.lineCount());
+
+        ReportSink.message("Слів з префіксом '{}': {}", prefix, stringIndex.countTermsWithPrefix(prefix));
+        reportLines("Префікс", prefix, lines);
+    }
+
+    /**
+     * Дописує запит новим рядком до індексу, ущільненого після завантаження, і перевіряє,
+     * що рядок знаходиться за всіма словами запиту.
+     */
+    void appendQueryLine() {
+        long timeStart = PerformanceTracker.startOperation();
+
+        int lineNumber = stringIndex.add(String.join(" ", queryTerms));
+
+        PerformanceTracker.displayOperationTime(timeStart, "додавання рядка до інвертованого індексу", BACKEND_INDEX, stringIndex.lineCount());
+
+        int[] lines = stringIndex.findAll(queryTerms);
+        if (lines.length == 0 || lines[lines.length - 1] != lineNumber) {
+            throw new IllegalStateException("Дописаний рядок " + lineNumber + " не знайдено в індексі");
+        }
+        ReportSink.message("Запит дописано до індексу рядком {}", lineNumber);
+    }
+
+    private static void reportLines(String queryKind, Object query, int[] lines) {
+        if (!ReportSink.isMessageEnabled()) {
+            return;
+        }
+        if (lines.length == 0) {
+            ReportSink.message("{} {}: рядків не знайдено.", queryKind, query);
+            return;
+        }
+        ReportSink.message("{} {}: знайдено рядків {}", queryKind, query, lines.length);
+        ReportSink.message("Перші позиції рядків: {}", Arrays.toString(Arrays.copyOf(lines, Math.min(lines.length, PREVIEW_SIZE))));
+    }
+}
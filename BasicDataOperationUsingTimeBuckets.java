@@ -0,0 +1,126 @@
+import java.time.LocalTime;
+
+/**
+ * Клас BasicDataOperationUsingTimeBuckets відповідає на питання «скільки подій за хвилину/годину»
+ * за лічильниками {@link TimeBucketAggregator}, заповненими під час завантаження LocalTime.
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними.</li>
+ *   <li>{@link #rollUpBuckets()} - Згортає посекундні лічильники у похвилинні та погодинні.</li>
+ *   <li>{@link #findBusiestBuckets()} - Визначає найнавантаженіші секунду, хвилину і годину.</li>
+ *   <li>{@link #countAroundSearch()} - Рахує події в хвилині та годині пошукового значення.</li>
+ *   <li>{@link #reportHourlyHistogram()} - Виводить погодинну гістограму.</li>
+ * </ul>
+ *
+ * <p>Жодна операція не переглядає самі значення: усі працюють за O(b) над лічильниками.</p>
+ */
+public class BasicDataOperationUsingTimeBuckets {
+    private static final String BACKEND_BUCKETS = "TimeBuckets";
+    // найдовший стовпчик гістограми
+    private static final int HISTOGRAM_WIDTH = 40;
+
+    private final LocalTime valueToSearch;
+    private final TimeBucketAggregator perSecond;
+    private TimeBucketAggregator perMinute;
+    private TimeBucketAggregator perHour;
+
+    /**
+     * Конструктор, який iнiцiалiзує об'єкт з посекундними лічильниками і значенням для пошуку.
+     *
+     * @param valueToSearch Значення для пошуку
+     * @param perSecond Посекундні лічильники, заповнені під час завантаження
+     */
+    BasicDataOperationUsingTimeBuckets(LocalTime valueToSearch, TimeBucketAggregator perSecond) {
+        this.valueToSearch = valueToSearch;
+        this.perSecond = perSecond;
+    }
+
+    /**
+     * Виконує комплексні операції з лічильниками інтервалів.
+     */
+    public void executeDataOperations() {
+        if (perSecond.total() == 0) {
+            ReportSink.message("Набір даних порожній.");
+            return;
+        }
+
+        rollUpBuckets();
+        findBusiestBuckets();
+        countAroundSearch();
+        reportHourlyHistogram();
+    }
+
+    /**
+     * Згортає посекундні лічильники у похвилинні та погодинні.
+     */
+    void rollUpBuckets() {
+        long timeStart = PerformanceTracker.startOperation();
+
+        perMinute = perSecond.rollUp(TimeBucketAggregator.Granularity.MINUTE);
+        perHour = perMinute.rollUp(TimeBucketAggregator.Granularity.HOUR);
+
+        PerformanceTracker.displayOperationTime(timeStart, "згортання лiчильникiв iнтервалiв", BACKEND_BUCKETS, perSecond.bucketCount());
+
+        ReportSink.message("Подій: {}, інтервалів: {} секунд, {} хвилин",
+            perSecond.total(), perSecond.bucketCount(), perMinute.bucketCount());
+    }
+
+    /**
+     * Визначає інтервали з найбільшою кількістю подій.
+     */
+    void findBusiestBuckets() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.MinMax());
+
+        int busiestSecond = perSecond.busiestBucket();
+        int busiestMinute = perMinute.busiestBucket();
+        int busiestHour = perHour.busiestBucket();
+        event.finish("пошук найнавантаженiших iнтервалiв", BACKEND_BUCKETS, perSecond.bucketCount(),
+            perMinute.bucketStart(busiestMinute), perHour.bucketStart(busiestHour));
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук найнавантаженiших iнтервалiв", BACKEND_BUCKETS, perSecond.bucketCount());
+
+        ReportSink.message("Найнавантаженіша секунда: {} ({} подій)", perSecond.bucketStart(busiestSecond), perSecond.countAt(busiestSecond));
+        ReportSink.message("Найнавантаженіша хвилина: {} ({} подій)", perMinute.bucketStart(busiestMinute), perMinute.countAt(busiestMinute));
+        ReportSink.message("Найнавантаженіша година: {} ({} подій)", perHour.bucketStart(busiestHour), perHour.countAt(busiestHour));
+    }
+
+    /**
+     * Рахує події в хвилині та годині, що містять пошукове значення, і в п'ятихвилинному вікні до нього.
+     */
+    void countAroundSearch() {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Search());
+
+        long inMinute = perMinute.count(valueToSearch);
+        long inHour = perHour.count(valueToSearch);
+        LocalTime windowStart = valueToSearch.minusMinutes(4);
+        // вікно не переходить через північ
+        long inWindow = windowStart.isAfter(valueToSearch)
+            ? perMinute.countBetween(LocalTime.MIN, valueToSearch)
+            : perMinute.countBetween(windowStart, valueToSearch);
+        event.finish("пiдрахунок подiй в iнтервалах пошукового значення", BACKEND_BUCKETS, perSecond.bucketCount(), inMinute);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пiдрахунок подiй в iнтервалах пошукового значення", BACKEND_BUCKETS, perSecond.bucketCount());
+
+        ReportSink.message("Подій у хвилині {}: {}, у годині: {}", valueToSearch, inMinute, inHour);
+        ReportSink.message("Подій за останні 5 хвилин до {}: {}", valueToSearch, inWindow);
+    }
+
+    /**
+     * Виводить кількість подій за кожну годину доби.
+     */
+    void reportHourlyHistogram() {
+        if (!ReportSink.isMessageEnabled()) {
+            return;
+        }
+        long maxCount = perHour.countAt(perHour.busiestBucket());
+        ReportSink.message("Погодинна гістограма:");
+        for (int hour = 0; hour < perHour.bucketCount(); hour++) {
+            long count = perHour.countAt(hour);
+            int width = (int) (count * HISTOGRAM_WIDTH / maxCount);
+            ReportSink.message("{} {} {}", perHour.bucketStart(hour), String.format("%8d", count), "#".repeat(width));
+        }
+    }
+}
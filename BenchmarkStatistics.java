@@ -0,0 +1,145 @@
+import java.util.Arrays;
+
+/**
+ * Клас BenchmarkStatistics обчислює статистику вибірки вимірювань.
+ *
+ * <p>Надає середнє, стандартне відхилення, процентилі та напівширину довірчого
+ * інтервалу для середнього за розподілом Стьюдента (як у звітах JMH).</p>
+ */
+public class BenchmarkStatistics {
+    private final double[] sortedSamples;
+    private final double mean;
+    private final double standardDeviation;
+
+    /**
+     * Створює статистику для вибірки.
+     *
+     * @param samples Значення вимірювань (масив не змінюється)
+     */
+    public BenchmarkStatistics(double[] samples) {
+        if (samples.length == 0) {
+            throw new IllegalArgumentException("Вибірка вимірювань порожня");
+        }
+        this.sortedSamples = samples.clone();
+        Arrays.sort(this.sortedSamples);
+
+        double sum = 0;
+        for (double sample : samples) {
+            sum += sample;
+        }
+        this.mean = sum / samples.length;
+
+        double squaredDeviations = 0;
+        for (double sample : samples) {
+            squaredDeviations += (sample - mean) * (sample - mean);
+        }
+        this.standardDeviation = samples.length > 1 ? Math.sqrt(squaredDeviations / (samples.length - 1)) : 0.0;
+    }
+
+    public int count() {
+        return sortedSamples.length;
+    }
+
+    public double mean() {
+        return mean;
+    }
+
+    public double standardDeviation() {
+        return standardDeviation;
+    }
+
+    public double min() {
+        return sortedSamples[0];
+    }
+
+    public double max() {
+        return sortedSamples[sortedSamples.length - 1];
+    }
+
+    /**
+     * Повертає процентиль вибірки з лінійною інтерполяцією між сусідніми значеннями.
+     *
+     * @param percentile Процентиль від 0 до 100
+     * @return Значення процентиля
+     */
+    public double percentile(double percentile) {
+        double position = percentile / 100.0 * (sortedSamples.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        double fraction = position - lower;
+        return sortedSamples[lower] + (sortedSamples[upper] - sortedSamples[lower]) * fraction;
+    }
+
+    /**
+     * Повертає напівширину двостороннього довірчого інтервалу для середнього.
+     *
+     * @param confidenceLevel Рівень довіри, наприклад 0.95 або 0.999
+     * @return Напівширина інтервалу (NaN, якщо вимірювання одне)
+     */
+    public double confidenceHalfWidth(double confidenceLevel) {
+        int n = sortedSamples.length;
+        if (n < 2) {
+            return Double.NaN;
+        }
+        double quantile = studentQuantile(1 - (1 - confidenceLevel) / 2, n - 1);
+        return quantile * standardDeviation / Math.sqrt(n);
+    }
+
+    /**
+     * Обчислює квантиль розподілу Стьюдента.
+     * Для 1 і 2 ступенів свободи використовуються точні формули, для більших -
+     * розклад Корніша-Фішера навколо квантиля нормального розподілу.
+     *
+     * @param probability Імовірність (0, 1)
+     * @param degreesOfFreedom Кількість ступенів свободи
+     * @return Квантиль
+     */
+    static double studentQuantile(double probability, int degreesOfFreedom) {
+        if (degreesOfFreedom == 1) {
+            return Math.tan(Math.PI * (probability - 0.5));
+        }
+        if (degreesOfFreedom == 2) {
+            return (2 * probability - 1) / Math.sqrt(2 * probability * (1 - probability));
+        }
+
+        double z = normalQuantile(probability);
+        double v = degreesOfFreedom;
+        double z3 = z * z * z;
+        double z5 = z3 * z * z;
+        double z7 = z5 * z * z;
+        return z
+            + (z3 + z) / (4 * v)
+            + (5 * z5 + 16 * z3 + 3 * z) / (96 * v * v)
+            + (3 * z7 + 19 * z5 + 17 * z3 - 15 * z) / (384 * v * v * v);
+    }
+
+    /**
+     * Обчислює квантиль стандартного нормального розподілу (алгоритм Екляма).
+     */
+    static double normalQuantile(double probability) {
+        double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+            1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+            6.680131188771972e+01, -1.328068155288572e+01};
+        double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+            -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+            3.754408661907416e+00};
+        double low = 0.02425;
+
+        if (probability < low) {
+            double q = Math.sqrt(-2 * Math.log(probability));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (probability > 1 - low) {
+            double q = Math.sqrt(-2 * Math.log(1 - probability));
+            return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        double q = probability - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+            / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+}
@@ -0,0 +1,376 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Клас BoaColumnTable зберігає записи Boa -> власник у стовпцевому вигляді (struct-of-arrays).
+ *
+ * <p>Кожен рядок кодується у словнику одним цілим ідентифікатором, а записи
+ * зберігаються у трьох паралельних масивах int: ідентифікатори кличок, міст і власників.
+ * Пошук за ключем виконується через хеш-індекс з відкритою адресацією над номерами рядків.</p>
+ *
+ * <p>Фільтри та масові операції за значенням (за власником, за містом) - це щільні
+ * цикли порівняння int у суцільному масиві без переходів за посиланнями, тож вони
+ * ефективно використовують кеш процесора і піддаються автовекторизації JIT.</p>
+ */
+public class BoaColumnTable {
+    private static final int NULL_ID = -1;
+    private static final int EMPTY_SLOT = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    // словник рядків: рядок -> ідентифікатор і навпаки
+    private final HashMap<String, Integer> idsByString = new HashMap<>();
+    private String[] stringsById = new String[MIN_CAPACITY];
+    private int stringCount;
+
+    // стовпці таблиці
+    private int[] nicknameIds = new int[MIN_CAPACITY];
+    private int[] cityIds = new int[MIN_CAPACITY];
+    private int[] ownerIds = new int[MIN_CAPACITY];
+    private int rowCount;
+
+    // хеш-індекс (кличка, місто) -> номер рядка, лінійне зондування
+    private int[] indexSlots = newIndex(MIN_CAPACITY * 2);
+
+    /**
+     * Створює порожню таблицю.
+     */
+    public BoaColumnTable() {
+    }
+
+    /**
+     * Створює таблицю з даними звичайної мапи.
+     *
+     * @param source Мапа з даними
+     */
+    public BoaColumnTable(Map<BasicDataOperationUsingMap.Boa, String> source) {
+        for (Map.Entry<BasicDataOperationUsingMap.Boa, String> entry : source.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Повертає ім'я власника за ключем.
+     *
+     * @param key Ключ Boa
+     * @return Ім'я власника або null, якщо ключ відсутній
+     */
+    public String get(BasicDataOperationUsingMap.Boa key) {
+        int row = findRow(key);
+        return row >= 0 ? stringOf(ownerIds[row]) : null;
+    }
+
+    public boolean containsKey(BasicDataOperationUsingMap.Boa key) {
+        return findRow(key) >= 0;
+    }
+
+    /**
+     * Додає або замінює запис.
+     *
+     * @param key Ключ Boa
+     * @param owner Ім'я власника
+     * @return Попереднє ім'я власника або null
+     */
+    public String put(BasicDataOperationUsingMap.Boa key, String owner) {
+        int nicknameId = intern(key.getNickname());
+        int cityId = intern(key.getBirthCity());
+        int ownerId = intern(owner);
+
+        int slot = findSlot(nicknameId, cityId);
+        if (indexSlots[slot] != EMPTY_SLOT) {
+            int row = indexSlots[slot];
+            String previous = stringOf(ownerIds[row]);
+            ownerIds[row] = ownerId;
+            return previous;
+        }
+
+        ensureRowCapacity(rowCount + 1);
+        int row = rowCount++;
+        nicknameIds[row] = nicknameId;
+        cityIds[row] = cityId;
+        ownerIds[row] = ownerId;
+        indexSlots[slot] = row;
+
+        if (rowCount * 2 > indexSlots.length) {
+            rebuildIndex(indexSlots.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Видаляє запис за ключем. Останній рядок переноситься на місце видаленого,
+     * тож стовпці залишаються суцільними.
+     *
+     * @param key Ключ Boa
+     * @return Ім'я власника видаленого запису або null
+     */
+    public String remove(BasicDataOperationUsingMap.Boa key) {
+        int nicknameId = idOf(key.getNickname());
+        int cityId = idOf(key.getBirthCity());
+        if ((nicknameId == NULL_ID && key.getNickname() != null) || (cityId == NULL_ID && key.getBirthCity() != null)) {
+            return null;
+        }
+
+        int slot = findSlot(nicknameId, cityId);
+        int row = indexSlots[slot];
+        if (row == EMPTY_SLOT) {
+            return null;
+        }
+        String previous = stringOf(ownerIds[row]);
+
+        deleteSlot(slot);
+        int lastRow = --rowCount;
+        if (row != lastRow) {
+            nicknameIds[row] = nicknameIds[lastRow];
+            cityIds[row] = cityIds[lastRow];
+            ownerIds[row] = ownerIds[lastRow];
+            indexSlots[findSlot(nicknameIds[row], cityIds[row])] = row;
+        }
+        return previous;
+    }
+
+    /**
+     * Рахує записи з вказаним власником.
+     *
+     * @param owner Ім'я власника
+     * @return Кількість записів
+     */
+    public int countByOwner(String owner) {
+        int ownerId = idOf(owner);
+        if (ownerId == NULL_ID && owner != null) {
+            return 0;
+        }
+        return countMatches(ownerIds, ownerId);
+    }
+
+    /**
+     * Рахує записи з вказаним містом народження.
+     *
+     * @param city Місто народження
+     * @return Кількість записів
+     */
+    public int countByCity(String city) {
+        int cityId = idOf(city);
+        if (cityId == NULL_ID && city != null) {
+            return 0;
+        }
+        return countMatches(cityIds, cityId);
+    }
+
+    /**
+     * Повертає номери рядків з вказаним власником.
+     *
+     * @param owner Ім'я власника
+     * @return Масив номерів рядків
+     */
+    public int[] rowsByOwner(String owner) {
+        int ownerId = idOf(owner);
+        if (ownerId == NULL_ID && owner != null) {
+            return new int[0];
+        }
+        return selectMatches(ownerIds, ownerId);
+    }
+
+    /**
+     * Повертає номери рядків з вказаним містом народження.
+     *
+     * @param city Місто народження
+     * @return Масив номерів рядків
+     */
+    public int[] rowsByCity(String city) {
+        int cityId = idOf(city);
+        if (cityId == NULL_ID && city != null) {
+            return new int[0];
+        }
+        return selectMatches(cityIds, cityId);
+    }
+
+    /**
+     * Відтворює ключ Boa для рядка таблиці.
+     *
+     * @param row Номер рядка
+     * @return Ключ Boa
+     */
+    public BasicDataOperationUsingMap.Boa keyAt(int row) {
+        return new BasicDataOperationUsingMap.Boa(stringOf(nicknameIds[row]), stringOf(cityIds[row]));
+    }
+
+    /**
+     * Повертає ім'я власника для рядка таблиці.
+     *
+     * @param row Номер рядка
+     * @return Ім'я власника
+     */
+    public String ownerAt(int row) {
+        return stringOf(ownerIds[row]);
+    }
+
+    /**
+     * Видаляє всі записи з вказаним власником за один прохід ущільнення стовпців.
+     * Хеш-індекс після цього перебудовується.
+     *
+     * @param owner Ім'я власника
+     * @return Кількість видалених записів
+     */
+    public int removeByOwner(String owner) {
+        int ownerId = idOf(owner);
+        if (ownerId == NULL_ID && owner != null) {
+            return 0;
+        }
+
+        int kept = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (ownerIds[row] != ownerId) {
+                nicknameIds[kept] = nicknameIds[row];
+                cityIds[kept] = cityIds[row];
+                ownerIds[kept] = ownerIds[row];
+                kept++;
+            }
+        }
+
+        int removed = rowCount - kept;
+        rowCount = kept;
+        if (removed > 0) {
+            rebuildIndex(indexSlots.length);
+        }
+        return removed;
+    }
+
+    // ===== Щільні цикли над стовпцями =====
+
+    private int countMatches(int[] column, int id) {
+        int count = 0;
+        for (int row = 0; row < rowCount; row++) {
+            // без розгалуження: порівняння перетворюється на 0 або 1
+            count += column[row] == id ? 1 : 0;
+        }
+        return count;
+    }
+
+    private int[] selectMatches(int[] column, int id) {
+        int[] rows = new int[countMatches(column, id)];
+        int position = 0;
+        for (int row = 0; row < rowCount && position < rows.length; row++) {
+            if (column[row] == id) {
+                rows[position++] = row;
+            }
+        }
+        return rows;
+    }
+
+    // ===== Словник рядків =====
+
+    private int intern(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        Integer id = idsByString.get(value);
+        if (id != null) {
+            return id;
+        }
+        if (stringCount == stringsById.length) {
+            stringsById = Arrays.copyOf(stringsById, stringCount * 2);
+        }
+        stringsById[stringCount] = value;
+        idsByString.put(value, stringCount);
+        return stringCount++;
+    }
+
+    private int idOf(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        Integer id = idsByString.get(value);
+        return id != null ? id : NULL_ID;
+    }
+
+    private String stringOf(int id) {
+        return id == NULL_ID ? null : stringsById[id];
+    }
+
+    // ===== Хеш-індекс =====
+
+    private static int[] newIndex(int capacity) {
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, EMPTY_SLOT);
+        return slots;
+    }
+
+    private static int hash(int nicknameId, int cityId) {
+        int hash = nicknameId * 31 + cityId;
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private int findRow(BasicDataOperationUsingMap.Boa key) {
+        int nicknameId = idOf(key.getNickname());
+        int cityId = idOf(key.getBirthCity());
+        if ((nicknameId == NULL_ID && key.getNickname() != null) || (cityId == NULL_ID && key.getBirthCity() != null)) {
+            // рядка немає у словнику - немає і запису
+            return -1;
+        }
+        return indexSlots[findSlot(nicknameId, cityId)];
+    }
+
+    /**
+     * Повертає слот з рядком для ключа або перший порожній слот на шляху зондування.
+     */
+    private int findSlot(int nicknameId, int cityId) {
+        int mask = indexSlots.length - 1;
+        int slot = hash(nicknameId, cityId) & mask;
+        while (true) {
+            int row = indexSlots[slot];
+            if (row == EMPTY_SLOT || (nicknameIds[row] == nicknameId && cityIds[row] == cityId)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Звільняє слот зі зсувом наступних записів ланцюжка назад,
+     * щоб лінійне зондування не потребувало позначок видалення.
+     */
+    private void deleteSlot(int slot) {
+        int mask = indexSlots.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (indexSlots[next] != EMPTY_SLOT) {
+            int row = indexSlots[next];
+            int home = hash(nicknameIds[row], cityIds[row]) & mask;
+            // запис можна перенести в дірку, якщо його домашній слот не лежить між діркою і ним
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                indexSlots[hole] = row;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        indexSlots[hole] = EMPTY_SLOT;
+    }
+
+    private void rebuildIndex(int capacity) {
+        int required = MIN_CAPACITY * 2;
+        while (required < Math.max(capacity, rowCount * 2)) {
+            required <<= 1;
+        }
+        indexSlots = newIndex(required);
+        for (int row = 0; row < rowCount; row++) {
+            indexSlots[findSlot(nicknameIds[row], cityIds[row])] = row;
+        }
+    }
+
+    private void ensureRowCapacity(int required) {
+        if (required <= nicknameIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, nicknameIds.length * 2);
+        nicknameIds = Arrays.copyOf(nicknameIds, capacity);
+        cityIds = Arrays.copyOf(cityIds, capacity);
+        ownerIds = Arrays.copyOf(ownerIds, capacity);
+    }
+}
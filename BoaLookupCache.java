@@ -0,0 +1,126 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Клас BoaLookupCache - обмежений кеш пошуку за ключем Boa з витісненням LRU.
+ *
+ * <p>Кеш стоїть перед повільним сховищем: при промаху значення завантажується через
+ * loader (read-through) і запам'ятовується. Записи зберігаються у LinkedHashMap
+ * з порядком доступу (accessOrder = true), тож найдавніше використаний запис
+ * витісняється першим, щойно розмір перевищує maximumSize.</p>
+ *
+ * <p>Відсутні у сховищі ключі теж кешуються, щоб повторні промахи не зверталися
+ * до сховища. Лічильники влучань, промахів і витіснень виводяться через
+ * {@link PerformanceTracker#displayCacheStatistics(String, long, long, long)}.</p>
+ */
+public class BoaLookupCache {
+    // маркер ключа, якого немає у сховищі (порівнюється за посиланням)
+    private static final String ABSENT = new String("<absent>");
+
+    private final int maximumSize;
+    private final Function<BasicDataOperationUsingMap.Boa, String> loader;
+    private final LinkedHashMap<BasicDataOperationUsingMap.Boa, String> entries;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Створює кеш заданого розміру.
+     *
+     * @param maximumSize Максимальна кількість записів у кеші
+     * @param loader Функція завантаження значення з повільного сховища
+     */
+    public BoaLookupCache(int maximumSize, Function<BasicDataOperationUsingMap.Boa, String> loader) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Розмір кешу має бути додатним: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.loader = loader;
+        this.entries = new LinkedHashMap<BasicDataOperationUsingMap.Boa, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BasicDataOperationUsingMap.Boa, String> eldest) {
+                if (size() > BoaLookupCache.this.maximumSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Повертає значення за ключем, при промаху завантажуючи його зі сховища.
+     *
+     * @param key Ключ Boa
+     * @return Ім'я власника або null, якщо ключа немає у сховищі
+     */
+    public String get(BasicDataOperationUsingMap.Boa key) {
+        String value = entries.get(key);
+        if (value != null) {
+            hitCount++;
+            return value == ABSENT ? null : value;
+        }
+
+        missCount++;
+        value = loader.apply(key);
+        entries.put(key, value != null ? value : ABSENT);
+        return value;
+    }
+
+    /**
+     * Видаляє ключ з кешу після зміни даних у сховищі.
+     *
+     * @param key Ключ Boa
+     */
+    public void invalidate(BasicDataOperationUsingMap.Boa key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Очищує кеш, не скидаючи лічильників.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Повертає частку влучань серед усіх звернень.
+     *
+     * @return Значення від 0 до 1 (0, якщо звернень ще не було)
+     */
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Скидає лічильники влучань, промахів і витіснень.
+     */
+    public void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+}
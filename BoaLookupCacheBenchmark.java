@@ -0,0 +1,141 @@
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * Клас BoaLookupCacheBenchmark порівнює пошук у повільному сховищі напряму та через BoaLookupCache.
+ *
+ * <p>Ключі запитів мають розподіл Зіпфа (кілька "гарячих" ключів отримують більшість
+ * звернень), як у реальному навантаженні. Повільне сховище імітується затримкою
+ * на кожне звернення. Для кожного розміру кешу виводиться частка влучань
+ * і середня тривалість пошуку.</p>
+ *
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java BoaLookupCacheBenchmark
+ * java BoaLookupCacheBenchmark 100000 1000000 1.1
+ * }
+ * </pre>
+ */
+public class BoaLookupCacheBenchmark {
+    private static final long SEED = 42L;
+    private static final long STORE_LATENCY_NANOS = 2_000;
+    private static final int[] CACHE_SIZES = {100, 1_000, 10_000};
+
+    private final BasicDataOperationUsingMap.Boa[] keys;
+    private final HashMap<BasicDataOperationUsingMap.Boa, String> store = new HashMap<>();
+    private final int[] requestSequence;
+
+    private long storeCalls;
+    private long sink;
+
+    BoaLookupCacheBenchmark(int keyCount, int requestCount, double skew) {
+        Random random = new Random(SEED);
+        keys = new BasicDataOperationUsingMap.Boa[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = new BasicDataOperationUsingMap.Boa("Boa-" + i, "Місто-" + (i % 97));
+            store.put(keys[i], "Власник-" + (i % 1_000));
+        }
+        requestSequence = zipfSequence(keyCount, requestCount, skew, random);
+    }
+
+    /**
+     * Генерує послідовність індексів ключів за розподілом Зіпфа.
+     * Імовірність ключа з рангом k пропорційна 1 / k^skew.
+     */
+    private static int[] zipfSequence(int keyCount, int requestCount, double skew, Random random) {
+        double[] cumulative = new double[keyCount];
+        double total = 0;
+        for (int rank = 0; rank < keyCount; rank++) {
+            total += 1.0 / Math.pow(rank + 1, skew);
+            cumulative[rank] = total;
+        }
+
+        int[] sequence = new int[requestCount];
+        for (int i = 0; i < requestCount; i++) {
+            double point = random.nextDouble() * total;
+            int low = 0;
+            int high = keyCount - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cumulative[middle] < point) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            sequence[i] = low;
+        }
+        return sequence;
+    }
+
+    /**
+     * Імітує звернення до повільного сховища: активне очікування та пошук у HashMap.
+     */
+    private String loadFromStore(BasicDataOperationUsingMap.Boa key) {
+        storeCalls++;
+        long deadline = System.nanoTime() + STORE_LATENCY_NANOS;
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        return store.get(key);
+    }
+
+    private long runWithoutCache() {
+        long timeStart = System.nanoTime();
+        for (int index : requestSequence) {
+            String value = loadFromStore(keys[index]);
+            sink += value != null ? value.length() : 0;
+        }
+        return System.nanoTime() - timeStart;
+    }
+
+    private long runWithCache(BoaLookupCache cache) {
+        long timeStart = System.nanoTime();
+        for (int index : requestSequence) {
+            String value = cache.get(keys[index]);
+            sink += value != null ? value.length() : 0;
+        }
+        return System.nanoTime() - timeStart;
+    }
+
+    void run() {
+        int requestCount = requestSequence.length;
+        System.out.println("Ключів: " + keys.length + ", запитів: " + requestCount
+            + ", затримка сховища: " + STORE_LATENCY_NANOS + " нс");
+
+        long baselineNanos = runWithoutCache();
+        double baselinePerRequest = (double) baselineNanos / requestCount;
+        System.out.println(String.format("Без кешу: %.1f нс на пошук", baselinePerRequest));
+
+        for (int cacheSize : CACHE_SIZES) {
+            BoaLookupCache cache = new BoaLookupCache(cacheSize, this::loadFromStore);
+            storeCalls = 0;
+            long elapsedNanos = runWithCache(cache);
+            double perRequest = (double) elapsedNanos / requestCount;
+
+            System.out.println(String.format("Кеш на %d записів: %.1f нс на пошук, прискорення x%.1f, звернень до сховища %d",
+                cacheSize, perRequest, baselinePerRequest / perRequest, storeCalls));
+            PerformanceTracker.displayCacheStatistics("BoaLookupCache[" + cacheSize + "]",
+                cache.hitCount(), cache.missCount(), cache.evictionCount());
+        }
+
+        // значення використовується, щоб JIT не відкинув цикли пошуку
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    /**
+     * Головний метод для запуску порівняння.
+     *
+     * @param args [кількість ключів] [кількість запитів] [показник перекосу Зіпфа]
+     */
+    public static void main(String[] args) {
+        int keyCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int requestCount = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        double skew = args.length > 2 ? Double.parseDouble(args[2]) : 1.0;
+
+        new BoaLookupCacheBenchmark(keyCount, requestCount, skew).run();
+    }
+}
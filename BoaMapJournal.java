@@ -0,0 +1,401 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Клас BoaMapJournal зберігає зміни мапи Boa -> власник у журналі попереднього запису (WAL)
+ * та у періодичних двійкових знімках.
+ *
+ * <p>Кожна операція додавання або видалення дописується в кінець файлу журналу.
+ * Записи накопичуються в буфері й скидаються на диск групою: один
+ * {@link FileChannel#force(boolean)} на групу з {@code groupSize} операцій
+ * (або при явному {@link #commit()}), а не на кожну операцію.</p>
+ *
+ * <p>Формат запису журналу: [довжина int][CRC32 int][тип byte][рядки]. Рядок - це
+ * [довжина int][байти UTF-8], довжина -1 позначає null. Незавершений або пошкоджений
+ * запис наприкінці файлу (наприклад, після аварійного завершення) відкидається.</p>
+ *
+ * <p>Знімок містить усі записи мапи та замінює собою журнал: після запису знімка
+ * журнал очищується. При старті {@link #restore(Map)} завантажує останній знімок
+ * і відтворює хвіст журналу. Повторне відтворення вже врахованих у знімку операцій
+ * (аварія між заміною знімка та очищенням журналу) дає той самий результат,
+ * бо для кожного ключа визначальною є остання операція.</p>
+ */
+public class BoaMapJournal implements AutoCloseable {
+    private static final int SNAPSHOT_MAGIC = 0x424F4153;
+    private static final byte OPERATION_PUT = 1;
+    private static final byte OPERATION_REMOVE = 2;
+
+    private static final String JOURNAL_FILE = "boa.wal";
+    private static final String SNAPSHOT_FILE = "boa.snapshot";
+
+    private static final int DEFAULT_GROUP_SIZE = 64;
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private final Path journalPath;
+    private final Path snapshotPath;
+    private final int groupSize;
+    private final boolean persistedStateFound;
+
+    private FileChannel journalChannel;
+    private ByteBuffer pendingRecords = ByteBuffer.allocate(64 * 1024);
+    private int pendingCount;
+    private long recordsSinceSnapshot;
+    private long groupCommitCount;
+
+    /**
+     * Відкриває журнал у каталозі з типовим розміром групи.
+     *
+     * @param directory Каталог для файлів журналу та знімка
+     */
+    public BoaMapJournal(Path directory) {
+        this(directory, DEFAULT_GROUP_SIZE);
+    }
+
+    /**
+     * Відкриває журнал у каталозі.
+     *
+     * @param directory Каталог для файлів журналу та знімка
+     * @param groupSize Кількість операцій, після якої група скидається на диск
+     */
+    public BoaMapJournal(Path directory, int groupSize) {
+        if (groupSize <= 0) {
+            throw new IllegalArgumentException("Розмір групи має бути додатним: " + groupSize);
+        }
+        this.journalPath = directory.resolve(JOURNAL_FILE);
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        this.groupSize = groupSize;
+        this.persistedStateFound = Files.exists(snapshotPath) || Files.exists(journalPath);
+        try {
+            Files.createDirectories(directory);
+            this.journalChannel = openJournalChannel();
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Відновлює мапу: завантажує останній знімок і відтворює хвіст журналу.
+     * Пошкоджений хвіст журналу обрізається, щоб нові записи йшли після останнього цілого.
+     *
+     * @param target Мапа, до якої додаються відновлені записи
+     * @return Кількість відтворених записів журналу
+     */
+    public long restore(Map<BasicDataOperationUsingMap.Boa, String> target) {
+        try {
+            if (Files.exists(snapshotPath)) {
+                readSnapshot(target);
+            }
+            long validLength = replayJournal(target);
+            if (journalChannel.size() > validLength) {
+                journalChannel.truncate(validLength);
+                journalChannel.force(true);
+            }
+            journalChannel.position(journalChannel.size());
+            return recordsSinceSnapshot;
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Додає до журналу операцію додавання (або заміни) запису.
+     *
+     * @param key Ключ Boa
+     * @param owner Ім'я власника
+     */
+    public void logPut(BasicDataOperationUsingMap.Boa key, String owner) {
+        appendRecord(OPERATION_PUT, key, owner);
+    }
+
+    /**
+     * Додає до журналу операцію видалення запису за ключем.
+     *
+     * @param key Ключ Boa
+     */
+    public void logRemove(BasicDataOperationUsingMap.Boa key) {
+        appendRecord(OPERATION_REMOVE, key, null);
+    }
+
+    /**
+     * Записує накопичену групу операцій і скидає її на диск одним викликом force.
+     */
+    public void commit() {
+        if (pendingCount == 0) {
+            return;
+        }
+        try {
+            pendingRecords.flip();
+            while (pendingRecords.hasRemaining()) {
+                journalChannel.write(pendingRecords);
+            }
+            journalChannel.force(false);
+            pendingRecords.clear();
+            pendingCount = 0;
+            groupCommitCount++;
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Записує компактний знімок мапи та очищує журнал.
+     * Знімок спершу пишеться у тимчасовий файл і атомарно замінює попередній,
+     * тож аварія під час запису не пошкоджує останній цілий знімок.
+     *
+     * @param source Поточний вміст мапи
+     */
+    public void snapshot(Map<BasicDataOperationUsingMap.Boa, String> source) {
+        commit();
+        Path temporaryPath = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+            output.writeInt(SNAPSHOT_MAGIC);
+            output.writeInt(source.size());
+            for (Map.Entry<BasicDataOperationUsingMap.Boa, String> entry : source.entrySet()) {
+                writeString(output, entry.getKey().getNickname());
+                writeString(output, entry.getKey().getBirthCity());
+                writeString(output, entry.getValue());
+            }
+            output.flush();
+            channel.force(true);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+
+        try {
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            // перейменування стає довговічним лише після скидання каталогу, інакше після аварії
+            // може залишитися старий знімок при вже очищеному журналі
+            forceDirectory(snapshotPath.getParent());
+            // після заміни знімка журнал більше не потрібен
+            journalChannel.truncate(0);
+            journalChannel.force(true);
+            recordsSinceSnapshot = 0;
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Скидає на диск запис каталогу. Там, де каталог не відкривається як файл (Windows),
+     * така синхронізація недоступна, і помилка ігнорується.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioException) {
+            // платформа не підтримує синхронізацію каталогу
+        }
+    }
+
+    /**
+     * Повідомляє, чи існували знімок або файл журналу до відкриття. Якщо так, відновлений
+     * стан є справжнім, навіть порожнім (усі записи могли бути видалені навмисно).
+     *
+     * @return true, якщо в каталозі вже був знімок або журнал
+     */
+    public boolean hasPersistedState() {
+        return persistedStateFound;
+    }
+
+    /**
+     * Повертає кількість записів журналу після останнього знімка.
+     * Може використовуватися для рішення, коли робити наступний знімок.
+     *
+     * @return Кількість записів
+     */
+    public long recordsSinceSnapshot() {
+        return recordsSinceSnapshot;
+    }
+
+    /**
+     * Повертає кількість груп, скинутих на диск.
+     *
+     * @return Кількість викликів force для журналу
+     */
+    public long groupCommitCount() {
+        return groupCommitCount;
+    }
+
+    /**
+     * Скидає незаписану групу та закриває журнал.
+     */
+    @Override
+    public void close() {
+        commit();
+        try {
+            journalChannel.close();
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
+
+    // ===== Запис журналу =====
+
+    private FileChannel openJournalChannel() throws IOException {
+        FileChannel channel = FileChannel.open(journalPath,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private void appendRecord(byte operation, BasicDataOperationUsingMap.Boa key, String owner) {
+        byte[] nickname = encode(key.getNickname());
+        byte[] city = encode(key.getBirthCity());
+        byte[] value = encode(owner);
+
+        int bodyLength = 1 + encodedLength(nickname) + encodedLength(city)
+            + (operation == OPERATION_PUT ? encodedLength(value) : 0);
+        ensurePendingCapacity(RECORD_HEADER_SIZE + bodyLength);
+
+        int recordStart = pendingRecords.position();
+        pendingRecords.putInt(bodyLength);
+        pendingRecords.putInt(0);
+        int bodyStart = pendingRecords.position();
+        pendingRecords.put(operation);
+        putString(pendingRecords, nickname);
+        putString(pendingRecords, city);
+        if (operation == OPERATION_PUT) {
+            putString(pendingRecords, value);
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(pendingRecords.array(), bodyStart, bodyLength);
+        pendingRecords.putInt(recordStart + 4, (int) checksum.getValue());
+
+        pendingCount++;
+        recordsSinceSnapshot++;
+        if (pendingCount >= groupSize) {
+            commit();
+        }
+    }
+
+    private void ensurePendingCapacity(int bytes) {
+        if (pendingRecords.remaining() >= bytes) {
+            return;
+        }
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(pendingRecords.capacity() * 2, pendingRecords.position() + bytes));
+        pendingRecords.flip();
+        grown.put(pendingRecords);
+        pendingRecords = grown;
+    }
+
+    private static byte[] encode(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int encodedLength(byte[] bytes) {
+        return 4 + (bytes != null ? bytes.length : 0);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    // ===== Відновлення =====
+
+    private long replayJournal(Map<BasicDataOperationUsingMap.Boa, String> target) throws IOException {
+        recordsSinceSnapshot = 0;
+        journalChannel.position(0);
+        DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(journalChannel), 64 * 1024));
+        long validLength = 0;
+        long journalSize = journalChannel.size();
+
+        while (validLength + RECORD_HEADER_SIZE <= journalSize) {
+            int bodyLength = input.readInt();
+            int expectedChecksum = input.readInt();
+            if (bodyLength <= 0 || validLength + RECORD_HEADER_SIZE + bodyLength > journalSize) {
+                break;
+            }
+            byte[] body = new byte[bodyLength];
+            input.readFully(body);
+
+            CRC32 checksum = new CRC32();
+            checksum.update(body, 0, bodyLength);
+            if ((int) checksum.getValue() != expectedChecksum) {
+                break;
+            }
+
+            ByteBuffer record = ByteBuffer.wrap(body);
+            byte operation = record.get();
+            BasicDataOperationUsingMap.Boa key = new BasicDataOperationUsingMap.Boa(getString(record), getString(record));
+            if (operation == OPERATION_PUT) {
+                target.put(key, getString(record));
+            } else if (operation == OPERATION_REMOVE) {
+                target.remove(key);
+            } else {
+                break;
+            }
+
+            validLength += RECORD_HEADER_SIZE + bodyLength;
+            recordsSinceSnapshot++;
+        }
+        return validLength;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private void readSnapshot(Map<BasicDataOperationUsingMap.Boa, String> target) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath), 64 * 1024))) {
+            if (input.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Файл не є знімком мапи Boa: " + snapshotPath);
+            }
+            int entryCount = input.readInt();
+            for (int i = 0; i < entryCount; i++) {
+                BasicDataOperationUsingMap.Boa key = new BasicDataOperationUsingMap.Boa(readString(input), readString(input));
+                target.put(key, readString(input));
+            }
+        } catch (EOFException eofException) {
+            throw new IOException("Знімок мапи Boa обрізаний: " + snapshotPath, eofException);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
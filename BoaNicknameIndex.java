@@ -0,0 +1,151 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Клас BoaNicknameIndex - впорядкований індекс ключів Boa за кличкою.
+ *
+ * <p>HashMap відповідає лише на точний запит за парою (кличка, місто). Індекс зберігає
+ * клички у TreeMap (червоно-чорне дерево), тому запити за префіксом, за кличкою з будь-яким
+ * містом та за лексикографічним діапазоном виконуються за O(log n + k), де k - кількість
+ * знайдених ключів, без повного перегляду мапи.</p>
+ *
+ * <p>Клички впорядковані тим самим порівнянням, що й
+ * {@link BasicDataOperationUsingMap.Boa#compareTo(BasicDataOperationUsingMap.Boa)} (за спаданням),
+ * тож результати запитів ідуть у тому ж порядку, що й відсортована мапа.</p>
+ *
+ * <p>Ключі з однаковою кличкою зберігаються у TreeSet з природним порядком
+ * {@link BasicDataOperationUsingMap.Boa#compareTo(BasicDataOperationUsingMap.Boa)}.
+ * Ключі без клички (nickname == null) не індексуються.</p>
+ */
+public class BoaNicknameIndex {
+    private final TreeMap<String, NavigableSet<BasicDataOperationUsingMap.Boa>> keysByNickname =
+        new TreeMap<>(BasicDataOperationUsingMap.Boa::compareNicknames);
+    private int size;
+
+    /**
+     * Створює індекс з початковим набором ключів.
+     *
+     * @param keys Ключі Boa
+     */
+    public BoaNicknameIndex(Collection<BasicDataOperationUsingMap.Boa> keys) {
+        for (BasicDataOperationUsingMap.Boa key : keys) {
+            add(key);
+        }
+    }
+
+    /**
+     * Додає ключ до індексу.
+     *
+     * @param key Ключ Boa
+     */
+    public void add(BasicDataOperationUsingMap.Boa key) {
+        if (key == null || key.getNickname() == null) {
+            return;
+        }
+        if (keysByNickname.computeIfAbsent(key.getNickname(), nickname -> new TreeSet<>()).add(key)) {
+            size++;
+        }
+    }
+
+    /**
+     * Видаляє ключ з індексу.
+     *
+     * @param key Ключ Boa
+     */
+    public void remove(BasicDataOperationUsingMap.Boa key) {
+        if (key == null || key.getNickname() == null) {
+            return;
+        }
+        NavigableSet<BasicDataOperationUsingMap.Boa> keys = keysByNickname.get(key.getNickname());
+        if (keys != null && keys.remove(key)) {
+            size--;
+            if (keys.isEmpty()) {
+                keysByNickname.remove(key.getNickname());
+            }
+        }
+    }
+
+    /**
+     * Повертає кількість проіндексованих ключів.
+     *
+     * @return Кількість ключів
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Знаходить усі ключі з вказаною кличкою незалежно від міста.
+     *
+     * @param nickname Кличка
+     * @return Ключі з цією кличкою (порожня множина, якщо таких немає)
+     */
+    public NavigableSet<BasicDataOperationUsingMap.Boa> findByNickname(String nickname) {
+        NavigableSet<BasicDataOperationUsingMap.Boa> keys = keysByNickname.get(nickname);
+        return keys != null ? Collections.unmodifiableNavigableSet(keys) : Collections.emptyNavigableSet();
+    }
+
+    /**
+     * Знаходить усі ключі, кличка яких починається з префікса.
+     *
+     * @param prefix Префікс клички (наприклад, "Ко")
+     * @return Ключі в природному порядку Boa (за спаданням клички)
+     */
+    public List<BasicDataOperationUsingMap.Boa> findByPrefix(String prefix) {
+        if (prefix.isEmpty()) {
+            return collect(keysByNickname);
+        }
+        // порядок спадний: спершу йде межа, більша за всі клички з префіксом, а сам префікс - останнім
+        String upperBound = prefixUpperBound(prefix);
+        NavigableMap<String, NavigableSet<BasicDataOperationUsingMap.Boa>> range = upperBound != null
+            ? keysByNickname.subMap(upperBound, false, prefix, true)
+            : keysByNickname.headMap(prefix, true);
+        return collect(range);
+    }
+
+    /**
+     * Знаходить усі ключі з кличкою в лексикографічному діапазоні [from, to].
+     *
+     * @param from Нижня межа (включно)
+     * @param to Верхня межа (включно)
+     * @return Ключі в природному порядку Boa (за спаданням клички)
+     */
+    public List<BasicDataOperationUsingMap.Boa> findInRange(String from, String to) {
+        if (from.compareTo(to) > 0) {
+            return Collections.emptyList();
+        }
+        return collect(keysByNickname.subMap(to, true, from, true));
+    }
+
+    /**
+     * Обчислює найменший рядок, більший за всі рядки з цим префіксом:
+     * останній символ, менший за Character.MAX_VALUE, збільшується на одиницю.
+     *
+     * @return Верхня межа або null, якщо префікс складається лише з Character.MAX_VALUE
+     */
+    private static String prefixUpperBound(String prefix) {
+        char[] chars = prefix.toCharArray();
+        for (int i = chars.length - 1; i >= 0; i--) {
+            if (chars[i] != Character.MAX_VALUE) {
+                chars[i]++;
+                return new String(chars, 0, i + 1);
+            }
+        }
+        return null;
+    }
+
+    private static List<BasicDataOperationUsingMap.Boa> collect(Map<String, NavigableSet<BasicDataOperationUsingMap.Boa>> range) {
+        List<BasicDataOperationUsingMap.Boa> result = new ArrayList<>();
+        for (NavigableSet<BasicDataOperationUsingMap.Boa> keys : range.values()) {
+            result.addAll(keys);
+        }
+        return result;
+    }
+}
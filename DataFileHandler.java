@@ -3,13 +3,17 @@ import java.io.BufferedWriter;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 
 /**
- * Клас DataFileHandler управляє роботою з файлами даних LocalTime.
+ * Клас DataFileHandler управляє роботою з файлами часових даних (LocalTime, LocalDate, LocalDateTime).
  */
 public class DataFileHandler {
+    private static final String DATA_DIRECTORY = "list/";
+
     /**
      * Завантажує масив об'єктів LocalTime з файлу.
      * 
@@ -17,17 +21,23 @@ public class DataFileHandler {
      * @return Масив об'єктів LocalTime.
      */
     public static LocalTime[] loadArrayFromFile(String filePath) {
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Load());
         DateTimeFormatter timeFormatter = DateTimeFormatter.ISO_TIME;
         LocalTime[] temporaryArray = new LocalTime[1000];
         int currentIndex = 0;
 
-        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath))) {
+        // файли читаються як UTF-8 незалежно від кодування платформи, інакше BOM не розпізнається
+        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
             String currentLine;
             while ((currentLine = fileReader.readLine()) != null) {
                 // Видаляємо можливі невидимі символи та BOM
                 currentLine = currentLine.trim().replaceAll("^\\uFEFF", "");
                 if (!currentLine.isEmpty()) {
                     LocalTime parsedDateTime = LocalTime.parse(currentLine, timeFormatter);
+                    if (currentIndex == temporaryArray.length) {
+                        // згенеровані набори можуть бути значно більшими за тестові файли
+                        temporaryArray = Arrays.copyOf(temporaryArray, temporaryArray.length * 2);
+                    }
                     temporaryArray[currentIndex++] = parsedDateTime;
                 }
             }
@@ -37,17 +47,258 @@ public class DataFileHandler {
 
         LocalTime[] resultArray = new LocalTime[currentIndex];
         System.arraycopy(temporaryArray, 0, resultArray, 0, currentIndex);
+        event.finish("завантаження масиву з файлу", "array", currentIndex, filePath);
 
         return resultArray;
     }
 
+    /**
+     * Повертає шлях до файлу даних типу в каталозі list/ (наприклад, list/LocalDate.data).
+     * 
+     * @param codec Кодек типу
+     * @return Шлях до файлу
+     */
+    public static String dataFilePath(TemporalCodec<?> codec) {
+        return dataFilePath(codec.name());
+    }
+
+    /**
+     * Повертає шлях до файлу даних типу в каталозі list/ (наприклад, list/double.data).
+     * 
+     * @param typeName Назва типу, як у назві файлу
+     * @return Шлях до файлу
+     */
+    public static String dataFilePath(String typeName) {
+        return DATA_DIRECTORY + typeName + ".data";
+    }
+
+    /**
+     * Завантажує часовий набір з файлу одразу у стовпець ключів long. Кожен рядок
+     * розбирається у тимчасове значення, яке одразу кодується в ключ, тож у пам'яті
+     * залишається лише масив long, а не масив об'єктів.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @param codec Кодек типу значень у файлі.
+     * @return Незмінний набір даних.
+     */
+    public static <T extends Comparable<? super T>> TemporalDataset<T> loadDatasetFromFile(String filePath, TemporalCodec<T> codec) {
+        return loadDatasetFromFile(filePath, codec, null);
+    }
+
+    /**
+     * Завантажує набір LocalTime і одночасно рахує значення в інтервалах доби,
+     * тож гістограма не потребує другого проходу.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @param codec Кодек типу значень у файлі.
+     * @param timeBuckets Лічильники інтервалів (null - не рахувати).
+     * @return Незмінний набір даних.
+     * @throws IllegalArgumentException якщо лічильники передано для типу, відмінного від LocalTime
+     */
+    public static <T extends Comparable<? super T>> TemporalDataset<T> loadDatasetFromFile(String filePath, TemporalCodec<T> codec,
+            TimeBucketAggregator timeBuckets) {
+        if (timeBuckets != null && codec != TemporalCodec.LOCAL_TIME) {
+            throw new IllegalArgumentException("Інтервали доби рахуються лише для LocalTime, а не для " + codec);
+        }
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Load());
+        long[] temporaryColumn = new long[1000];
+        int currentIndex = 0;
+
+        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
+            String currentLine;
+            while ((currentLine = fileReader.readLine()) != null) {
+                // Видаляємо можливі невидимі символи та BOM
+                currentLine = stripLine(currentLine, currentIndex);
+                if (!currentLine.isEmpty()) {
+                    long key = codec.encode(codec.parse(currentLine));
+                    if (currentIndex == temporaryColumn.length) {
+                        temporaryColumn = Arrays.copyOf(temporaryColumn, temporaryColumn.length * 2);
+                    }
+                    temporaryColumn[currentIndex++] = key;
+                    if (timeBuckets != null) {
+                        timeBuckets.addNanoOfDay(key);
+                    }
+                }
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+
+        TemporalDataset<T> dataset = TemporalDataset.wrap(codec, Arrays.copyOf(temporaryColumn, currentIndex));
+        event.finish("завантаження набору даних з файлу", "dataset", currentIndex, filePath);
+
+        return dataset;
+    }
+
+    /**
+     * Завантажує цілі числа (byte, short або int) з файлу у масив int.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив значень.
+     */
+    public static int[] loadIntColumnFromFile(String filePath) {
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Load());
+        int[] temporaryColumn = new int[1000];
+        int currentIndex = 0;
+
+        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
+            String currentLine;
+            while ((currentLine = fileReader.readLine()) != null) {
+                currentLine = stripLine(currentLine, currentIndex);
+                if (!currentLine.isEmpty()) {
+                    if (currentIndex == temporaryColumn.length) {
+                        temporaryColumn = Arrays.copyOf(temporaryColumn, temporaryColumn.length * 2);
+                    }
+                    temporaryColumn[currentIndex++] = Integer.parseInt(currentLine);
+                }
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+
+        event.finish("завантаження масиву чисел з файлу", "int[]", currentIndex, filePath);
+        return Arrays.copyOf(temporaryColumn, currentIndex);
+    }
+
+    /**
+     * Завантажує символи (по одному в рядку) з файлу у масив кодових одиниць UTF-16.
+     * Рядки не обрізаються, бо пробіл теж є символом; порожні рядки пропускаються.
+     * Кожен інший рядок має містити рівно один символ char: кілька символів або символ
+     * поза базовою площиною (сурогатна пара) не вміщуються в одну кодову одиницю.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив кодів символів (0..65535).
+     * @throws IllegalArgumentException якщо рядок містить не один символ або сурогат
+     */
+    public static int[] loadCharColumnFromFile(String filePath) {
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Load());
+        int[] temporaryColumn = new int[1000];
+        int currentIndex = 0;
+
+        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
+            String currentLine;
+            while ((currentLine = fileReader.readLine()) != null) {
+                if (currentIndex == 0 && currentLine.startsWith("\uFEFF")) {
+                    currentLine = currentLine.substring(1);
+                }
+                if (!currentLine.isEmpty()) {
+                    if (currentLine.length() != 1 || Character.isSurrogate(currentLine.charAt(0))) {
+                        throw new IllegalArgumentException("Рядок має містити один символ char: \"" + currentLine + "\"");
+                    }
+                    if (currentIndex == temporaryColumn.length) {
+                        temporaryColumn = Arrays.copyOf(temporaryColumn, temporaryColumn.length * 2);
+                    }
+                    temporaryColumn[currentIndex++] = currentLine.charAt(0);
+                }
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+
+        event.finish("завантаження масиву символів з файлу", "int[]", currentIndex, filePath);
+        return Arrays.copyOf(temporaryColumn, currentIndex);
+    }
+
+    /**
+     * Завантажує числа long з файлу.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив значень.
+     */
+    public static long[] loadLongColumnFromFile(String filePath) {
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Load());
+        long[] temporaryColumn = new long[1000];
+        int currentIndex = 0;
+
+        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
+            String currentLine;
+            while ((currentLine = fileReader.readLine()) != null) {
+                currentLine = stripLine(currentLine, currentIndex);
+                if (!currentLine.isEmpty()) {
+                    if (currentIndex == temporaryColumn.length) {
+                        temporaryColumn = Arrays.copyOf(temporaryColumn, temporaryColumn.length * 2);
+                    }
+                    temporaryColumn[currentIndex++] = Long.parseLong(currentLine);
+                }
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+
+        event.finish("завантаження масиву чисел з файлу", "long[]", currentIndex, filePath);
+        return Arrays.copyOf(temporaryColumn, currentIndex);
+    }
+
+    /**
+     * Завантажує дійсні числа (float або double) з файлу у масив double;
+     * float розширюється до double без втрати точності.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @param floatPrecision true, якщо значення файлу - float (розбираються з округленням до float).
+     * @return Масив значень.
+     */
+    public static double[] loadDoubleColumnFromFile(String filePath, boolean floatPrecision) {
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Load());
+        double[] temporaryColumn = new double[1000];
+        int currentIndex = 0;
+
+        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
+            String currentLine;
+            while ((currentLine = fileReader.readLine()) != null) {
+                currentLine = stripLine(currentLine, currentIndex);
+                if (!currentLine.isEmpty()) {
+                    if (currentIndex == temporaryColumn.length) {
+                        temporaryColumn = Arrays.copyOf(temporaryColumn, temporaryColumn.length * 2);
+                    }
+                    temporaryColumn[currentIndex++] = floatPrecision ? Float.parseFloat(currentLine) : Double.parseDouble(currentLine);
+                }
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+
+        event.finish("завантаження масиву чисел з файлу", "double[]", currentIndex, filePath);
+        return Arrays.copyOf(temporaryColumn, currentIndex);
+    }
+
+    /**
+     * Будує інвертований індекс слів, читаючи текстовий файл потоково рядок за рядком;
+     * самі рядки в пам'яті не зберігаються, тож розмір файлу не обмежений пам'яттю.
+     * 
+     * @param filePath Шлях до файлу з рядками.
+     * @return Індекс, номери рядків якого - позиції непорожніх рядків файлу.
+     */
+    public static StringInvertedIndex indexTextFile(String filePath) {
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Load());
+        StringInvertedIndex index = new StringInvertedIndex();
+
+        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
+            String currentLine;
+            while ((currentLine = fileReader.readLine()) != null) {
+                // BOM можливий лише на початку файлу, тож регулярний вираз на кожен рядок не потрібен
+                currentLine = stripLine(currentLine, index.lineCount());
+                if (!currentLine.isEmpty()) {
+                    index.add(currentLine);
+                }
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+
+        index.trimToSize();
+        event.finish("побудова інвертованого індексу з файлу", "InvertedIndex", index.lineCount(), filePath);
+
+        return index;
+    }
+
     /**
      * Зберігає масив об'єктів LocalTime у файл.
+     * Синхронізований, щоб паралельні обробники не перемежовували рядки в одному файлі.
      * 
      * @param dateTimeArray Масив об'єктів LocalTime.
      * @param filePath Шлях до файлу для збереження.
      */
-    public static void writeArrayToFile(LocalTime[] dateTimeArray, String filePath) {
+    public static synchronized void writeArrayToFile(LocalTime[] dateTimeArray, String filePath) {
         try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(filePath))) {
             for (LocalTime dateTimeElement : dateTimeArray) {
                 fileWriter.write(dateTimeElement.toString());
@@ -57,4 +308,33 @@ public class DataFileHandler {
             ioException.printStackTrace();
         }
     }
+
+    /**
+     * Зберігає часовий набір даних у файл у тому ж форматі, що й {@link #writeArrayToFile}
+     * (toString() типу значень).
+     * 
+     * @param dataset Набір даних.
+     * @param filePath Шлях до файлу для збереження.
+     */
+    public static synchronized void writeDatasetToFile(TemporalDataset<?> dataset, String filePath) {
+        TemporalCodec<?> codec = dataset.codec();
+        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(filePath))) {
+            for (int i = 0; i < dataset.size(); i++) {
+                fileWriter.write(codec.format(dataset.keyAt(i)));
+                fileWriter.newLine();
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
+
+    /**
+     * Обрізає пробіли і BOM, що можливий лише перед першим значенням файлу.
+     */
+    static String stripLine(String line, int valuesRead) {
+        if (valuesRead == 0 && line.startsWith("\uFEFF")) {
+            line = line.substring(1);
+        }
+        return line.trim();
+    }
 }
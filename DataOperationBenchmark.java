@@ -0,0 +1,1027 @@
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Клас DataOperationBenchmark - набір мікробенчмарків для операцій класів BasicDataOperationUsing*.
+ *
+ * <p>На відміну від одноразових вимірювань {@link PerformanceTracker#displayOperationTime(long, String, String, int)},
+ * кожен бенчмарк виконується за схемою JMH: спершу ітерації прогріву (щоб JIT скомпілював код),
+ * потім вимірювальні ітерації фіксованої тривалості. Результат - середній час на операцію
+ * з напівшириною довірчого інтервалу 99.9%.</p>
+ *
+ * <p>Стан готується поза виміром: сортування щоразу отримує свіжу невідсортовану копію,
+ * а мутації (додавання, видалення) відкочуються після кожного виклику. Швидкі операції
+ * виконуються пакетами, щоб накладні витрати System.nanoTime() не спотворювали результат.</p>
+ *
+ * <p>Параметри: розміри даних від 10^3 до 10^7 та варіанти структур
+ * (array, List, Queue, Set, HashMap, LinkedHashMap). Поруч із цими базовими варіантами JDK
+ * вимірюється код, який насправді виконують обробники: {@link SortEngine} над стовпцем ключів
+ * (SortEngine) і подання {@link TemporalDataset} (Dataset.asList, Dataset.asQueue, Dataset.asSet).
+ * Числові ядра {@link NumericKernels}
+ * (int[], double[]) порівнюються з наївними скалярними циклами (int[]-scalar, double[]-scalar),
+ * таблиця частот {@link FrequencyTable} для значень short - з порівняльним Arrays.sort,
+ * черга з ковзним вікном {@link SlidingWindowQueue} - з ArrayDeque і PriorityQueue з упаковуванням
+ * (результат - наносекунд на подію).</p>
+ *
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java DataOperationBenchmark
+ * java DataOperationBenchmark --sizes 1000,100000 --backends List,Set --operations sort,search
+ * java DataOperationBenchmark --backends array,SortEngine,Queue,Dataset.asQueue
+ * java DataOperationBenchmark --backends int[],int[]-scalar,double[],double[]-scalar
+ * java DataOperationBenchmark --backends FrequencyTable,Arrays.sort
+ * java DataOperationBenchmark --backends SlidingWindow,ArrayDeque --operations window
+ * java DataOperationBenchmark --warmup 5 --iterations 10 --time 500
+ * }
+ * </pre>
+ */
+public class DataOperationBenchmark {
+    private static final long SEED = 42L;
+    private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+    private static final int BATCH_SIZE = 1_024;
+    private static final double CONFIDENCE_LEVEL = 0.999;
+    private static final String[] OWNERS = {"Олександр", "Наталія", "Ірина", "Дмитро", "Софія", "Андрій", "Марія", "Богдан"};
+    private static final String[] CITIES = {"Сан-Паулу", "Ріо-де-Жанейро", "Мехіко", "Каракас", "Богота", "Ліма", "Панама"};
+
+    private int[] sizes = DEFAULT_SIZES;
+    private Set<String> backends;
+    private Set<String> operations;
+    private int warmupIterations = 3;
+    private int measurementIterations = 5;
+    private long iterationNanos = 200_000_000L;
+
+    // результат операцій накопичується тут, щоб JIT не відкинув обчислення як невикористані
+    private static long sink;
+
+    /**
+     * Набір даних одного розміру, спільний для всіх бенчмарків цього розміру.
+     */
+    static final class Dataset {
+        final int size;
+        final LocalTime[] times;
+        final LocalTime[] probes;
+        final LocalTime[] absentTimes;
+        final BasicDataOperationUsingMap.Boa[] keys;
+        final String[] owners;
+        final BasicDataOperationUsingMap.Boa[] absentKeys;
+
+        Dataset(int size, boolean withMapData) {
+            Random random = new Random(SEED + size);
+            this.size = size;
+
+            // дані файлу LocalTime.data мають точність до секунди
+            times = new LocalTime[size];
+            for (int i = 0; i < size; i++) {
+                times[i] = LocalTime.ofSecondOfDay(random.nextInt(86_400));
+            }
+            probes = new LocalTime[BATCH_SIZE];
+            absentTimes = new LocalTime[BATCH_SIZE];
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                probes[i] = i % 2 == 0 ? times[random.nextInt(size)] : LocalTime.ofSecondOfDay(random.nextInt(86_400));
+                // ненульові наносекунди гарантують, що такого значення в даних немає
+                absentTimes[i] = LocalTime.ofNanoOfDay(random.nextInt(86_400) * 1_000_000_000L + 1 + i);
+            }
+
+            if (withMapData) {
+                keys = new BasicDataOperationUsingMap.Boa[size];
+                owners = new String[size];
+                for (int i = 0; i < size; i++) {
+                    keys[i] = new BasicDataOperationUsingMap.Boa("Boa-" + i, CITIES[random.nextInt(CITIES.length)]);
+                    owners[i] = OWNERS[random.nextInt(OWNERS.length)];
+                }
+                absentKeys = new BasicDataOperationUsingMap.Boa[BATCH_SIZE];
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    absentKeys[i] = new BasicDataOperationUsingMap.Boa("Новий-" + i, CITIES[i % CITIES.length]);
+                }
+            } else {
+                keys = null;
+                owners = null;
+                absentKeys = null;
+            }
+        }
+    }
+
+    /**
+     * Один бенчмарк: структура даних (backend) та операція над нею.
+     * Методи setUp/beforeInvocation/afterInvocation виконуються поза виміром,
+     * вимірюється лише invoke().
+     */
+    abstract static class BenchmarkCase {
+        final String backend;
+        final String operation;
+
+        BenchmarkCase(String backend, String operation) {
+            this.backend = backend;
+            this.operation = operation;
+        }
+
+        boolean needsMapData() {
+            return backend.endsWith("Map");
+        }
+
+        abstract void setUp(Dataset data);
+
+        void beforeInvocation() {
+        }
+
+        /**
+         * Виконує вимірювану роботу.
+         *
+         * @return Кількість виконаних операцій
+         */
+        abstract int invoke();
+
+        void afterInvocation() {
+        }
+
+        abstract void tearDown();
+    }
+
+    // ===== Бенчмарки для масиву та List (BasicDataOperationUsingList) =====
+
+    static List<BenchmarkCase> arrayCases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new BenchmarkCase("array", "sort") {
+            LocalTime[] source;
+            LocalTime[] working;
+            void setUp(Dataset data) { source = data.times; }
+            void beforeInvocation() { working = source.clone(); }
+            int invoke() { Arrays.sort(working); return 1; }
+            void tearDown() { source = null; working = null; }
+        });
+        cases.add(new BenchmarkCase("array", "search") {
+            LocalTime[] sorted;
+            LocalTime[] probes;
+            void setUp(Dataset data) { sorted = data.times.clone(); Arrays.sort(sorted); probes = data.probes; }
+            int invoke() {
+                for (LocalTime probe : probes) {
+                    sink += Arrays.binarySearch(sorted, probe);
+                }
+                return probes.length;
+            }
+            void tearDown() { sorted = null; }
+        });
+        cases.add(new BenchmarkCase("array", "minmax") {
+            LocalTime[] array;
+            void setUp(Dataset data) { array = data.times; }
+            int invoke() {
+                LocalTime minValue = array[0];
+                LocalTime maxValue = array[0];
+                for (LocalTime current : array) {
+                    if (current.isBefore(minValue)) {
+                        minValue = current;
+                    }
+                    if (current.isAfter(maxValue)) {
+                        maxValue = current;
+                    }
+                }
+                sink += minValue.getSecond() + maxValue.getSecond();
+                return 1;
+            }
+            void tearDown() { array = null; }
+        });
+        return cases;
+    }
+
+    static List<BenchmarkCase> listCases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new BenchmarkCase("List", "sort") {
+            LocalTime[] source;
+            List<LocalTime> working;
+            void setUp(Dataset data) { source = data.times; }
+            void beforeInvocation() { working = new ArrayList<>(Arrays.asList(source)); }
+            int invoke() { Collections.sort(working); return 1; }
+            void tearDown() { source = null; working = null; }
+        });
+        cases.add(new BenchmarkCase("List", "search") {
+            List<LocalTime> sorted;
+            LocalTime[] probes;
+            void setUp(Dataset data) {
+                sorted = new ArrayList<>(Arrays.asList(data.times));
+                Collections.sort(sorted);
+                probes = data.probes;
+            }
+            int invoke() {
+                for (LocalTime probe : probes) {
+                    sink += Collections.binarySearch(sorted, probe);
+                }
+                return probes.length;
+            }
+            void tearDown() { sorted = null; }
+        });
+        cases.add(new BenchmarkCase("List", "minmax") {
+            List<LocalTime> list;
+            void setUp(Dataset data) { list = new ArrayList<>(Arrays.asList(data.times)); }
+            int invoke() {
+                sink += Collections.min(list).getSecond() + Collections.max(list).getSecond();
+                return 1;
+            }
+            void tearDown() { list = null; }
+        });
+        return cases;
+    }
+
+    // ===== Бенчмарки для Queue (BasicDataOperationUsingQueue) =====
+
+    static List<BenchmarkCase> queueCases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new BenchmarkCase("Queue", "search") {
+            PriorityQueue<LocalTime> queue;
+            LocalTime[] probes;
+            int next;
+            void setUp(Dataset data) { queue = new PriorityQueue<>(Arrays.asList(data.times)); probes = data.probes; }
+            int invoke() {
+                // contains у PriorityQueue - лінійний перегляд, тому по одному пошуку на виклик
+                sink += queue.contains(probes[next++ & (BATCH_SIZE - 1)]) ? 1 : 0;
+                return 1;
+            }
+            void tearDown() { queue = null; }
+        });
+        cases.add(new BenchmarkCase("Queue", "minmax") {
+            PriorityQueue<LocalTime> queue;
+            void setUp(Dataset data) { queue = new PriorityQueue<>(Arrays.asList(data.times)); }
+            int invoke() {
+                sink += Collections.min(queue).getSecond() + Collections.max(queue).getSecond();
+                return 1;
+            }
+            void tearDown() { queue = null; }
+        });
+        cases.add(new BenchmarkCase("Queue", "add") {
+            PriorityQueue<LocalTime> base;
+            PriorityQueue<LocalTime> queue;
+            LocalTime[] additions;
+            void setUp(Dataset data) { base = new PriorityQueue<>(Arrays.asList(data.times)); additions = data.absentTimes; }
+            void beforeInvocation() { queue = new PriorityQueue<>(base); }
+            int invoke() {
+                for (LocalTime value : additions) {
+                    queue.offer(value);
+                }
+                return additions.length;
+            }
+            void tearDown() { base = null; queue = null; }
+        });
+        cases.add(new BenchmarkCase("Queue", "remove") {
+            PriorityQueue<LocalTime> base;
+            PriorityQueue<LocalTime> queue;
+            int batch;
+            void setUp(Dataset data) { base = new PriorityQueue<>(Arrays.asList(data.times)); batch = Math.min(BATCH_SIZE, data.size); }
+            void beforeInvocation() { queue = new PriorityQueue<>(base); }
+            int invoke() {
+                for (int i = 0; i < batch; i++) {
+                    sink += queue.poll().getSecond();
+                }
+                return batch;
+            }
+            void tearDown() { base = null; queue = null; }
+        });
+        return cases;
+    }
+
+    // ===== Бенчмарки для Set (BasicDataOperationUsingSet) =====
+
+    static List<BenchmarkCase> setCases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new BenchmarkCase("Set", "search") {
+            Set<LocalTime> set;
+            LocalTime[] probes;
+            void setUp(Dataset data) { set = new LinkedHashSet<>(Arrays.asList(data.times)); probes = data.probes; }
+            int invoke() {
+                for (LocalTime probe : probes) {
+                    sink += set.contains(probe) ? 1 : 0;
+                }
+                return probes.length;
+            }
+            void tearDown() { set = null; }
+        });
+        cases.add(new BenchmarkCase("Set", "minmax") {
+            Set<LocalTime> set;
+            void setUp(Dataset data) { set = new LinkedHashSet<>(Arrays.asList(data.times)); }
+            int invoke() {
+                sink += Collections.min(set).getSecond() + Collections.max(set).getSecond();
+                return 1;
+            }
+            void tearDown() { set = null; }
+        });
+        cases.add(new BenchmarkCase("Set", "add") {
+            Set<LocalTime> set;
+            LocalTime[] additions;
+            void setUp(Dataset data) { set = new LinkedHashSet<>(Arrays.asList(data.times)); additions = data.absentTimes; }
+            int invoke() {
+                for (LocalTime value : additions) {
+                    set.add(value);
+                }
+                return additions.length;
+            }
+            void afterInvocation() {
+                for (LocalTime value : additions) {
+                    set.remove(value);
+                }
+            }
+            void tearDown() { set = null; }
+        });
+        cases.add(new BenchmarkCase("Set", "remove") {
+            Set<LocalTime> set;
+            LocalTime[] removals;
+            void setUp(Dataset data) {
+                set = new LinkedHashSet<>(Arrays.asList(data.times));
+                removals = set.stream().limit(BATCH_SIZE).toArray(LocalTime[]::new);
+            }
+            int invoke() {
+                for (LocalTime value : removals) {
+                    set.remove(value);
+                }
+                return removals.length;
+            }
+            void afterInvocation() {
+                set.addAll(Arrays.asList(removals));
+            }
+            void tearDown() { set = null; }
+        });
+        return cases;
+    }
+
+    // ===== Бенчмарки коду обробників: SortEngine і подання TemporalDataset =====
+
+    static TemporalDataset<LocalTime> temporalDataset(Dataset data) {
+        return TemporalDataset.of(TemporalCodec.LOCAL_TIME, data.times);
+    }
+
+    static TemporalDataset<LocalTime> sortedTemporalDataset(Dataset data) {
+        long[] keys = temporalDataset(data).copyKeys();
+        SortEngine.sort(keys);
+        return TemporalDataset.wrap(TemporalCodec.LOCAL_TIME, keys);
+    }
+
+    static List<BenchmarkCase> datasetCases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new BenchmarkCase("SortEngine", "sort") {
+            TemporalDataset<LocalTime> dataset;
+            long[] working;
+            void setUp(Dataset data) { dataset = temporalDataset(data); }
+            void beforeInvocation() { working = dataset.copyKeys(); }
+            int invoke() { SortEngine.sort(working); return 1; }
+            void tearDown() { dataset = null; working = null; }
+        });
+        cases.add(new BenchmarkCase("SortEngine", "search") {
+            TemporalDataset<LocalTime> sorted;
+            LocalTime[] probes;
+            void setUp(Dataset data) { sorted = sortedTemporalDataset(data); probes = data.probes; }
+            int invoke() {
+                for (LocalTime probe : probes) {
+                    sink += sorted.binarySearch(probe);
+                }
+                return probes.length;
+            }
+            void tearDown() { sorted = null; }
+        });
+        cases.add(new BenchmarkCase("SortEngine", "minmax") {
+            TemporalDataset<LocalTime> dataset;
+            void setUp(Dataset data) { dataset = temporalDataset(data); }
+            int invoke() {
+                long[] minMaxKeys = dataset.minMaxKeys();
+                sink += minMaxKeys[0] + minMaxKeys[1];
+                return 1;
+            }
+            void tearDown() { dataset = null; }
+        });
+        cases.add(new BenchmarkCase("Dataset.asList", "sort") {
+            TemporalDataset<LocalTime> dataset;
+            void setUp(Dataset data) { dataset = temporalDataset(data); }
+            // як BasicDataOperationUsingList.sortList: копія стовпця, сортування і подання
+            int invoke() {
+                long[] column = dataset.copyKeys();
+                SortEngine.sort(column);
+                sink += TemporalDataset.wrap(TemporalCodec.LOCAL_TIME, column).asList().size();
+                return 1;
+            }
+            void tearDown() { dataset = null; }
+        });
+        cases.add(new BenchmarkCase("Dataset.asList", "search") {
+            List<LocalTime> sorted;
+            LocalTime[] probes;
+            void setUp(Dataset data) { sorted = sortedTemporalDataset(data).asList(); probes = data.probes; }
+            int invoke() {
+                for (LocalTime probe : probes) {
+                    sink += Collections.binarySearch(sorted, probe);
+                }
+                return probes.length;
+            }
+            void tearDown() { sorted = null; }
+        });
+        cases.add(new BenchmarkCase("Dataset.asList", "minmax") {
+            List<LocalTime> list;
+            void setUp(Dataset data) { list = temporalDataset(data).asList(); }
+            int invoke() {
+                sink += Collections.min(list).getSecond() + Collections.max(list).getSecond();
+                return 1;
+            }
+            void tearDown() { list = null; }
+        });
+        cases.add(new BenchmarkCase("Dataset.asQueue", "build") {
+            TemporalDataset<LocalTime> dataset;
+            void setUp(Dataset data) { dataset = temporalDataset(data); }
+            int invoke() { sink += dataset.asQueue().size(); return 1; }
+            void tearDown() { dataset = null; }
+        });
+        cases.add(new BenchmarkCase("Dataset.asQueue", "search") {
+            Queue<LocalTime> queue;
+            LocalTime[] probes;
+            void setUp(Dataset data) { queue = temporalDataset(data).asQueue(); probes = data.probes; }
+            int invoke() {
+                for (LocalTime probe : probes) {
+                    sink += queue.contains(probe) ? 1 : 0;
+                }
+                return probes.length;
+            }
+            void tearDown() { queue = null; }
+        });
+        cases.add(new BenchmarkCase("Dataset.asQueue", "minmax") {
+            Queue<LocalTime> queue;
+            void setUp(Dataset data) { queue = temporalDataset(data).asQueue(); }
+            int invoke() {
+                sink += Collections.min(queue).getSecond() + Collections.max(queue).getSecond();
+                return 1;
+            }
+            void tearDown() { queue = null; }
+        });
+        cases.add(new BenchmarkCase("Dataset.asQueue", "remove") {
+            TemporalDataset<LocalTime> dataset;
+            Queue<LocalTime> queue;
+            int batch;
+            void setUp(Dataset data) { dataset = temporalDataset(data); batch = Math.min(BATCH_SIZE, data.size); }
+            void beforeInvocation() { queue = dataset.asQueue(); }
+            int invoke() {
+                for (int i = 0; i < batch; i++) {
+                    sink += queue.poll().getSecond();
+                }
+                return batch;
+            }
+            void tearDown() { dataset = null; queue = null; }
+        });
+        cases.add(new BenchmarkCase("Dataset.asSet", "build") {
+            TemporalDataset<LocalTime> dataset;
+            void setUp(Dataset data) { dataset = temporalDataset(data); }
+            int invoke() { sink += dataset.asSet().size(); return 1; }
+            void tearDown() { dataset = null; }
+        });
+        cases.add(new BenchmarkCase("Dataset.asSet", "search") {
+            Set<LocalTime> set;
+            LocalTime[] probes;
+            void setUp(Dataset data) { set = temporalDataset(data).asSet(); probes = data.probes; }
+            int invoke() {
+                for (LocalTime probe : probes) {
+                    sink += set.contains(probe) ? 1 : 0;
+                }
+                return probes.length;
+            }
+            void tearDown() { set = null; }
+        });
+        cases.add(new BenchmarkCase("Dataset.asSet", "minmax") {
+            Set<LocalTime> set;
+            void setUp(Dataset data) { set = temporalDataset(data).asSet(); }
+            int invoke() {
+                sink += Collections.min(set).getSecond() + Collections.max(set).getSecond();
+                return 1;
+            }
+            void tearDown() { set = null; }
+        });
+        return cases;
+    }
+
+    // ===== Бенчмарки числових ядер (BasicDataOperationUsingNumbers) проти скалярних циклів =====
+
+    static int[] randomInts(int size) {
+        Random random = new Random(SEED + size);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+
+    static double[] randomDoubles(int size) {
+        Random random = new Random(SEED + size);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextGaussian() * 1e6;
+        }
+        return values;
+    }
+
+    static List<BenchmarkCase> numericCases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new BenchmarkCase("int[]", "minmax") {
+            int[] values;
+            void setUp(Dataset data) { values = randomInts(data.size); }
+            int invoke() { int[] minMax = NumericKernels.minMax(values); sink += minMax[0] + minMax[1]; return 1; }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("int[]-scalar", "minmax") {
+            int[] values;
+            void setUp(Dataset data) { values = randomInts(data.size); }
+            int invoke() {
+                int minValue = values[0];
+                int maxValue = values[0];
+                for (int value : values) {
+                    if (value < minValue) {
+                        minValue = value;
+                    }
+                    if (value > maxValue) {
+                        maxValue = value;
+                    }
+                }
+                sink += minValue + maxValue;
+                return 1;
+            }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("int[]", "sum") {
+            int[] values;
+            void setUp(Dataset data) { values = randomInts(data.size); }
+            int invoke() { sink += NumericKernels.sum(values); return 1; }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("int[]-scalar", "sum") {
+            int[] values;
+            void setUp(Dataset data) { values = randomInts(data.size); }
+            int invoke() {
+                long sum = 0;
+                for (int value : values) {
+                    sum += value;
+                }
+                sink += sum;
+                return 1;
+            }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("int[]", "range") {
+            int[] values;
+            void setUp(Dataset data) { values = randomInts(data.size); }
+            int invoke() { sink += NumericKernels.countInRange(values, -1_000_000_000, 1_000_000_000); return 1; }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("int[]-scalar", "range") {
+            int[] values;
+            void setUp(Dataset data) { values = randomInts(data.size); }
+            int invoke() {
+                int count = 0;
+                for (int value : values) {
+                    if (value >= -1_000_000_000 && value <= 1_000_000_000) {
+                        count++;
+                    }
+                }
+                sink += count;
+                return 1;
+            }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("double[]", "minmax") {
+            double[] values;
+            void setUp(Dataset data) { values = randomDoubles(data.size); }
+            int invoke() { double[] minMax = NumericKernels.minMax(values); sink += (long) (minMax[0] + minMax[1]); return 1; }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("double[]-scalar", "minmax") {
+            double[] values;
+            void setUp(Dataset data) { values = randomDoubles(data.size); }
+            int invoke() {
+                // той самий підхід, що й у locateMinMaxInArray: неправильний для NaN і -0.0
+                double minValue = values[0];
+                double maxValue = values[0];
+                for (double value : values) {
+                    if (value < minValue) {
+                        minValue = value;
+                    }
+                    if (value > maxValue) {
+                        maxValue = value;
+                    }
+                }
+                sink += (long) (minValue + maxValue);
+                return 1;
+            }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("double[]", "sum") {
+            double[] values;
+            void setUp(Dataset data) { values = randomDoubles(data.size); }
+            int invoke() { sink += (long) NumericKernels.sum(values); return 1; }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("double[]-scalar", "sum") {
+            double[] values;
+            void setUp(Dataset data) { values = randomDoubles(data.size); }
+            int invoke() {
+                double sum = 0;
+                for (double value : values) {
+                    sum += value;
+                }
+                sink += (long) sum;
+                return 1;
+            }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("double[]", "search") {
+            double[] values;
+            void setUp(Dataset data) { values = randomDoubles(data.size); }
+            // відсутнє значення - повний перегляд масиву
+            int invoke() { sink += NumericKernels.indexOf(values, 0.5); return 1; }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("double[]-scalar", "search") {
+            double[] values;
+            void setUp(Dataset data) { values = randomDoubles(data.size); }
+            int invoke() {
+                int position = -1;
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] == 0.5) {
+                        position = i;
+                        break;
+                    }
+                }
+                sink += position;
+                return 1;
+            }
+            void tearDown() { values = null; }
+        });
+        return cases;
+    }
+
+    // ===== Бенчмарки таблиці частот для малого діапазону ключів (short) =====
+
+    static int[] randomShorts(int size) {
+        Random random = new Random(SEED + size);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (short) random.nextInt();
+        }
+        return values;
+    }
+
+    static List<BenchmarkCase> frequencyTableCases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new BenchmarkCase("FrequencyTable", "sort") {
+            int[] values;
+            void setUp(Dataset data) { values = randomShorts(data.size); }
+            // побудова таблиці входить у вимір: сортування підрахунком з нуля
+            int invoke() {
+                int[] sorted = FrequencyTable.of(values, Short.MIN_VALUE, Short.MAX_VALUE).toSortedArray();
+                sink += sorted[sorted.length - 1];
+                return 1;
+            }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("Arrays.sort", "sort") {
+            int[] values;
+            void setUp(Dataset data) { values = randomShorts(data.size); }
+            int invoke() {
+                int[] sorted = values.clone();
+                Arrays.sort(sorted);
+                sink += sorted[sorted.length - 1];
+                return 1;
+            }
+            void tearDown() { values = null; }
+        });
+        cases.add(new BenchmarkCase("FrequencyTable", "search") {
+            FrequencyTable table;
+            int probe;
+            void setUp(Dataset data) { table = FrequencyTable.of(randomShorts(data.size), Short.MIN_VALUE, Short.MAX_VALUE); }
+            int invoke() { sink += table.count((short) probe++); return 1; }
+            void tearDown() { table = null; }
+        });
+        cases.add(new BenchmarkCase("FrequencyTable", "range") {
+            FrequencyTable table;
+            void setUp(Dataset data) { table = FrequencyTable.of(randomShorts(data.size), Short.MIN_VALUE, Short.MAX_VALUE); }
+            int invoke() { sink += table.countInRange(-1000, 1000); return 1; }
+            void tearDown() { table = null; }
+        });
+        return cases;
+    }
+
+    // ===== Бенчмарки черги з ковзним вікном (BasicDataOperationUsingQueue) =====
+
+    private static final int WINDOW_TOP = 10;
+    private static final long WINDOW_SPAN = 5 * 60_000_000_000L;
+
+    static long[] sortedNanoOfDay(Dataset data) {
+        long[] keys = new long[data.size];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = data.times[i].toNanoOfDay();
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    static List<BenchmarkCase> windowCases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new BenchmarkCase("SlidingWindow", "window") {
+            long[] events;
+            SlidingWindowQueue window;
+            void setUp(Dataset data) {
+                events = sortedNanoOfDay(data);
+                window = new SlidingWindowQueue(WINDOW_TOP, WINDOW_SPAN);
+            }
+            void beforeInvocation() { window.clear(); }
+            int invoke() {
+                for (long event : events) {
+                    window.offer(event);
+                }
+                sink += window.windowCount();
+                return events.length;
+            }
+            void tearDown() { events = null; window = null; }
+        });
+        cases.add(new BenchmarkCase("ArrayDeque", "window") {
+            long[] events;
+            void setUp(Dataset data) { events = sortedNanoOfDay(data); }
+            int invoke() {
+                ArrayDeque<Long> recent = new ArrayDeque<>();
+                PriorityQueue<Long> latest = new PriorityQueue<>();
+                ArrayDeque<Long> window = new ArrayDeque<>();
+                for (long event : events) {
+                    recent.addLast(event);
+                    if (recent.size() > WINDOW_TOP) {
+                        recent.pollFirst();
+                    }
+                    latest.offer(event);
+                    if (latest.size() > WINDOW_TOP) {
+                        latest.poll();
+                    }
+                    window.addLast(event);
+                    while (window.peekFirst() <= event - WINDOW_SPAN) {
+                        window.pollFirst();
+                    }
+                }
+                sink += window.size();
+                return events.length;
+            }
+            void tearDown() { events = null; }
+        });
+        return cases;
+    }
+
+    // ===== Бенчмарки для HashMap та LinkedHashMap (BasicDataOperationUsingMap) =====
+
+    static List<BenchmarkCase> mapCases(String backend, Supplier<Map<BasicDataOperationUsingMap.Boa, String>> mapFactory) {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new BenchmarkCase(backend, "search") {
+            Map<BasicDataOperationUsingMap.Boa, String> map;
+            BasicDataOperationUsingMap.Boa[] probes;
+            void setUp(Dataset data) {
+                map = fill(mapFactory.get(), data);
+                probes = new BasicDataOperationUsingMap.Boa[BATCH_SIZE];
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    probes[i] = i % 2 == 0 ? data.keys[(i * 7919) % data.size] : data.absentKeys[i];
+                }
+            }
+            int invoke() {
+                for (BasicDataOperationUsingMap.Boa probe : probes) {
+                    sink += map.containsKey(probe) ? 1 : 0;
+                }
+                return probes.length;
+            }
+            void tearDown() { map = null; }
+        });
+        cases.add(new BenchmarkCase(backend, "findByValue") {
+            Map<BasicDataOperationUsingMap.Boa, String> map;
+            void setUp(Dataset data) { map = fill(mapFactory.get(), data); }
+            int invoke() {
+                // та сама схема, що й у findByValueInHashMap: сортування Entry за значенням і бінарний пошук
+                List<Map.Entry<BasicDataOperationUsingMap.Boa, String>> entries = new ArrayList<>(map.entrySet());
+                BasicDataOperationUsingMap.OwnerValueComparator comparator = new BasicDataOperationUsingMap.OwnerValueComparator();
+                Collections.sort(entries, comparator);
+                sink += Collections.binarySearch(entries, Map.entry(new BasicDataOperationUsingMap.Boa(""), OWNERS[0]), comparator);
+                return 1;
+            }
+            void tearDown() { map = null; }
+        });
+        cases.add(new BenchmarkCase(backend, "add") {
+            Map<BasicDataOperationUsingMap.Boa, String> map;
+            BasicDataOperationUsingMap.Boa[] additions;
+            void setUp(Dataset data) { map = fill(mapFactory.get(), data); additions = data.absentKeys; }
+            int invoke() {
+                for (BasicDataOperationUsingMap.Boa key : additions) {
+                    map.put(key, OWNERS[0]);
+                }
+                return additions.length;
+            }
+            void afterInvocation() {
+                for (BasicDataOperationUsingMap.Boa key : additions) {
+                    map.remove(key);
+                }
+            }
+            void tearDown() { map = null; }
+        });
+        cases.add(new BenchmarkCase(backend, "remove") {
+            Map<BasicDataOperationUsingMap.Boa, String> map;
+            BasicDataOperationUsingMap.Boa[] removals;
+            String[] removedOwners;
+            void setUp(Dataset data) {
+                map = fill(mapFactory.get(), data);
+                removals = Arrays.copyOf(data.keys, Math.min(BATCH_SIZE, data.size));
+                removedOwners = new String[removals.length];
+            }
+            int invoke() {
+                for (int i = 0; i < removals.length; i++) {
+                    removedOwners[i] = map.remove(removals[i]);
+                }
+                return removals.length;
+            }
+            void afterInvocation() {
+                for (int i = 0; i < removals.length; i++) {
+                    map.put(removals[i], removedOwners[i]);
+                }
+            }
+            void tearDown() { map = null; }
+        });
+        cases.add(new BenchmarkCase(backend, "removeByValue") {
+            Map<BasicDataOperationUsingMap.Boa, String> map;
+            List<BasicDataOperationUsingMap.Boa> keysToRemove;
+            void setUp(Dataset data) { map = fill(mapFactory.get(), data); }
+            int invoke() {
+                // та сама схема, що й у removeByValueFromHashMap
+                keysToRemove = new ArrayList<>();
+                for (Map.Entry<BasicDataOperationUsingMap.Boa, String> entry : map.entrySet()) {
+                    if (entry.getValue() != null && entry.getValue().equals(OWNERS[0])) {
+                        keysToRemove.add(entry.getKey());
+                    }
+                }
+                for (BasicDataOperationUsingMap.Boa key : keysToRemove) {
+                    map.remove(key);
+                }
+                return 1;
+            }
+            void afterInvocation() {
+                for (BasicDataOperationUsingMap.Boa key : keysToRemove) {
+                    map.put(key, OWNERS[0]);
+                }
+            }
+            void tearDown() { map = null; keysToRemove = null; }
+        });
+        cases.add(new BenchmarkCase(backend, "sort") {
+            Map<BasicDataOperationUsingMap.Boa, String> map;
+            void setUp(Dataset data) { map = fill(mapFactory.get(), data); }
+            int invoke() {
+                List<BasicDataOperationUsingMap.Boa> sortedKeys = new ArrayList<>(map.keySet());
+                Collections.sort(sortedKeys);
+                LinkedHashMap<BasicDataOperationUsingMap.Boa, String> sortedMap = new LinkedHashMap<>();
+                for (BasicDataOperationUsingMap.Boa key : sortedKeys) {
+                    sortedMap.put(key, map.get(key));
+                }
+                sink += sortedMap.size();
+                return 1;
+            }
+            void tearDown() { map = null; }
+        });
+        return cases;
+    }
+
+    private static Map<BasicDataOperationUsingMap.Boa, String> fill(Map<BasicDataOperationUsingMap.Boa, String> map, Dataset data) {
+        for (int i = 0; i < data.size; i++) {
+            map.put(data.keys[i], data.owners[i]);
+        }
+        return map;
+    }
+
+    static List<BenchmarkCase> allCases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.addAll(arrayCases());
+        cases.addAll(listCases());
+        cases.addAll(queueCases());
+        cases.addAll(setCases());
+        cases.addAll(datasetCases());
+        cases.addAll(numericCases());
+        cases.addAll(frequencyTableCases());
+        cases.addAll(windowCases());
+        cases.addAll(mapCases("HashMap", HashMap::new));
+        cases.addAll(mapCases("LinkedHashMap", LinkedHashMap::new));
+        return cases;
+    }
+
+    // ===== Виконання =====
+
+    /**
+     * Виконує одну ітерацію фіксованої тривалості.
+     *
+     * @return Середній час на операцію в наносекундах
+     */
+    private double runIteration(BenchmarkCase benchmarkCase) {
+        long measuredNanos = 0;
+        long operationCount = 0;
+        long iterationStart = System.nanoTime();
+
+        do {
+            benchmarkCase.beforeInvocation();
+            long timeStart = System.nanoTime();
+            operationCount += benchmarkCase.invoke();
+            measuredNanos += System.nanoTime() - timeStart;
+            benchmarkCase.afterInvocation();
+        } while (System.nanoTime() - iterationStart < iterationNanos);
+
+        return (double) measuredNanos / operationCount;
+    }
+
+    private void runCase(BenchmarkCase benchmarkCase, Dataset data) {
+        benchmarkCase.setUp(data);
+        try {
+            for (int i = 0; i < warmupIterations; i++) {
+                runIteration(benchmarkCase);
+            }
+            double[] scores = new double[measurementIterations];
+            for (int i = 0; i < measurementIterations; i++) {
+                scores[i] = runIteration(benchmarkCase);
+            }
+
+            BenchmarkStatistics statistics = new BenchmarkStatistics(scores);
+            double error = statistics.confidenceHalfWidth(CONFIDENCE_LEVEL);
+            System.out.println(String.format("%-15s %-14s %10d %5d %16.3f ± %12.3f  нс/оп",
+                benchmarkCase.backend, benchmarkCase.operation, data.size, statistics.count(),
+                statistics.mean(), Double.isNaN(error) ? 0.0 : error));
+        } finally {
+            benchmarkCase.tearDown();
+        }
+    }
+
+    void run() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        for (BenchmarkCase benchmarkCase : allCases()) {
+            if ((backends == null || backends.contains(benchmarkCase.backend))
+                    && (operations == null || operations.contains(benchmarkCase.operation))) {
+                cases.add(benchmarkCase);
+            }
+        }
+        boolean withMapData = cases.stream().anyMatch(BenchmarkCase::needsMapData);
+
+        System.out.println("Прогрів: " + warmupIterations + " ітерацій, вимір: " + measurementIterations
+            + " ітерацій по " + iterationNanos / 1_000_000 + " мс, довірчий інтервал " + CONFIDENCE_LEVEL * 100 + "%");
+        System.out.println(String.format("%-15s %-14s %10s %5s %16s   %12s  %s",
+            "Структура", "Операція", "Розмір", "Кільк", "Результат", "Похибка", "Одиниці"));
+
+        for (int size : sizes) {
+            Dataset data = new Dataset(size, withMapData);
+            for (BenchmarkCase benchmarkCase : cases) {
+                runCase(benchmarkCase, data);
+            }
+        }
+
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private static Set<String> parseNames(String value) {
+        return new HashSet<>(Arrays.asList(value.split(",")));
+    }
+
+    /**
+     * Головний метод для запуску бенчмарків.
+     *
+     * @param args --sizes, --backends, --operations (через кому), --warmup, --iterations, --time (мс)
+     */
+    public static void main(String[] args) {
+        DataOperationBenchmark benchmark = new DataOperationBenchmark();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--sizes":
+                    benchmark.sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--backends":
+                    benchmark.backends = parseNames(value);
+                    break;
+                case "--operations":
+                    benchmark.operations = parseNames(value);
+                    break;
+                case "--warmup":
+                    benchmark.warmupIterations = Integer.parseInt(value);
+                    break;
+                case "--iterations":
+                    benchmark.measurementIterations = Integer.parseInt(value);
+                    break;
+                case "--time":
+                    benchmark.iterationNanos = Long.parseLong(value) * 1_000_000L;
+                    break;
+                default:
+                    System.out.println("Невідомий параметр: " + args[i]);
+                    return;
+            }
+        }
+
+        benchmark.run();
+    }
+}
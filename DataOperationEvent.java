@@ -0,0 +1,130 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Клас DataOperationEvent - подія Java Flight Recorder для операцій з даними.
+ *
+ * <p>Для кожного виду операцій є власний тип події (завантаження, сортування, пошук,
+ * мінімум/максимум, зміна мапи), тож у JDK Mission Control їх можна вмикати окремо
+ * і зіставляти з паузами збирача сміття, safepoint-ами та введенням-виведенням.
+ * Кожна подія містить назву операції, структуру даних, кількість елементів і результат.</p>
+ *
+ * <p>Використання:</p>
+ * <pre>
+ * {@code
+ * DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Sort());
+ * Arrays.sort(array);
+ * event.finish("упорядкування масиву", "array", array.length);
+ * }
+ * </pre>
+ *
+ * <p>Якщо запис не ведеться, JFR не інструментує класи подій: begin/end/shouldCommit
+ * порожні, об'єкт події не виходить за межі методу і усувається JIT, а результат
+ * перетворюється на рядок лише для подій, що справді записуються.</p>
+ */
+@Category("Операції з даними")
+@StackTrace(false)
+public abstract class DataOperationEvent extends Event {
+    @Label("Операція")
+    String operation;
+
+    @Label("Структура даних")
+    String backend;
+
+    @Label("Кількість елементів")
+    int elementCount;
+
+    @Label("Результат")
+    String result;
+
+    /**
+     * Розпочинає вимірювання події.
+     *
+     * @param event Нова подія
+     * @return Та сама подія
+     */
+    public static <T extends DataOperationEvent> T begin(T event) {
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Завершує подію без результату (наприклад, сортування).
+     */
+    public void finish(String operation, String backend, int elementCount) {
+        end();
+        if (shouldCommit()) {
+            commitWith(operation, backend, elementCount, null);
+        }
+    }
+
+    /**
+     * Завершує подію з числовим результатом (позиція, кількість) без упаковування.
+     */
+    public void finish(String operation, String backend, int elementCount, long result) {
+        end();
+        if (shouldCommit()) {
+            commitWith(operation, backend, elementCount, Long.toString(result));
+        }
+    }
+
+    /**
+     * Завершує подію з результатом-об'єктом; рядок формується лише для записуваної події.
+     */
+    public void finish(String operation, String backend, int elementCount, Object result) {
+        end();
+        if (shouldCommit()) {
+            commitWith(operation, backend, elementCount, String.valueOf(result));
+        }
+    }
+
+    /**
+     * Завершує подію з парою значень (мінімум і максимум).
+     */
+    public void finish(String operation, String backend, int elementCount, Object minValue, Object maxValue) {
+        end();
+        if (shouldCommit()) {
+            commitWith(operation, backend, elementCount, minValue + " .. " + maxValue);
+        }
+    }
+
+    private void commitWith(String operation, String backend, int elementCount, String result) {
+        this.operation = operation;
+        this.backend = backend;
+        this.elementCount = elementCount;
+        this.result = result;
+        commit();
+    }
+
+    @Name("BasicDataOperation.Load")
+    @Label("Завантаження даних")
+    @Description("Завантаження набору даних з файлу")
+    public static class Load extends DataOperationEvent {
+    }
+
+    @Name("BasicDataOperation.Sort")
+    @Label("Сортування")
+    public static class Sort extends DataOperationEvent {
+    }
+
+    @Name("BasicDataOperation.Search")
+    @Label("Пошук")
+    @Description("Пошук елемента; результат - позиція, знайдене значення або кількість збігів")
+    public static class Search extends DataOperationEvent {
+    }
+
+    @Name("BasicDataOperation.MinMax")
+    @Label("Мінімум і максимум")
+    public static class MinMax extends DataOperationEvent {
+    }
+
+    @Name("BasicDataOperation.MapMutation")
+    @Label("Зміна мапи")
+    @Description("Додавання або видалення записів мапи; результат - попереднє значення або кількість видалених")
+    public static class MapMutation extends DataOperationEvent {
+    }
+}
@@ -0,0 +1,316 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Клас DatasetGenerator створює синтетичні набори даних для масштабних вимірювань.
+ *
+ * <p>Підтримуються ті самі типи, що й у каталозі {@code list/}: LocalTime, LocalDate,
+ * LocalDateTime, byte, short, int, long, float, double, Character і String.
+ * Файли мають той самий формат, що читає {@link DataFileHandler}: одне значення на рядок, UTF-8.</p>
+ *
+ * <p>Розподіли значень:</p>
+ * <ul>
+ *   <li>uniform - рівномірний на всьому діапазоні типу;</li>
+ *   <li>clustered - кілька вузьких скупчень навколо випадкових центрів;</li>
+ *   <li>sorted / reverse - впорядковані за зростанням / спаданням;</li>
+ *   <li>duplicates - лише {@value #DUPLICATE_POOL_SIZE} різних значень, що багаторазово повторюються.</li>
+ * </ul>
+ *
+ * <p>Генерація потокова: кожне значення одразу записується у файл, тож набори до 10^9 рядків
+ * не потребують пам'яті під усі елементи. Впорядковані набори будуються як послідовність
+ * порядкових статистик рівномірного розподілу без сортування. Однакове зерно (seed)
+ * завжди дає однаковий файл.</p>
+ *
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java DatasetGenerator LocalTime 1000000 --distribution sorted --seed 7
+ * java DatasetGenerator int 100000000 --distribution duplicates --output /tmp/int.data
+ * }
+ * </pre>
+ */
+public class DatasetGenerator {
+    static final String[] TYPES = {
+        "LocalTime", "LocalDate", "LocalDateTime", "byte", "short", "int", "long", "float", "double", "Character", "String"
+    };
+
+    static final int DUPLICATE_POOL_SIZE = 100;
+    private static final int CLUSTER_COUNT = 8;
+    private static final double CLUSTER_WIDTH = 0.01;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+    private static final long DEFAULT_SEED = 42;
+
+    // діапазон дат, у якому генеруються LocalDate і LocalDateTime
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final long LAST_EPOCH_DAY = LocalDate.of(2030, 12, 31).toEpochDay();
+    private static final long FIRST_EPOCH_SECOND = FIRST_EPOCH_DAY * 86_400;
+    private static final long LAST_EPOCH_SECOND = LAST_EPOCH_DAY * 86_400 + 86_399;
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    // символи впорядковані за кодом, тож зростання частки дає зростання символу
+    private static final char[] ALPHABET = sortedChars("АБВГҐДЕЄЖЗИІЇЙКЛМНОПРСТУФХЦЧШЩЬЮЯ"
+        + "абвгґдеєжзиіїйклмнопрстуфхцчшщьюя" + "!'(),-.:;?");
+    // жодне слово не є префіксом іншого, тож рядки з слів упорядковані так само, як їхні номери
+    private static final String[] WORDS = {
+        "amber", "bright", "calm", "dawn", "echo", "forest", "golden", "harbor",
+        "island", "jasmine", "kite", "lantern", "meadow", "night", "ocean", "pebble",
+        "quiet", "river", "silver", "thunder", "under", "valley", "willow", "yellow"
+    };
+    private static final int WORDS_PER_STRING = 3;
+
+    /**
+     * Розподіл значень набору даних.
+     */
+    public enum Distribution {
+        UNIFORM, CLUSTERED, SORTED, REVERSE, DUPLICATES;
+
+        static Distribution parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final String type;
+    private final long count;
+    private final Distribution distribution;
+    private final long seed;
+
+    /**
+     * Створює генератор.
+     *
+     * @param type Тип даних (як у назвах файлів list/, наприклад "LocalTime" або "int")
+     * @param count Кількість значень
+     * @param distribution Розподіл значень
+     * @param seed Зерно генератора випадкових чисел
+     */
+    public DatasetGenerator(String type, long count, Distribution distribution, long seed) {
+        if (!Arrays.asList(TYPES).contains(type)) {
+            throw new IllegalArgumentException("Невідомий тип даних: " + type + ". Підтримуються: " + String.join(", ", TYPES));
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Кількість значень не може бути від'ємною: " + count);
+        }
+        this.type = type;
+        this.count = count;
+        this.distribution = distribution;
+        this.seed = seed;
+    }
+
+    /**
+     * Записує набір даних у файл.
+     *
+     * @param path Шлях до файлу
+     */
+    public void writeTo(Path path) {
+        try (BufferedWriter writer = new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE)) {
+            writeTo(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не вдалося записати набір даних у " + path, e);
+        }
+    }
+
+    /**
+     * Записує набір даних, по одному значенню на рядок.
+     *
+     * @param writer Куди записувати
+     * @throws IOException у разі помилки запису
+     */
+    public void writeTo(Writer writer) throws IOException {
+        UnitSource source = newUnitSource();
+        for (long i = 0; i < count; i++) {
+            writer.write(format(source.next()));
+            writer.write('\n');
+        }
+    }
+
+    // ===== Розподіли: послідовність часток з [0, 1) =====
+
+    /**
+     * Джерело часток з [0, 1); відображення частки на значення типу монотонне,
+     * тож упорядкованість часток переходить на значення.
+     */
+    private interface UnitSource {
+        double next();
+    }
+
+    private UnitSource newUnitSource() {
+        SplittableRandom random = new SplittableRandom(seed);
+        switch (distribution) {
+            case UNIFORM:
+                return random::nextDouble;
+            case CLUSTERED: {
+                double[] centers = new double[CLUSTER_COUNT];
+                for (int i = 0; i < centers.length; i++) {
+                    centers[i] = random.nextDouble();
+                }
+                return () -> clamp(centers[random.nextInt(CLUSTER_COUNT)] + random.nextGaussian() * CLUSTER_WIDTH);
+            }
+            case DUPLICATES: {
+                double[] pool = new double[DUPLICATE_POOL_SIZE];
+                for (int i = 0; i < pool.length; i++) {
+                    pool[i] = random.nextDouble();
+                }
+                return () -> pool[random.nextInt(DUPLICATE_POOL_SIZE)];
+            }
+            case SORTED:
+            case REVERSE: {
+                boolean ascending = distribution == Distribution.SORTED;
+                // найбільша з k рівномірних величин дорівнює U^(1/k); кожна наступна порядкова
+                // статистика - це попередня, помножена на U^(1/(k-1)), і так далі
+                return new UnitSource() {
+                    private double current = 1.0;
+                    private long remaining = count;
+
+                    @Override
+                    public double next() {
+                        current *= Math.pow(random.nextDouble(), 1.0 / Math.max(1, remaining));
+                        remaining--;
+                        return clamp(ascending ? 1.0 - current : current);
+                    }
+                };
+            }
+            default:
+                throw new IllegalStateException("Невідомий розподіл: " + distribution);
+        }
+    }
+
+    private static double clamp(double unit) {
+        return Math.min(Math.max(unit, 0.0), Math.nextDown(1.0));
+    }
+
+    // ===== Відображення частки на значення типу =====
+
+    private static long scale(double unit, long first, long last) {
+        return first + (long) (unit * ((double) (last - first) + 1.0));
+    }
+
+    private String format(double unit) {
+        switch (type) {
+            case "LocalTime":
+                return LocalTime.ofSecondOfDay(scale(unit, 0, 86_399)).format(TIME_FORMAT);
+            case "LocalDate":
+                return LocalDate.ofEpochDay(scale(unit, FIRST_EPOCH_DAY, LAST_EPOCH_DAY)).toString();
+            case "LocalDateTime":
+                return LocalDateTime.ofEpochSecond(scale(unit, FIRST_EPOCH_SECOND, LAST_EPOCH_SECOND), 0, ZoneOffset.UTC)
+                    .format(DATE_TIME_FORMAT);
+            case "byte":
+                return Long.toString(scale(unit, Byte.MIN_VALUE, Byte.MAX_VALUE));
+            case "short":
+                return Long.toString(scale(unit, Short.MIN_VALUE, Short.MAX_VALUE));
+            case "int":
+                return Long.toString(scale(unit, Integer.MIN_VALUE, Integer.MAX_VALUE));
+            case "long":
+                // частка має лише 53 значущі біти, тож крок між сусідніми значеннями - 2^11
+                return Long.toString((long) Math.scalb(unit - 0.5, 64));
+            case "float":
+                return Float.toString((float) ((unit - 0.5) * 2e6));
+            case "double":
+                return Double.toString((unit - 0.5) * 2e12);
+            case "Character":
+                return String.valueOf(ALPHABET[(int) (unit * ALPHABET.length)]);
+            case "String":
+                return phrase(unit);
+            default:
+                throw new IllegalStateException("Невідомий тип даних: " + type);
+        }
+    }
+
+    private static String phrase(double unit) {
+        long combinations = 1;
+        for (int i = 0; i < WORDS_PER_STRING; i++) {
+            combinations *= WORDS.length;
+        }
+        long index = (long) (unit * combinations);
+
+        String[] words = new String[WORDS_PER_STRING];
+        for (int i = WORDS_PER_STRING - 1; i >= 0; i--) {
+            words[i] = WORDS[(int) (index % WORDS.length)];
+            index /= WORDS.length;
+        }
+        words[0] = Character.toUpperCase(words[0].charAt(0)) + words[0].substring(1);
+        return String.join(" ", words);
+    }
+
+    private static char[] sortedChars(String symbols) {
+        char[] chars = symbols.toCharArray();
+        Arrays.sort(chars);
+        return chars;
+    }
+
+    private static final String USAGE_MESSAGE = "Використання: java DatasetGenerator <тип> <кількість> "
+        + "[--distribution uniform|clustered|sorted|reverse|duplicates] [--seed <зерно>] [--output <файл>]\n"
+        + "Типи: " + String.join(", ", TYPES) + "\n"
+        + "Приклад:\n"
+        + "  java DatasetGenerator LocalTime 1000000 --distribution sorted --seed 7";
+
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length % 2 != 0) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        String type = args[0];
+        long count;
+        Distribution distribution = Distribution.UNIFORM;
+        long seed = DEFAULT_SEED;
+        String output = null;
+        try {
+            count = Long.parseLong(args[1].replace("_", ""));
+            for (int i = 2; i < args.length; i += 2) {
+                switch (args[i]) {
+                    case "--distribution":
+                        distribution = Distribution.parse(args[i + 1]);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(args[i + 1]);
+                        break;
+                    case "--output":
+                        output = args[i + 1];
+                        break;
+                    default:
+                        System.out.println("Помилка: Невідомий параметр " + args[i]);
+                        System.out.println(USAGE_MESSAGE);
+                        return;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        DatasetGenerator generator;
+        try {
+            generator = new DatasetGenerator(type, count, distribution, seed);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            return;
+        }
+
+        Path path = Paths.get(output != null ? output
+            : "list/" + type + "." + count + "." + distribution.name().toLowerCase(Locale.ROOT) + ".data");
+
+        long timeStart = PerformanceTracker.startOperation();
+        generator.writeTo(path);
+        PerformanceTracker.displayOperationTime(timeStart, "генерація набору даних " + type, "file",
+            (int) Math.min(count, Integer.MAX_VALUE));
+
+        System.out.println("Згенеровано " + count + " значень (" + distribution.name().toLowerCase(Locale.ROOT)
+            + ", зерно " + seed + ") у файл " + path);
+    }
+}
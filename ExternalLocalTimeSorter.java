@@ -0,0 +1,433 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Клас ExternalLocalTimeSorter сортує файли LocalTime, що не вміщуються в купу JVM.
+ *
+ * <p>Сортування зовнішнє, злиттям:</p>
+ * <ul>
+ *   <li>вхідний файл читається частинами (runs) фіксованого розміру; кожне значення
+ *       зберігається як long (наносекунди від початку доби), частина сортується
+ *       {@link SortEngine} і записується у тимчасовий двійковий файл;</li>
+ *   <li>частини зливаються k-шляховим злиттям через купу мінімумів; якщо частин
+ *       більше за {@value #MAX_FAN_IN}, спершу виконуються проміжні злиття групами;</li>
+ *   <li>результат записується у текстовому форматі {@link DataFileHandler#writeArrayToFile}.</li>
+ * </ul>
+ *
+ * <p>Пам'ять обмежена розміром частини та буферами читання, а введення-виведення всюди
+ * послідовне. Під час останнього злиття одразу обчислюються кількість значень, мінімум,
+ * максимум і позиція шуканого значення у відсортованому файлі.</p>
+ */
+public class ExternalLocalTimeSorter {
+    static final int MAX_FAN_IN = 128;
+    private static final int MIN_RUN_SIZE = 1 << 10;
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final int MERGE_BUFFER_BUDGET = 1 << 24;
+
+    private final int runSize;
+    private final Path temporaryDirectory;
+
+    /**
+     * Статистика, обчислена під час останнього злиття.
+     */
+    public static final class Result {
+        private final long count;
+        private final int runCount;
+        private final LocalTime minValue;
+        private final LocalTime maxValue;
+        private final long searchPosition;
+        private final long searchOccurrences;
+
+        Result(long count, int runCount, LocalTime minValue, LocalTime maxValue, long searchPosition, long searchOccurrences) {
+            this.count = count;
+            this.runCount = runCount;
+            this.minValue = minValue;
+            this.maxValue = maxValue;
+            this.searchPosition = searchPosition;
+            this.searchOccurrences = searchOccurrences;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public int getRunCount() {
+            return runCount;
+        }
+
+        public LocalTime getMinValue() {
+            return minValue;
+        }
+
+        public LocalTime getMaxValue() {
+            return maxValue;
+        }
+
+        /**
+         * @return Позиція першого входження шуканого значення або -1
+         */
+        public long getSearchPosition() {
+            return searchPosition;
+        }
+
+        public long getSearchOccurrences() {
+            return searchOccurrences;
+        }
+    }
+
+    /**
+     * Відсортована частина у тимчасовому файлі.
+     */
+    private static final class Run {
+        final Path path;
+        final long count;
+
+        Run(Path path, long count) {
+            this.path = path;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Створює сортувальник з розміром частини, розрахованим за доступною пам'яттю
+     * (чверть максимального розміру купи).
+     */
+    public ExternalLocalTimeSorter() {
+        this(defaultRunSize(), Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Створює сортувальник.
+     *
+     * @param runSize Кількість значень в одній частині
+     * @param temporaryDirectory Каталог для тимчасових файлів
+     */
+    public ExternalLocalTimeSorter(int runSize, Path temporaryDirectory) {
+        this.runSize = Math.max(MIN_RUN_SIZE, runSize);
+        this.temporaryDirectory = temporaryDirectory;
+    }
+
+    private static int defaultRunSize() {
+        // long у частині плюс буфер порозрядного сортування - 16 байт на значення
+        long budget = Runtime.getRuntime().maxMemory() / 4;
+        return (int) Math.min(Integer.MAX_VALUE - 8, budget / (2 * Long.BYTES));
+    }
+
+    /**
+     * Сортує файл LocalTime і записує результат.
+     *
+     * @param input Вхідний файл (формат DataFileHandler)
+     * @param output Файл для відсортованих значень
+     * @param searchValue Значення для пошуку під час злиття (може бути null)
+     * @return Статистика відсортованих даних
+     */
+    public Result sort(Path input, Path output, LocalTime searchValue) {
+        Path runDirectory = null;
+        try {
+            runDirectory = Files.createTempDirectory(temporaryDirectory, "localtime-runs");
+            List<Run> runs = createRuns(input, runDirectory);
+            int initialRunCount = runs.size();
+
+            int generation = 0;
+            while (runs.size() > MAX_FAN_IN) {
+                runs = mergeIntermediate(runs, runDirectory, generation++);
+            }
+            return mergeToText(runs, output, searchValue, initialRunCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Помилка зовнішнього сортування " + input, e);
+        } finally {
+            deleteDirectory(runDirectory);
+        }
+    }
+
+    // ===== Етап 1: відсортовані частини =====
+
+    private List<Run> createRuns(Path input, Path runDirectory) throws IOException {
+        DateTimeFormatter timeFormatter = DateTimeFormatter.ISO_TIME;
+        List<Run> runs = new ArrayList<>();
+        // буфер росте до розміру частини, тож малі файли не резервують усю відведену пам'ять
+        long[] buffer = new long[Math.min(runSize, IO_BUFFER_SIZE)];
+        int filled = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            String currentLine;
+            while ((currentLine = reader.readLine()) != null) {
+                // видаляємо можливі невидимі символи та BOM (runs.size() + filled = 0 лише до першого значення)
+                currentLine = DataFileHandler.stripLine(currentLine, runs.size() + filled);
+                if (currentLine.isEmpty()) {
+                    continue;
+                }
+                if (filled == buffer.length && buffer.length < runSize) {
+                    buffer = Arrays.copyOf(buffer, (int) Math.min(runSize, 2L * buffer.length));
+                }
+                buffer[filled++] = LocalTime.parse(currentLine, timeFormatter).toNanoOfDay();
+                if (filled == runSize) {
+                    runs.add(spillRun(buffer, filled, runDirectory, runs.size()));
+                    filled = 0;
+                }
+            }
+        }
+        if (filled > 0 || runs.isEmpty()) {
+            runs.add(spillRun(buffer, filled, runDirectory, runs.size()));
+        }
+        return runs;
+    }
+
+    private Run spillRun(long[] buffer, int filled, Path runDirectory, int index) throws IOException {
+        long[] values = filled == buffer.length ? buffer : Arrays.copyOf(buffer, filled);
+        SortEngine.sort(values);
+
+        Path path = runDirectory.resolve("run-" + index + ".bin");
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE))) {
+            for (long value : values) {
+                output.writeLong(value);
+            }
+        }
+        return new Run(path, filled);
+    }
+
+    // ===== Етап 2: k-шляхове злиття =====
+
+    /**
+     * Споживач значень у порядку зростання.
+     */
+    private interface MergeSink {
+        void accept(long value) throws IOException;
+    }
+
+    private List<Run> mergeIntermediate(List<Run> runs, Path runDirectory, int generation) throws IOException {
+        List<Run> merged = new ArrayList<>();
+        for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+            List<Run> group = runs.subList(from, Math.min(runs.size(), from + MAX_FAN_IN));
+            Path path = runDirectory.resolve("merge-" + generation + "-" + merged.size() + ".bin");
+            long count = 0;
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE))) {
+                merge(group, output::writeLong);
+            }
+            for (Run run : group) {
+                count += run.count;
+                Files.deleteIfExists(run.path);
+            }
+            merged.add(new Run(path, count));
+        }
+        return merged;
+    }
+
+    private Result mergeToText(List<Run> runs, Path output, LocalTime searchValue, int runCount) throws IOException {
+        long searchNanos = searchValue != null ? searchValue.toNanoOfDay() : -1;
+        long[] statistics = {0, Long.MAX_VALUE, Long.MIN_VALUE, -1, 0};
+
+        try (BufferedWriter writer = new BufferedWriter(
+                Files.newBufferedWriter(output, StandardCharsets.UTF_8), IO_BUFFER_SIZE)) {
+            merge(runs, value -> {
+                writer.write(LocalTime.ofNanoOfDay(value).toString());
+                writer.newLine();
+                // значення приходять за зростанням: перше - мінімум, останнє - максимум
+                if (statistics[0] == 0) {
+                    statistics[1] = value;
+                }
+                statistics[2] = value;
+                if (value == searchNanos) {
+                    if (statistics[3] < 0) {
+                        statistics[3] = statistics[0];
+                    }
+                    statistics[4]++;
+                }
+                statistics[0]++;
+            });
+        }
+
+        long count = statistics[0];
+        return new Result(count, runCount,
+            count > 0 ? LocalTime.ofNanoOfDay(statistics[1]) : null,
+            count > 0 ? LocalTime.ofNanoOfDay(statistics[2]) : null,
+            statistics[3], statistics[4]);
+    }
+
+    /**
+     * Зливає відсортовані частини, використовуючи купу мінімумів над поточними значеннями частин.
+     */
+    private void merge(List<Run> runs, MergeSink sink) throws IOException {
+        int runCount = runs.size();
+        DataInputStream[] inputs = new DataInputStream[runCount];
+        long[] remaining = new long[runCount];
+        long[] current = new long[runCount];
+        int[] heap = new int[runCount];
+        int heapSize = 0;
+        int bufferSize = Math.max(IO_BUFFER_SIZE / 8, MERGE_BUFFER_BUDGET / Math.max(1, runCount));
+
+        try {
+            for (int i = 0; i < runCount; i++) {
+                Run run = runs.get(i);
+                inputs[i] = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.path), bufferSize));
+                remaining[i] = run.count;
+                if (remaining[i] > 0) {
+                    current[i] = inputs[i].readLong();
+                    remaining[i]--;
+                    heap[heapSize] = i;
+                    siftUp(heap, heapSize++, current);
+                }
+            }
+
+            while (heapSize > 0) {
+                int smallest = heap[0];
+                sink.accept(current[smallest]);
+                if (remaining[smallest] > 0) {
+                    current[smallest] = inputs[smallest].readLong();
+                    remaining[smallest]--;
+                } else {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, current);
+            }
+        } finally {
+            for (DataInputStream input : inputs) {
+                if (input != null) {
+                    input.close();
+                }
+            }
+        }
+    }
+
+    private static void siftUp(int[] heap, int index, long[] current) {
+        int item = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (current[heap[parent]] <= current[item]) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = item;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, long[] current) {
+        if (heapSize == 0) {
+            return;
+        }
+        int index = 0;
+        int item = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && current[heap[child + 1]] < current[heap[child]]) {
+                child++;
+            }
+            if (current[item] <= current[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = item;
+    }
+
+    private static void deleteDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static final String USAGE_MESSAGE = "Використання: java ExternalLocalTimeSorter <вхідний-файл> "
+        + "[--search <значення>] [--output <файл>] [--run-size <кількість>]\n"
+        + "Приклад:\n"
+        + "  java ExternalLocalTimeSorter list/LocalTime.data --search 12:34:56";
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length % 2 != 1) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        Path input = Paths.get(args[0]);
+        Path output = Paths.get(args[0] + ".sorted");
+        LocalTime searchValue = null;
+        int runSize = defaultRunSize();
+        try {
+            for (int i = 1; i < args.length; i += 2) {
+                switch (args[i]) {
+                    case "--search":
+                        searchValue = LocalTime.parse(args[i + 1], DateTimeFormatter.ISO_TIME);
+                        break;
+                    case "--output":
+                        output = Paths.get(args[i + 1]);
+                        break;
+                    case "--run-size":
+                        runSize = Integer.parseInt(args[i + 1]);
+                        break;
+                    default:
+                        System.out.println("Помилка: Невідомий параметр " + args[i]);
+                        System.out.println(USAGE_MESSAGE);
+                        return;
+                }
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            return;
+        }
+
+        sortAndReport(new ExternalLocalTimeSorter(runSize, Paths.get(System.getProperty("java.io.tmpdir"))),
+            input, output, searchValue);
+        ReportSink.flush();
+    }
+
+    /**
+     * Сортує файл, вимірюючи тривалість, і виводить статистику злиття.
+     *
+     * @param sorter Сортувальник
+     * @param input Вхідний файл
+     * @param output Вихідний файл
+     * @param searchValue Шукане значення (може бути null)
+     */
+    static void sortAndReport(ExternalLocalTimeSorter sorter, Path input, Path output, LocalTime searchValue) {
+        long timeStart = PerformanceTracker.startOperation();
+        DataOperationEvent event = DataOperationEvent.begin(new DataOperationEvent.Sort());
+        Result result = sorter.sort(input, output, searchValue);
+        event.finish("зовнішнє сортування файлу дати i часу", "file",
+            (int) Math.min(result.getCount(), Integer.MAX_VALUE), result.getMinValue(), result.getMaxValue());
+        PerformanceTracker.displayOperationTime(timeStart, "зовнішнє сортування файлу дати i часу", "file",
+            (int) Math.min(result.getCount(), Integer.MAX_VALUE));
+
+        ReportSink.message("Відсортовано {} значень (частин: {}) у файл {}", result.getCount(), result.getRunCount(), output);
+        if (result.getCount() > 0) {
+            ReportSink.message("Найменше значення у файлі: {}", result.getMinValue());
+            ReportSink.message("Найбільше значення у файлі: {}", result.getMaxValue());
+        }
+        if (searchValue != null) {
+            if (result.getSearchPosition() >= 0) {
+                ReportSink.message("Елемент '{}' знайдено у відсортованому файлі за позицією: {} (входжень: {})",
+                    searchValue, result.getSearchPosition(), result.getSearchOccurrences());
+            } else {
+                ReportSink.message("Елемент '{}' відсутній у файлі.", searchValue);
+            }
+        }
+    }
+}
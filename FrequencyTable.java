@@ -0,0 +1,273 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Клас FrequencyTable - таблиця частот для цілих значень з малого діапазону ключів
+ * (byte - 256 значень, short і char - 65 536 значень).
+ *
+ * <p>Таблиця будується за один прохід O(n): для кожного значення збільшується лічильник
+ * за індексом {@code value - minKey}. Далі всі відповіді дає таблиця, а не масив:</p>
+ * <ul>
+ *   <li>{@link #count(int)}, {@link #contains(int)} - O(1);</li>
+ *   <li>{@link #min()}, {@link #max()}, {@link #mode()}, {@link #countInRange(int, int)} - O(k),
+ *       де k - розмір діапазону ключів;</li>
+ *   <li>{@link #toSortedArray()} - сортування підрахунком O(n + k) без жодного порівняння.</li>
+ * </ul>
+ *
+ * <p>Великі масиви рахуються паралельно: кожна частина заповнює власну таблицю,
+ * після чого таблиці зливаються ({@link #merge(FrequencyTable)}) додаванням лічильників.
+ * Частина не менша за розмір таблиці, тож злиття не переважає підрахунок.</p>
+ *
+ * <p>Використання:</p>
+ * <pre>
+ * {@code
+ * int[] values = DataFileHandler.loadIntColumnFromFile("list/short.data");
+ * FrequencyTable table = FrequencyTable.of(values, Short.MIN_VALUE, Short.MAX_VALUE);
+ * int[] sorted = table.toSortedArray();
+ * boolean present = table.contains(42);
+ * long notGreater = table.countInRange(Short.MIN_VALUE, 42);
+ * }
+ * </pre>
+ */
+public final class FrequencyTable {
+    // найбільший діапазон ключів, для якого таблиця доцільна (short, char)
+    static final int MAX_KEY_COUNT = 1 << 16;
+    // мінімальна частина масиву для одного потоку
+    private static final int MIN_PARALLEL_CHUNK = 1 << 16;
+
+    private final int minKey;
+    private final int[] counts;
+    private long size;
+
+    /**
+     * Створює порожню таблицю для ключів з [minKey, maxKey].
+     *
+     * @param minKey Найменше допустиме значення
+     * @param maxKey Найбільше допустиме значення
+     * @throws IllegalArgumentException якщо діапазон порожній або ширший за {@value #MAX_KEY_COUNT}
+     */
+    public FrequencyTable(int minKey, int maxKey) {
+        long keyCount = (long) maxKey - minKey + 1;
+        if (keyCount < 1 || keyCount > MAX_KEY_COUNT) {
+            throw new IllegalArgumentException("Недопустимий діапазон ключів: [" + minKey + ", " + maxKey + "]");
+        }
+        this.minKey = minKey;
+        this.counts = new int[(int) keyCount];
+    }
+
+    /**
+     * Будує таблицю частот масиву; великі масиви рахуються паралельно по частинах.
+     *
+     * @param values Значення з [minKey, maxKey]
+     * @param minKey Найменше допустиме значення
+     * @param maxKey Найбільше допустиме значення
+     * @return Таблиця частот
+     * @throws IllegalArgumentException якщо значення не належить до діапазону
+     */
+    public static FrequencyTable of(int[] values, int minKey, int maxKey) {
+        FrequencyTable table = new FrequencyTable(minKey, maxKey);
+        int n = values.length;
+        int chunkCount = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(),
+            n / Math.max(MIN_PARALLEL_CHUNK, table.counts.length)));
+        if (chunkCount == 1) {
+            table.addAll(values, 0, n);
+            return table;
+        }
+
+        int chunkSize = (n + chunkCount - 1) / chunkCount;
+        FrequencyTable[] partial = new FrequencyTable[chunkCount];
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            FrequencyTable chunkTable = new FrequencyTable(minKey, maxKey);
+            chunkTable.addAll(values, chunk * chunkSize, Math.min(n, (chunk + 1) * chunkSize));
+            partial[chunk] = chunkTable;
+        });
+        for (FrequencyTable chunkTable : partial) {
+            table.merge(chunkTable);
+        }
+        return table;
+    }
+
+    /**
+     * Додає одне входження значення.
+     *
+     * @param value Значення з діапазону таблиці
+     * @throws IllegalArgumentException якщо значення не належить до діапазону
+     */
+    public void add(int value) {
+        counts[indexOf(value)]++;
+        size++;
+    }
+
+    private void addAll(int[] values, int from, int to) {
+        int[] localCounts = counts;
+        int offset = minKey;
+        for (int i = from; i < to; i++) {
+            int index = values[i] - offset;
+            if (index < 0 || index >= localCounts.length) {
+                throw outOfRange(values[i]);
+            }
+            localCounts[index]++;
+        }
+        size += to - from;
+    }
+
+    /**
+     * Додає лічильники іншої таблиці з тим самим діапазоном ключів.
+     *
+     * @param other Таблиця (наприклад, частини масиву, порахованої іншим потоком)
+     * @throws IllegalArgumentException якщо діапазони ключів різні
+     */
+    public void merge(FrequencyTable other) {
+        if (other.minKey != minKey || other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Таблиці мають різні діапазони ключів");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        size += other.size;
+    }
+
+    /**
+     * @return Кількість врахованих значень
+     */
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return Кількість різних значень
+     */
+    public int distinctCount() {
+        int distinct = 0;
+        for (int count : counts) {
+            if (count != 0) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * @param value Значення
+     * @return Кількість входжень (0 для значень поза діапазоном)
+     */
+    public int count(int value) {
+        long index = (long) value - minKey;
+        return index >= 0 && index < counts.length ? counts[(int) index] : 0;
+    }
+
+    public boolean contains(int value) {
+        return count(value) != 0;
+    }
+
+    /**
+     * @return Найменше значення
+     * @throws NoSuchElementException якщо таблиця порожня
+     */
+    public int min() {
+        checkNotEmpty();
+        int index = 0;
+        while (counts[index] == 0) {
+            index++;
+        }
+        return minKey + index;
+    }
+
+    /**
+     * @return Найбільше значення
+     * @throws NoSuchElementException якщо таблиця порожня
+     */
+    public int max() {
+        checkNotEmpty();
+        int index = counts.length - 1;
+        while (counts[index] == 0) {
+            index--;
+        }
+        return minKey + index;
+    }
+
+    /**
+     * @return Найчастіше значення; з однаково частих - найменше
+     * @throws NoSuchElementException якщо таблиця порожня
+     */
+    public int mode() {
+        checkNotEmpty();
+        int best = 0;
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] > counts[best]) {
+                best = i;
+            }
+        }
+        return minKey + best;
+    }
+
+    /**
+     * @param from Нижня межа (включно)
+     * @param to Верхня межа (включно)
+     * @return Кількість значень у [from, to]
+     */
+    public long countInRange(int from, int to) {
+        int start = (int) Math.max(0, (long) from - minKey);
+        int end = (int) Math.min(counts.length - 1, (long) to - minKey);
+        long total = 0;
+        for (int i = start; i <= end; i++) {
+            total += counts[i];
+        }
+        return total;
+    }
+
+    /**
+     * Сортування підрахунком: кожне значення записується стільки разів, скільки трапилось.
+     *
+     * @return Усі значення за зростанням
+     */
+    public int[] toSortedArray() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Забагато значень для масиву: " + size);
+        }
+        int[] sorted = new int[(int) size];
+        writeSorted(sorted);
+        return sorted;
+    }
+
+    /**
+     * Записує всі значення за зростанням на початок масиву.
+     *
+     * @param target Масив довжиною не менше {@link #size()}
+     */
+    public void writeSorted(int[] target) {
+        int position = 0;
+        for (int i = 0; i < counts.length; i++) {
+            int count = counts[i];
+            if (count != 0) {
+                Arrays.fill(target, position, position + count, minKey + i);
+                position += count;
+            }
+        }
+    }
+
+    private int indexOf(int value) {
+        long index = (long) value - minKey;
+        if (index < 0 || index >= counts.length) {
+            throw outOfRange(value);
+        }
+        return (int) index;
+    }
+
+    private IllegalArgumentException outOfRange(int value) {
+        return new IllegalArgumentException("Значення " + value + " поза діапазоном таблиці ["
+            + minKey + ", " + (minKey + counts.length - 1) + "]");
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Таблиця частот порожня");
+        }
+    }
+}
@@ -0,0 +1,289 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Клас MetricsExporter вивантажує метрики {@link PerformanceTracker} у машиночитному вигляді.
+ *
+ * <p>Підтримуються два формати:</p>
+ * <ul>
+ *   <li>JSON lines - один об'єкт на рядок для кожної операції; файл доповнюється,
+ *       тож послідовні запуски накопичують історію для трендів;</li>
+ *   <li>текстовий формат Prometheus - тривалість і виділення пам'яті як summary
+ *       з квантилями, збирання сміття як лічильники; файл перезаписується атомарно
+ *       (придатний для textfile collector).</li>
+ * </ul>
+ *
+ * <p>Кожна метрика має мітки {@code operation}, {@code backend} і {@code dataset_size}.
+ * Ті самі дані можна віддавати через локальний HTTP: {@code /metrics} (Prometheus)
+ * і {@code /metrics.json} (JSON lines).</p>
+ */
+public class MetricsExporter {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private MetricsExporter() {
+    }
+
+    /**
+     * Записує метрики у форматі JSON lines.
+     *
+     * @param writer Куди записувати
+     * @param metrics Метрики операцій
+     * @throws IOException у разі помилки запису
+     */
+    public static void writeJsonLines(Writer writer, List<OperationMetrics> metrics) throws IOException {
+        writeJsonLines(writer, metrics, null);
+    }
+
+    /**
+     * Записує метрики у форматі JSON lines з полем {@code type} на початку кожного запису.
+     *
+     * @param writer Куди записувати
+     * @param metrics Метрики операцій
+     * @param recordType Тип запису (наприклад, {@code summary}) або null, щоб не додавати поле
+     * @throws IOException у разі помилки запису
+     */
+    public static void writeJsonLines(Writer writer, List<OperationMetrics> metrics, String recordType) throws IOException {
+        long timestamp = System.currentTimeMillis();
+        for (OperationMetrics operationMetrics : metrics) {
+            OperationHistogram.Snapshot latency = operationMetrics.latencySnapshot();
+            OperationHistogram.Snapshot allocation = operationMetrics.allocationSnapshot();
+
+            StringBuilder line = new StringBuilder(512);
+            line.append('{');
+            if (recordType != null) {
+                line.append("\"type\":\"").append(escapeJson(recordType)).append("\",");
+            }
+            line.append("\"timestamp\":").append(timestamp)
+                .append(",\"operation\":\"").append(escapeJson(operationMetrics.getOperationName()))
+                .append("\",\"backend\":\"").append(escapeJson(operationMetrics.getBackend()))
+                .append("\",\"dataset_size\":").append(operationMetrics.getDatasetSize())
+                .append(",\"count\":").append(latency.getCount())
+                .append(",\"sum_ns\":").append(latency.getSum())
+                .append(",\"mean_ns\":").append(jsonDouble(latency.getMean()))
+                .append(",\"p50_ns\":").append(latency.getPercentile(50))
+                .append(",\"p90_ns\":").append(latency.getPercentile(90))
+                .append(",\"p99_ns\":").append(latency.getPercentile(99))
+                .append(",\"p999_ns\":").append(latency.getPercentile(99.9))
+                .append(",\"max_ns\":").append(latency.getMax())
+                .append(",\"allocated_bytes_count\":").append(allocation.getCount())
+                .append(",\"allocated_bytes_mean\":").append(jsonDouble(allocation.getMean()))
+                .append(",\"allocated_bytes_max\":").append(allocation.getMax())
+                .append(",\"gc_count\":").append(operationMetrics.getGcCount())
+                .append(",\"gc_time_ms\":").append(operationMetrics.getGcTimeMillis())
+                .append("}\n");
+            writer.write(line.toString());
+        }
+    }
+
+    /**
+     * Записує метрики в текстовому форматі Prometheus.
+     *
+     * @param writer Куди записувати
+     * @param metrics Метрики операцій
+     * @throws IOException у разі помилки запису
+     */
+    public static void writePrometheus(Writer writer, List<OperationMetrics> metrics) throws IOException {
+        StringBuilder text = new StringBuilder(4096);
+
+        text.append("# HELP data_operation_duration_nanoseconds Тривалість операції з даними.\n");
+        text.append("# TYPE data_operation_duration_nanoseconds summary\n");
+        for (OperationMetrics operationMetrics : metrics) {
+            appendSummary(text, "data_operation_duration_nanoseconds", labelsOf(operationMetrics),
+                operationMetrics.latencySnapshot());
+        }
+
+        text.append("# HELP data_operation_allocated_bytes Пам'ять, виділена потоком під час операції.\n");
+        text.append("# TYPE data_operation_allocated_bytes summary\n");
+        for (OperationMetrics operationMetrics : metrics) {
+            OperationHistogram.Snapshot allocation = operationMetrics.allocationSnapshot();
+            if (allocation.getCount() > 0) {
+                appendSummary(text, "data_operation_allocated_bytes", labelsOf(operationMetrics), allocation);
+            }
+        }
+
+        text.append("# HELP data_operation_gc_collections_total Збирання сміття під час операції.\n");
+        text.append("# TYPE data_operation_gc_collections_total counter\n");
+        for (OperationMetrics operationMetrics : metrics) {
+            text.append("data_operation_gc_collections_total{").append(labelsOf(operationMetrics)).append("} ")
+                .append(operationMetrics.getGcCount()).append('\n');
+        }
+
+        text.append("# HELP data_operation_gc_time_milliseconds_total Тривалість збирань сміття під час операції.\n");
+        text.append("# TYPE data_operation_gc_time_milliseconds_total counter\n");
+        for (OperationMetrics operationMetrics : metrics) {
+            text.append("data_operation_gc_time_milliseconds_total{").append(labelsOf(operationMetrics)).append("} ")
+                .append(operationMetrics.getGcTimeMillis()).append('\n');
+        }
+        writer.write(text.toString());
+    }
+
+    private static void appendSummary(StringBuilder text, String name, String labels, OperationHistogram.Snapshot snapshot) {
+        for (double quantile : QUANTILES) {
+            text.append(name).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                .append(snapshot.getPercentile(quantile * 100)).append('\n');
+        }
+        text.append(name).append("_sum{").append(labels).append("} ").append(snapshot.getSum()).append('\n');
+        text.append(name).append("_count{").append(labels).append("} ").append(snapshot.getCount()).append('\n');
+    }
+
+    private static String labelsOf(OperationMetrics operationMetrics) {
+        return "operation=\"" + escapeLabel(operationMetrics.getOperationName())
+            + "\",backend=\"" + escapeLabel(operationMetrics.getBackend())
+            + "\",dataset_size=\"" + operationMetrics.getDatasetSize() + "\"";
+    }
+
+    /**
+     * Дописує поточні метрики трекера до файлу JSON lines.
+     *
+     * @param path Шлях до файлу
+     */
+    public static void appendJsonLines(Path path) {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writeJsonLines(writer, PerformanceTracker.allMetrics());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не вдалося записати метрики у " + path, e);
+        }
+    }
+
+    /**
+     * Записує поточні метрики трекера у файл Prometheus. Файл замінюється атомарно,
+     * тож збирач ніколи не прочитає його наполовину записаним.
+     *
+     * @param path Шлях до файлу
+     */
+    public static void writePrometheusFile(Path path) {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writePrometheus(writer, PerformanceTracker.allMetrics());
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не вдалося записати метрики у " + path, e);
+        }
+    }
+
+    /**
+     * Запускає локальний HTTP-сервер з метриками трекера:
+     * {@code /metrics} - формат Prometheus, {@code /metrics.json} - JSON lines.
+     * Сервер слухає лише loopback-інтерфейс і працює у фоновому потоці.
+     *
+     * @param port Порт (0 - будь-який вільний)
+     * @return Запущений сервер; зупиняється через {@link HttpServer#stop(int)}
+     */
+    public static HttpServer startHttpServer(int port) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            server.createContext("/metrics.json", exchange -> respond(exchange, "application/x-ndjson; charset=utf-8",
+                () -> render(true)));
+            server.createContext("/metrics", exchange -> respond(exchange, "text/plain; version=0.0.4; charset=utf-8",
+                () -> render(false)));
+            server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-http");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не вдалося запустити HTTP-сервер метрик на порту " + port, e);
+        }
+    }
+
+    private static String render(boolean json) {
+        StringWriter writer = new StringWriter();
+        try {
+            if (json) {
+                writeJsonLines(writer, PerformanceTracker.allMetrics());
+            } else {
+                writePrometheus(writer, PerformanceTracker.allMetrics());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, Supplier<String> body) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] bytes = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // ===== Екранування =====
+
+    private static String formatDouble(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String jsonDouble(double value) {
+        return Double.isFinite(value) ? formatDouble(value) : "null";
+    }
+
+    /**
+     * Форматує число для JSON: NaN та нескінченність не є числами JSON, тож замість них - null.
+     *
+     * @param value Число
+     * @return Літерал JSON
+     */
+    static String jsonNumber(Number value) {
+        if ((value instanceof Double || value instanceof Float) && !Double.isFinite(value.doubleValue())) {
+            return "null";
+        }
+        return String.valueOf(value);
+    }
+
+    static String escapeJson(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char symbol = value.charAt(i);
+            switch (symbol) {
+                case '"': escaped.append("\\\""); break;
+                case '\\': escaped.append("\\\\"); break;
+                case '\n': escaped.append("\\n"); break;
+                case '\r': escaped.append("\\r"); break;
+                case '\t': escaped.append("\\t"); break;
+                default:
+                    if (symbol < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) symbol));
+                    } else {
+                        escaped.append(symbol);
+                    }
+            }
+        }
+        return escaped.toString();
+    }
+
+    static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,281 @@
+/**
+ * Клас NumericKernels - обчислювальні ядра над примітивними масивами: мінімум/максимум,
+ * сума, кількість значень у діапазоні та лінійний пошук.
+ *
+ * <p>Цикли розгорнуті на чотири незалежні акумулятори. Так розривається ланцюг залежностей
+ * між ітераціями: процесор виконує порівняння та додавання паралельно, а C2 може
+ * векторизувати прості лічильні цикли (SuperWord) без залежності від інкубаторного модуля
+ * {@code jdk.incubator.vector}, який вимагав би {@code --add-modules} для всієї збірки.
+ * Для порівняння в {@link DataOperationBenchmark} є наївні скалярні цикли.</p>
+ *
+ * <p>Дійсні числа обробляються за правилами {@link Math#min(double, double)} та
+ * {@link Double#equals(Object)}:</p>
+ * <ul>
+ *   <li>мінімум і максимум дорівнюють NaN, якщо масив містить NaN; -0.0 вважається
+ *       меншим за 0.0 (наївне {@code if (v < min)} залежить від порядку і «застрягає» на NaN
+ *       першого елемента);</li>
+ *   <li>діапазон перевіряється звичайним порівнянням: NaN не належить жодному діапазону,
+ *       -0.0 і 0.0 рівні;</li>
+ *   <li>пошук знаходить NaN і розрізняє -0.0 та 0.0 (як {@code Double.equals}).</li>
+ * </ul>
+ *
+ * <p>Цілі типи byte, short та int зберігаються в int[], тож для них спільні ядра.</p>
+ */
+public final class NumericKernels {
+    private NumericKernels() {
+    }
+
+    // ===== int[] (byte, short, int) =====
+
+    /**
+     * @param values Непорожній масив
+     * @return Масив {мінімум, максимум}
+     */
+    public static int[] minMax(int[] values) {
+        int min0 = values[0], min1 = min0, min2 = min0, min3 = min0;
+        int max0 = min0, max1 = min0, max2 = min0, max3 = min0;
+        int i = 0;
+        for (int end = values.length - 3; i < end; i += 4) {
+            min0 = Math.min(min0, values[i]);
+            max0 = Math.max(max0, values[i]);
+            min1 = Math.min(min1, values[i + 1]);
+            max1 = Math.max(max1, values[i + 1]);
+            min2 = Math.min(min2, values[i + 2]);
+            max2 = Math.max(max2, values[i + 2]);
+            min3 = Math.min(min3, values[i + 3]);
+            max3 = Math.max(max3, values[i + 3]);
+        }
+        for (; i < values.length; i++) {
+            min0 = Math.min(min0, values[i]);
+            max0 = Math.max(max0, values[i]);
+        }
+        return new int[] {Math.min(Math.min(min0, min1), Math.min(min2, min3)),
+            Math.max(Math.max(max0, max1), Math.max(max2, max3))};
+    }
+
+    /**
+     * @return Точна сума (long не переповнюється для масивів int довжиною до 2^31)
+     */
+    public static long sum(int[] values) {
+        long sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (int end = values.length - 3; i < end; i += 4) {
+            sum0 += values[i];
+            sum1 += values[i + 1];
+            sum2 += values[i + 2];
+            sum3 += values[i + 3];
+        }
+        for (; i < values.length; i++) {
+            sum0 += values[i];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    /**
+     * @return Кількість значень у [from, to]
+     */
+    public static int countInRange(int[] values, int from, int to) {
+        int count0 = 0, count1 = 0, count2 = 0, count3 = 0;
+        int i = 0;
+        for (int end = values.length - 3; i < end; i += 4) {
+            count0 += values[i] >= from && values[i] <= to ? 1 : 0;
+            count1 += values[i + 1] >= from && values[i + 1] <= to ? 1 : 0;
+            count2 += values[i + 2] >= from && values[i + 2] <= to ? 1 : 0;
+            count3 += values[i + 3] >= from && values[i + 3] <= to ? 1 : 0;
+        }
+        for (; i < values.length; i++) {
+            count0 += values[i] >= from && values[i] <= to ? 1 : 0;
+        }
+        return count0 + count1 + count2 + count3;
+    }
+
+    /**
+     * @return Позиція першого входження або -1
+     */
+    public static int indexOf(int[] values, int target) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ===== long[] =====
+
+    /**
+     * @param values Непорожній масив
+     * @return Масив {мінімум, максимум}
+     */
+    public static long[] minMax(long[] values) {
+        long min0 = values[0], min1 = min0, min2 = min0, min3 = min0;
+        long max0 = min0, max1 = min0, max2 = min0, max3 = min0;
+        int i = 0;
+        for (int end = values.length - 3; i < end; i += 4) {
+            min0 = Math.min(min0, values[i]);
+            max0 = Math.max(max0, values[i]);
+            min1 = Math.min(min1, values[i + 1]);
+            max1 = Math.max(max1, values[i + 1]);
+            min2 = Math.min(min2, values[i + 2]);
+            max2 = Math.max(max2, values[i + 2]);
+            min3 = Math.min(min3, values[i + 3]);
+            max3 = Math.max(max3, values[i + 3]);
+        }
+        for (; i < values.length; i++) {
+            min0 = Math.min(min0, values[i]);
+            max0 = Math.max(max0, values[i]);
+        }
+        return new long[] {Math.min(Math.min(min0, min1), Math.min(min2, min3)),
+            Math.max(Math.max(max0, max1), Math.max(max2, max3))};
+    }
+
+    /**
+     * Сума long може переповнити long, тому накопичується в double (точність - 53 біти).
+     *
+     * @return Наближена сума
+     */
+    public static double sum(long[] values) {
+        double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (int end = values.length - 3; i < end; i += 4) {
+            sum0 += values[i];
+            sum1 += values[i + 1];
+            sum2 += values[i + 2];
+            sum3 += values[i + 3];
+        }
+        for (; i < values.length; i++) {
+            sum0 += values[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * @return Кількість значень у [from, to]
+     */
+    public static int countInRange(long[] values, long from, long to) {
+        int count0 = 0, count1 = 0, count2 = 0, count3 = 0;
+        int i = 0;
+        for (int end = values.length - 3; i < end; i += 4) {
+            count0 += values[i] >= from && values[i] <= to ? 1 : 0;
+            count1 += values[i + 1] >= from && values[i + 1] <= to ? 1 : 0;
+            count2 += values[i + 2] >= from && values[i + 2] <= to ? 1 : 0;
+            count3 += values[i + 3] >= from && values[i + 3] <= to ? 1 : 0;
+        }
+        for (; i < values.length; i++) {
+            count0 += values[i] >= from && values[i] <= to ? 1 : 0;
+        }
+        return count0 + count1 + count2 + count3;
+    }
+
+    /**
+     * @return Позиція першого входження або -1
+     */
+    public static int indexOf(long[] values, long target) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ===== double[] (а також float, розширений без втрат) =====
+
+    /**
+     * @param values Непорожній масив
+     * @return Масив {мінімум, максимум}; NaN, якщо масив містить NaN
+     */
+    public static double[] minMax(double[] values) {
+        // Math.min/max поширюють NaN і впорядковують -0.0 < 0.0 незалежно від порядку елементів
+        double min0 = values[0], min1 = min0, min2 = min0, min3 = min0;
+        double max0 = min0, max1 = min0, max2 = min0, max3 = min0;
+        int i = 0;
+        for (int end = values.length - 3; i < end; i += 4) {
+            min0 = Math.min(min0, values[i]);
+            max0 = Math.max(max0, values[i]);
+            min1 = Math.min(min1, values[i + 1]);
+            max1 = Math.max(max1, values[i + 1]);
+            min2 = Math.min(min2, values[i + 2]);
+            max2 = Math.max(max2, values[i + 2]);
+            min3 = Math.min(min3, values[i + 3]);
+            max3 = Math.max(max3, values[i + 3]);
+        }
+        for (; i < values.length; i++) {
+            min0 = Math.min(min0, values[i]);
+            max0 = Math.max(max0, values[i]);
+        }
+        return new double[] {Math.min(Math.min(min0, min1), Math.min(min2, min3)),
+            Math.max(Math.max(max0, max1), Math.max(max2, max3))};
+    }
+
+    /**
+     * Сума з чотирма частковими сумами; порядок додавання відрізняється від послідовного,
+     * тож результат може відрізнятися в останніх розрядах.
+     *
+     * @return Сума; NaN, якщо масив містить NaN
+     */
+    public static double sum(double[] values) {
+        double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (int end = values.length - 3; i < end; i += 4) {
+            sum0 += values[i];
+            sum1 += values[i + 1];
+            sum2 += values[i + 2];
+            sum3 += values[i + 3];
+        }
+        for (; i < values.length; i++) {
+            sum0 += values[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * @return Кількість значень у [from, to]; NaN не враховується
+     */
+    public static int countInRange(double[] values, double from, double to) {
+        int count0 = 0, count1 = 0, count2 = 0, count3 = 0;
+        int i = 0;
+        for (int end = values.length - 3; i < end; i += 4) {
+            count0 += values[i] >= from && values[i] <= to ? 1 : 0;
+            count1 += values[i + 1] >= from && values[i + 1] <= to ? 1 : 0;
+            count2 += values[i + 2] >= from && values[i + 2] <= to ? 1 : 0;
+            count3 += values[i + 3] >= from && values[i + 3] <= to ? 1 : 0;
+        }
+        for (; i < values.length; i++) {
+            count0 += values[i] >= from && values[i] <= to ? 1 : 0;
+        }
+        return count0 + count1 + count2 + count3;
+    }
+
+    /**
+     * Пошук за правилами {@link Double#equals(Object)}: NaN знаходить NaN, -0.0 не дорівнює 0.0.
+     *
+     * @return Позиція першого входження або -1
+     */
+    public static int indexOf(double[] values, double target) {
+        if (Double.isNaN(target)) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != values[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        if (target == 0.0) {
+            long targetBits = Double.doubleToRawLongBits(target);
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == 0.0 && Double.doubleToRawLongBits(values[i]) == targetBits) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        // для решти значень звичайне порівняння збігається з Double.equals
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,940 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Клас OffHeapBoaMap реалізує хеш-таблицю Boa -> власник поза купою JVM.
+ *
+ * <p>Записи зберігаються у прямих (direct) буферах або у файлах, відображених у пам'ять,
+ * тому мільйони записів не створюють ні об'єктів Boa, ні вузлів HashMap, ні рядків String
+ * і не збільшують паузи збирача сміття. Пошук за ключем порівнює рядки ключа з байтами
+ * UTF-8 в арені символ за символом, не кодуючи їх у проміжні масиви.</p>
+ *
+ * <p>Структура сховища:</p>
+ * <ul>
+ *   <li>таблиця - заголовок і слоти з відкритою адресацією (лінійне зондування);</li>
+ *   <li>арена - додаються UTF-8 байти кличок, міст і імен власників.</li>
+ * </ul>
+ *
+ * <p>Слот займає 32 байти: стан, хеш-код, посилання на кличку, місто та власника в арені.
+ * Хеш-код сумісний з {@link BasicDataOperationUsingMap.Boa#hashCode()}.</p>
+ *
+ * <p>Рядки видалених і замінених записів стають сміттям в арені. Під час перебудови
+ * таблиці живі рядки копіюються в нову арену, а коли сміття займає більше половини
+ * арени, таблиця перебудовується і без росту.</p>
+ *
+ * <p>Заголовок (розмір, зайнятість арени) оновлюється в пам'яті й записується лише
+ * при {@link #flush()}, {@link #close()} та перебудові. Перша зміна після запису
+ * позначає заголовок як незавершений; якщо процес зупинився до наступного запису,
+ * {@link #openMapped(Path)} відновлює лічильники одним проходом по слотах.</p>
+ *
+ * <p>У режимі {@link #openMapped(Path)} таблиця та арена лежать у файлах каталогу,
+ * тож після перезапуску мапа повторно підключається до них без перебудови. Файли
+ * мають номер покоління ({@code boa.table.N}, {@code boa.arena.N}), а поточне покоління
+ * записано у файлі {@code boa.generation}. Перебудова пише нове покоління і лише потім
+ * атомарно перемикає номер, тож файли, ще відображені в пам'ять, ніколи не
+ * перейменовуються і не перезаписуються. Старі покоління видаляються, щойно їх
+ * відпущено; якщо ОС не дає видалити ще відображений файл (Windows), це робить
+ * наступне відкриття.</p>
+ */
+public class OffHeapBoaMap implements AutoCloseable {
+    private static final int MAGIC = 0x424F4131;
+    private static final int VERSION = 2;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 32;
+
+    private static final int OFFSET_MAGIC = 0;
+    private static final int OFFSET_VERSION = 4;
+    private static final int OFFSET_CAPACITY = 8;
+    private static final int OFFSET_SIZE = 16;
+    private static final int OFFSET_USED_SLOTS = 24;
+    private static final int OFFSET_ARENA_USED = 32;
+    private static final int OFFSET_ARENA_GARBAGE = 40;
+    private static final int OFFSET_DIRTY = 48;
+
+    private static final int SLOT_STATE = 0;
+    private static final int SLOT_HASH = 4;
+    private static final int SLOT_NICKNAME = 8;
+    private static final int SLOT_CITY = 16;
+    private static final int SLOT_OWNER = 24;
+
+    private static final int EMPTY = 0;
+    private static final int OCCUPIED = 1;
+    private static final int DELETED = 2;
+
+    private static final long NULL_REF = -1L;
+    private static final long MIN_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+    // менше сміття в арені не варте перебудови
+    private static final long MIN_COMPACTION_GARBAGE = 64 * 1024;
+
+    private static final String TABLE_FILE = "boa.table.";
+    private static final String ARENA_FILE = "boa.arena.";
+    private static final String GENERATION_FILE = "boa.generation";
+
+    private final Path directory;
+    private long generation;
+    private Region table;
+    private Region arena;
+
+    private long capacity;
+    private long size;
+    private long usedSlots;
+    private long arenaUsed;
+    private long arenaGarbage;
+    private boolean dirty;
+
+    private OffHeapBoaMap(Path directory, long generation, Region table, Region arena) {
+        this.directory = directory;
+        this.generation = generation;
+        this.table = table;
+        this.arena = arena;
+    }
+
+    /**
+     * Створює мапу у прямих буферах поза купою.
+     *
+     * @param expectedEntries Очікувана кількість записів
+     * @return Порожня мапа
+     */
+    public static OffHeapBoaMap allocateDirect(long expectedEntries) {
+        long initialCapacity = capacityFor(expectedEntries);
+        Region table = Region.allocateDirect(HEADER_SIZE + initialCapacity * SLOT_SIZE);
+        Region arena = Region.allocateDirect(Math.max(1024, expectedEntries * 32));
+
+        OffHeapBoaMap map = new OffHeapBoaMap(null, 0, table, arena);
+        map.initializeHeader(initialCapacity);
+        return map;
+    }
+
+    /**
+     * Відкриває мапу, збережену у файлах каталогу, або створює нову.
+     * Якщо файли поточного покоління вже існують, мапа підключається до них без перебудови.
+     *
+     * @param directory Каталог для файлів таблиці та арени
+     * @return Мапа, відображена в пам'ять
+     */
+    public static OffHeapBoaMap openMapped(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            long generation = readGeneration(directory);
+            if (generation >= 0) {
+                Path tablePath = tablePath(directory, generation);
+                Path arenaPath = arenaPath(directory, generation);
+                if (Files.exists(tablePath) && Files.size(tablePath) >= HEADER_SIZE && Files.exists(arenaPath)) {
+                    Region table = Region.map(tablePath, Files.size(tablePath));
+                    Region arena = Region.map(arenaPath, Files.size(arenaPath));
+                    OffHeapBoaMap map = new OffHeapBoaMap(directory, generation, table, arena);
+                    if (map.readHeader()) {
+                        deleteStaleGenerations(directory, generation);
+                        return map;
+                    }
+                    // пошкоджений або чужий файл - відпускаємо його і створюємо нове покоління
+                    table.close();
+                    arena.close();
+                }
+            }
+
+            long newGeneration = generation + 1;
+            long initialCapacity = capacityFor(0);
+            Region table = Region.map(freshPath(tablePath(directory, newGeneration)), HEADER_SIZE + initialCapacity * SLOT_SIZE);
+            Region arena = Region.map(freshPath(arenaPath(directory, newGeneration)), 1024);
+            OffHeapBoaMap map = new OffHeapBoaMap(directory, newGeneration, table, arena);
+            map.initializeHeader(initialCapacity);
+            table.force();
+            arena.force();
+            writeGeneration(directory, newGeneration);
+            deleteStaleGenerations(directory, newGeneration);
+            return map;
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Повертає кількість записів у мапі.
+     *
+     * @return Кількість записів
+     */
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Перевіряє наявність ключа.
+     *
+     * @param key Ключ Boa
+     * @return true, якщо запис з таким ключем існує
+     */
+    public boolean containsKey(BasicDataOperationUsingMap.Boa key) {
+        return findSlot(key.getNickname(), key.getBirthCity(), key.hashCode()) >= 0;
+    }
+
+    /**
+     * Повертає ім'я власника за ключем.
+     *
+     * @param key Ключ Boa
+     * @return Ім'я власника або null, якщо ключ відсутній
+     */
+    public String get(BasicDataOperationUsingMap.Boa key) {
+        long slot = findSlot(key.getNickname(), key.getBirthCity(), key.hashCode());
+        if (slot < 0) {
+            return null;
+        }
+        return readString(table.getLong(slot + SLOT_OWNER));
+    }
+
+    /**
+     * Додає або замінює запис.
+     *
+     * @param key Ключ Boa
+     * @param owner Ім'я власника
+     * @return Попереднє ім'я власника або null
+     */
+    public String put(BasicDataOperationUsingMap.Boa key, String owner) {
+        int hash = key.hashCode();
+        markDirty();
+
+        long existing = findSlot(key.getNickname(), key.getBirthCity(), hash);
+        if (existing >= 0) {
+            long previousReference = table.getLong(existing + SLOT_OWNER);
+            String previous = readString(previousReference);
+            table.putLong(existing + SLOT_OWNER, replaceString(previousReference, encode(owner)));
+            compactIfNeeded();
+            return previous;
+        }
+
+        if (usedSlots + 1 > (long) (capacity * MAX_LOAD_FACTOR)) {
+            rehash(capacityFor(size + 1));
+        }
+
+        long slot = insertionSlot(hash);
+        if (table.getInt(slot + SLOT_STATE) == EMPTY) {
+            usedSlots++;
+        }
+        table.putInt(slot + SLOT_HASH, hash);
+        table.putLong(slot + SLOT_NICKNAME, appendString(encode(key.getNickname())));
+        table.putLong(slot + SLOT_CITY, appendString(encode(key.getBirthCity())));
+        table.putLong(slot + SLOT_OWNER, appendString(encode(owner)));
+        table.putInt(slot + SLOT_STATE, OCCUPIED);
+        size++;
+        return null;
+    }
+
+    /**
+     * Копіює всі записи звичайної мапи.
+     *
+     * @param source Мапа з даними
+     */
+    public void putAll(Map<BasicDataOperationUsingMap.Boa, String> source) {
+        for (Map.Entry<BasicDataOperationUsingMap.Boa, String> entry : source.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Видаляє запис за ключем.
+     *
+     * @param key Ключ Boa
+     * @return Ім'я власника видаленого запису або null
+     */
+    public String remove(BasicDataOperationUsingMap.Boa key) {
+        long slot = findSlot(key.getNickname(), key.getBirthCity(), key.hashCode());
+        if (slot < 0) {
+            return null;
+        }
+        markDirty();
+        String previous = readString(table.getLong(slot + SLOT_OWNER));
+        releaseSlot(slot);
+        compactIfNeeded();
+        return previous;
+    }
+
+    /**
+     * Видаляє всі записи з вказаним власником.
+     * Порівнює UTF-8 байти напряму в арені, не створюючи рядків.
+     *
+     * @param owner Ім'я власника
+     * @return Кількість видалених записів
+     */
+    public int removeByValue(String owner) {
+        byte[] ownerBytes = encode(owner);
+        int removed = 0;
+
+        for (long index = 0; index < capacity; index++) {
+            long slot = slotOffset(index);
+            if (table.getInt(slot + SLOT_STATE) == OCCUPIED && equalsBytes(table.getLong(slot + SLOT_OWNER), ownerBytes)) {
+                markDirty();
+                releaseSlot(slot);
+                removed++;
+            }
+        }
+
+        compactIfNeeded();
+        return removed;
+    }
+
+    /**
+     * Шукає перший ключ з вказаним власником.
+     *
+     * @param owner Ім'я власника
+     * @return Ключ Boa або null, якщо власника немає
+     */
+    public BasicDataOperationUsingMap.Boa findKeyByValue(String owner) {
+        byte[] ownerBytes = encode(owner);
+
+        for (long index = 0; index < capacity; index++) {
+            long slot = slotOffset(index);
+            if (table.getInt(slot + SLOT_STATE) == OCCUPIED && equalsBytes(table.getLong(slot + SLOT_OWNER), ownerBytes)) {
+                return new BasicDataOperationUsingMap.Boa(
+                    readString(table.getLong(slot + SLOT_NICKNAME)),
+                    readString(table.getLong(slot + SLOT_CITY)));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Повертає кількість байтів, зайнятих таблицею та ареною.
+     *
+     * @return Обсяг пам'яті поза купою в байтах
+     */
+    public long offHeapBytes() {
+        return HEADER_SIZE + capacity * SLOT_SIZE + arenaUsed;
+    }
+
+    /**
+     * Записує заголовок і (для файлового режиму) скидає таблицю та арену на диск.
+     * Викликається після пакета змін; кожна окрема зміна заголовок не переписує.
+     */
+    public void flush() {
+        writeHeader();
+        arena.force();
+        table.force();
+    }
+
+    /**
+     * Скидає зміни на диск (для файлового режиму) та звільняє канали.
+     */
+    @Override
+    public void close() {
+        flush();
+        table.close();
+        arena.close();
+    }
+
+    // ===== Внутрішня логіка хеш-таблиці =====
+
+    private static long capacityFor(long entries) {
+        long required = (long) Math.ceil(Math.max(entries, 1) / MAX_LOAD_FACTOR) + 1;
+        long result = MIN_CAPACITY;
+        while (result < required) {
+            result <<= 1;
+        }
+        return result;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static long slotOffset(long index) {
+        return HEADER_SIZE + index * SLOT_SIZE;
+    }
+
+    private long findSlot(String nickname, String city, int hash) {
+        long mask = capacity - 1;
+        long index = spread(hash) & mask;
+
+        for (long probes = 0; probes < capacity; probes++) {
+            long slot = slotOffset(index);
+            int state = table.getInt(slot + SLOT_STATE);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == OCCUPIED
+                    && table.getInt(slot + SLOT_HASH) == hash
+                    && equalsString(table.getLong(slot + SLOT_NICKNAME), nickname)
+                    && equalsString(table.getLong(slot + SLOT_CITY), city)) {
+                return slot;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private long insertionSlot(int hash) {
+        long mask = capacity - 1;
+        long index = spread(hash) & mask;
+
+        while (true) {
+            long slot = slotOffset(index);
+            if (table.getInt(slot + SLOT_STATE) != OCCUPIED) {
+                return slot;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void releaseSlot(long slot) {
+        table.putInt(slot + SLOT_STATE, DELETED);
+        arenaGarbage += recordSize(table.getLong(slot + SLOT_NICKNAME))
+            + recordSize(table.getLong(slot + SLOT_CITY))
+            + recordSize(table.getLong(slot + SLOT_OWNER));
+        size--;
+    }
+
+    /**
+     * Перебудовує таблицю без росту, коли сміття займає більше половини арени.
+     */
+    private void compactIfNeeded() {
+        if (arenaGarbage >= MIN_COMPACTION_GARBAGE && arenaGarbage * 2 > arenaUsed) {
+            rehash(capacityFor(size));
+        }
+    }
+
+    /**
+     * Переносить живі записи до нової таблиці та нової арени: рядки копіюються щільно,
+     * тож сміття видалених і замінених записів не переноситься.
+     *
+     * <p>У файловому режимі нове покоління повністю записується й скидається на диск,
+     * після чого атомарно змінюється номер поточного покоління. Лише тоді старі буфери
+     * відпускаються, а їхні файли видаляються.</p>
+     */
+    private void rehash(long newCapacity) {
+        Region oldTable = table;
+        Region oldArena = arena;
+        long oldCapacity = capacity;
+        long newGeneration = generation + 1;
+        long arenaBytes = Math.max(1024, arenaUsed - arenaGarbage);
+
+        Region newTable = directory != null
+            ? Region.map(freshPath(tablePath(directory, newGeneration)), HEADER_SIZE + newCapacity * SLOT_SIZE)
+            : Region.allocateDirect(HEADER_SIZE + newCapacity * SLOT_SIZE);
+        Region newArena = directory != null
+            ? Region.map(freshPath(arenaPath(directory, newGeneration)), arenaBytes)
+            : Region.allocateDirect(arenaBytes);
+
+        table = newTable;
+        arena = newArena;
+        capacity = newCapacity;
+        usedSlots = 0;
+        arenaUsed = 0;
+        arenaGarbage = 0;
+        long mask = newCapacity - 1;
+
+        for (long oldIndex = 0; oldIndex < oldCapacity; oldIndex++) {
+            long oldSlot = slotOffset(oldIndex);
+            if (oldTable.getInt(oldSlot + SLOT_STATE) != OCCUPIED) {
+                continue;
+            }
+            int hash = oldTable.getInt(oldSlot + SLOT_HASH);
+            long index = spread(hash) & mask;
+            while (newTable.getInt(slotOffset(index) + SLOT_STATE) != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            long slot = slotOffset(index);
+            newTable.putInt(slot + SLOT_HASH, hash);
+            newTable.putLong(slot + SLOT_NICKNAME, appendString(readBytes(oldArena, oldTable.getLong(oldSlot + SLOT_NICKNAME))));
+            newTable.putLong(slot + SLOT_CITY, appendString(readBytes(oldArena, oldTable.getLong(oldSlot + SLOT_CITY))));
+            newTable.putLong(slot + SLOT_OWNER, appendString(readBytes(oldArena, oldTable.getLong(oldSlot + SLOT_OWNER))));
+            newTable.putInt(slot + SLOT_STATE, OCCUPIED);
+            usedSlots++;
+        }
+
+        newTable.putInt(OFFSET_MAGIC, MAGIC);
+        newTable.putInt(OFFSET_VERSION, VERSION);
+        writeHeader();
+
+        if (directory != null) {
+            // нове покоління повністю записане - перемикаємо на нього номер поточного
+            newArena.force();
+            newTable.force();
+            writeGeneration(directory, newGeneration);
+        }
+        generation = newGeneration;
+        oldTable.close();
+        oldArena.close();
+        if (directory != null) {
+            deleteStaleGenerations(directory, newGeneration);
+        }
+    }
+
+    private void initializeHeader(long initialCapacity) {
+        capacity = initialCapacity;
+        size = 0;
+        usedSlots = 0;
+        arenaUsed = 0;
+        arenaGarbage = 0;
+        table.putInt(OFFSET_MAGIC, MAGIC);
+        table.putInt(OFFSET_VERSION, VERSION);
+        writeHeader();
+    }
+
+    private boolean readHeader() {
+        if (table.getInt(OFFSET_MAGIC) != MAGIC || table.getInt(OFFSET_VERSION) != VERSION) {
+            return false;
+        }
+        capacity = table.getLong(OFFSET_CAPACITY);
+        if (Long.bitCount(capacity) != 1 || table.capacity() < HEADER_SIZE + capacity * SLOT_SIZE) {
+            return false;
+        }
+        size = table.getLong(OFFSET_SIZE);
+        usedSlots = table.getLong(OFFSET_USED_SLOTS);
+        arenaUsed = table.getLong(OFFSET_ARENA_USED);
+        arenaGarbage = table.getLong(OFFSET_ARENA_GARBAGE);
+        if (table.getInt(OFFSET_DIRTY) != 0) {
+            recoverHeader();
+        }
+        return true;
+    }
+
+    /**
+     * Відновлює лічильники заголовка проходом по слотах, якщо попередній процес
+     * не записав заголовок після останніх змін.
+     */
+    private void recoverHeader() {
+        size = 0;
+        usedSlots = 0;
+        arenaUsed = 0;
+        long liveBytes = 0;
+        for (long index = 0; index < capacity; index++) {
+            long slot = slotOffset(index);
+            int state = table.getInt(slot + SLOT_STATE);
+            if (state == EMPTY) {
+                continue;
+            }
+            usedSlots++;
+            if (state != OCCUPIED) {
+                continue;
+            }
+            size++;
+            for (int field = SLOT_NICKNAME; field <= SLOT_OWNER; field += 8) {
+                long reference = table.getLong(slot + field);
+                if (reference != NULL_REF) {
+                    arenaUsed = Math.max(arenaUsed, reference + 4 + arena.getInt(reference));
+                    liveBytes += recordSize(reference);
+                }
+            }
+        }
+        arenaGarbage = Math.max(0, arenaUsed - liveBytes);
+        writeHeader();
+    }
+
+    /**
+     * Позначає заголовок як незавершений перед першою зміною після запису заголовка.
+     */
+    private void markDirty() {
+        if (!dirty) {
+            dirty = true;
+            table.putInt(OFFSET_DIRTY, 1);
+        }
+    }
+
+    private void writeHeader() {
+        table.putLong(OFFSET_CAPACITY, capacity);
+        table.putLong(OFFSET_SIZE, size);
+        table.putLong(OFFSET_USED_SLOTS, usedSlots);
+        table.putLong(OFFSET_ARENA_USED, arenaUsed);
+        table.putLong(OFFSET_ARENA_GARBAGE, arenaGarbage);
+        table.putInt(OFFSET_DIRTY, 0);
+        dirty = false;
+    }
+
+    // ===== Файли поколінь =====
+
+    private static Path tablePath(Path directory, long generation) {
+        return directory.resolve(TABLE_FILE + generation);
+    }
+
+    private static Path arenaPath(Path directory, long generation) {
+        return directory.resolve(ARENA_FILE + generation);
+    }
+
+    /**
+     * Видаляє залишок незавершеної перебудови з тим самим номером покоління:
+     * такий файл ніколи не був поточним, тож не відображений у пам'ять.
+     */
+    private static Path freshPath(Path path) {
+        try {
+            Files.deleteIfExists(path);
+            return path;
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * @return Номер поточного покоління або -1, якщо мапа ще не створювалась
+     */
+    private static long readGeneration(Path directory) throws IOException {
+        Path generationPath = directory.resolve(GENERATION_FILE);
+        if (!Files.exists(generationPath)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(Files.readString(generationPath, StandardCharsets.UTF_8).trim());
+        } catch (NumberFormatException numberFormatException) {
+            return -1;
+        }
+    }
+
+    /**
+     * Записує номер покоління у тимчасовий файл і атомарно замінює ним поточний.
+     * Файл номера не відображається в пам'ять, тож заміна можлива на будь-якій ОС.
+     */
+    private static void writeGeneration(Path directory, long generation) {
+        Path generationPath = directory.resolve(GENERATION_FILE);
+        Path temporaryPath = directory.resolve(GENERATION_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(Long.toString(generation).getBytes(StandardCharsets.UTF_8)));
+            channel.force(true);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+        try {
+            Files.move(temporaryPath, generationPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Видаляє файли всіх поколінь, крім поточного. Файл, який ОС ще не дає видалити
+     * (відображення звільняється лише збирачем сміття), залишається до наступного відкриття.
+     */
+    private static void deleteStaleGenerations(Path directory, long currentGeneration) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "boa.{table,arena}.*")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String suffix = name.substring(name.lastIndexOf('.') + 1);
+                long fileGeneration;
+                try {
+                    fileGeneration = Long.parseLong(suffix);
+                } catch (NumberFormatException numberFormatException) {
+                    continue;
+                }
+                if (fileGeneration != currentGeneration) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException ioException) {
+                        // файл ще відображений - його видалить наступне відкриття
+                    }
+                }
+            }
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    // ===== Арена рядків UTF-8 =====
+
+    private static byte[] encode(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Дописує рядок в арену у форматі [довжина int][байти UTF-8].
+     * Записи вирівнюються на 4 байти, щоб довжина не перетинала межу сегмента.
+     */
+    private long appendString(byte[] bytes) {
+        if (bytes == null) {
+            return NULL_REF;
+        }
+        long position = (arenaUsed + 3) & ~3L;
+        arena.ensureCapacity(position + 4 + bytes.length);
+        arena.putInt(position, bytes.length);
+        arena.putBytes(position + 4, bytes);
+        arenaUsed = position + 4 + bytes.length;
+        return position;
+    }
+
+    /**
+     * Замінює рядок в арені: новий записується на місце старого, якщо вміщується у його
+     * вирівняний запис (або старий запис - останній в арені), інакше дописується в кінець,
+     * а старий запис враховується як сміття.
+     */
+    private long replaceString(long reference, byte[] bytes) {
+        if (reference == NULL_REF || bytes == null) {
+            return appendString(bytes);
+        }
+        long oldEnd = reference + 4 + arena.getInt(reference);
+        boolean lastRecord = oldEnd == arenaUsed;
+        long reservedEnd = (oldEnd + 3) & ~3L;
+        if (!lastRecord && reference + 4 + bytes.length > reservedEnd) {
+            arenaGarbage += recordSize(reference);
+            return appendString(bytes);
+        }
+        if (lastRecord) {
+            arena.ensureCapacity(reference + 4 + bytes.length);
+            arenaUsed = reference + 4 + bytes.length;
+        }
+        arena.putInt(reference, bytes.length);
+        arena.putBytes(reference + 4, bytes);
+        return reference;
+    }
+
+    /**
+     * @return Кількість байтів арени, яку займає запис разом з вирівнюванням
+     */
+    private long recordSize(long reference) {
+        return reference == NULL_REF ? 0 : (4 + arena.getInt(reference) + 3) & ~3L;
+    }
+
+    private String readString(long reference) {
+        byte[] bytes = readBytes(arena, reference);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    private static byte[] readBytes(Region source, long reference) {
+        if (reference == NULL_REF) {
+            return null;
+        }
+        byte[] bytes = new byte[source.getInt(reference)];
+        source.getBytes(reference + 4, bytes);
+        return bytes;
+    }
+
+    /**
+     * Порівнює рядок з байтами UTF-8 в арені, кодуючи його символ за символом,
+     * так само як {@link String#getBytes(java.nio.charset.Charset)} (непарний сурогат - '?').
+     */
+    private boolean equalsString(long reference, String value) {
+        if (reference == NULL_REF || value == null) {
+            return reference == NULL_REF && value == null;
+        }
+        long position = reference + 4;
+        long end = position + arena.getInt(reference);
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            int codePoint = value.charAt(i);
+            if (codePoint < 0x80) {
+                if (position == end || arena.getByte(position++) != codePoint) {
+                    return false;
+                }
+                continue;
+            }
+            if (Character.isHighSurrogate((char) codePoint) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                codePoint = Character.toCodePoint((char) codePoint, value.charAt(++i));
+            } else if (Character.isSurrogate((char) codePoint)) {
+                codePoint = '?';
+            }
+            int byteCount = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (end - position < byteCount) {
+                return false;
+            }
+            if (byteCount == 1) {
+                if (arena.getByte(position++) != codePoint) {
+                    return false;
+                }
+                continue;
+            }
+            // перший байт: маркер довжини і старші біти, далі - по 6 бітів з маркером 10
+            int shift = 6 * (byteCount - 1);
+            int lead = (0xF00 >> byteCount) & 0xFF | (codePoint >> shift);
+            if (arena.getByte(position++) != (byte) lead) {
+                return false;
+            }
+            while (shift > 0) {
+                shift -= 6;
+                if (arena.getByte(position++) != (byte) (0x80 | ((codePoint >> shift) & 0x3F))) {
+                    return false;
+                }
+            }
+        }
+        return position == end;
+    }
+
+    private boolean equalsBytes(long reference, byte[] bytes) {
+        if (reference == NULL_REF || bytes == null) {
+            return reference == NULL_REF && bytes == null;
+        }
+        if (arena.getInt(reference) != bytes.length) {
+            return false;
+        }
+        long start = reference + 4;
+        for (int i = 0; i < bytes.length; i++) {
+            if (arena.getByte(start + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Внутрішній клас Region - сховище поза купою з 64-бітною адресацією.
+     *
+     * Складається з сегментів до 1 ГБ, бо окремий ByteBuffer адресується лише int.
+     * Усі сегменти, крім останнього, мають повний розмір; останній зростає подвоєнням.
+     */
+    private static final class Region {
+        private static final int CHUNK_SHIFT = 30;
+        private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+        private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+
+        private final FileChannel channel;
+        private ByteBuffer[] chunks = new ByteBuffer[0];
+        private long capacity;
+
+        private Region(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        static Region allocateDirect(long bytes) {
+            Region region = new Region(null);
+            region.ensureCapacity(bytes);
+            return region;
+        }
+
+        static Region map(Path path, long bytes) {
+            try {
+                FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                Region region = new Region(channel);
+                region.ensureCapacity(Math.max(bytes, channel.size()));
+                return region;
+            } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+        }
+
+        long capacity() {
+            return capacity;
+        }
+
+        void ensureCapacity(long required) {
+            if (required <= capacity) {
+                return;
+            }
+            long target = Math.max(required, capacity * 2);
+            int lastIndex = chunks.length - 1;
+
+            // спочатку доповнюємо останній неповний сегмент
+            if (lastIndex >= 0 && chunks[lastIndex].capacity() < CHUNK_SIZE) {
+                long chunkStart = (long) lastIndex << CHUNK_SHIFT;
+                int newSize = (int) Math.min(CHUNK_SIZE, target - chunkStart);
+                chunks[lastIndex] = resize(chunks[lastIndex], lastIndex, newSize);
+            }
+
+            while (chunkedCapacity() < target) {
+                long chunkStart = (long) chunks.length << CHUNK_SHIFT;
+                int newSize = (int) Math.min(CHUNK_SIZE, target - chunkStart);
+                ByteBuffer[] grown = new ByteBuffer[chunks.length + 1];
+                System.arraycopy(chunks, 0, grown, 0, chunks.length);
+                grown[chunks.length] = resize(null, chunks.length, newSize);
+                chunks = grown;
+            }
+            capacity = chunkedCapacity();
+        }
+
+        private long chunkedCapacity() {
+            if (chunks.length == 0) {
+                return 0;
+            }
+            return ((long) (chunks.length - 1) << CHUNK_SHIFT) + chunks[chunks.length - 1].capacity();
+        }
+
+        private ByteBuffer resize(ByteBuffer previous, int chunkIndex, int newSize) {
+            if (channel != null) {
+                try {
+                    // відображення більшої ділянки файлу зберігає вже записані дані
+                    return channel.map(FileChannel.MapMode.READ_WRITE, (long) chunkIndex << CHUNK_SHIFT, newSize);
+                } catch (IOException ioException) {
+                    throw new UncheckedIOException(ioException);
+                }
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(newSize);
+            if (previous != null) {
+                ByteBuffer source = previous.duplicate();
+                source.clear();
+                buffer.put(source);
+                buffer.clear();
+            }
+            return buffer;
+        }
+
+        int getInt(long position) {
+            return chunks[(int) (position >>> CHUNK_SHIFT)].getInt((int) (position & CHUNK_MASK));
+        }
+
+        void putInt(long position, int value) {
+            chunks[(int) (position >>> CHUNK_SHIFT)].putInt((int) (position & CHUNK_MASK), value);
+        }
+
+        long getLong(long position) {
+            return chunks[(int) (position >>> CHUNK_SHIFT)].getLong((int) (position & CHUNK_MASK));
+        }
+
+        void putLong(long position, long value) {
+            chunks[(int) (position >>> CHUNK_SHIFT)].putLong((int) (position & CHUNK_MASK), value);
+        }
+
+        byte getByte(long position) {
+            return chunks[(int) (position >>> CHUNK_SHIFT)].get((int) (position & CHUNK_MASK));
+        }
+
+        void putBytes(long position, byte[] bytes) {
+            int written = 0;
+            while (written < bytes.length) {
+                long current = position + written;
+                ByteBuffer chunk = chunks[(int) (current >>> CHUNK_SHIFT)];
+                int offset = (int) (current & CHUNK_MASK);
+                int length = Math.min(bytes.length - written, chunk.capacity() - offset);
+                chunk.put(offset, bytes, written, length);
+                written += length;
+            }
+        }
+
+        void getBytes(long position, byte[] bytes) {
+            int read = 0;
+            while (read < bytes.length) {
+                long current = position + read;
+                ByteBuffer chunk = chunks[(int) (current >>> CHUNK_SHIFT)];
+                int offset = (int) (current & CHUNK_MASK);
+                int length = Math.min(bytes.length - read, chunk.capacity() - offset);
+                chunk.get(offset, bytes, read, length);
+                read += length;
+            }
+        }
+
+        void force() {
+            for (ByteBuffer chunk : chunks) {
+                if (chunk instanceof MappedByteBuffer) {
+                    ((MappedByteBuffer) chunk).force();
+                }
+            }
+        }
+
+        /**
+         * Скидає зміни та відпускає буфери: відображення файлу звільняється, коли збирач
+         * сміття прибере буфери, тож після закриття на них не лишається жодного посилання.
+         */
+        void close() {
+            force();
+            chunks = new ByteBuffer[0];
+            capacity = 0;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ioException) {
+                    ioException.printStackTrace();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Клас OperationHistogram - гістограма тривалостей операції з лог-лінійними кошиками (як HdrHistogram).
+ *
+ * <p>Значення до 32 нс мають власні кошики, а кожен наступний степінь двійки ділиться
+ * на 32 рівні кошики, тож відносна похибка процентилів не перевищує ~3%.
+ * Номер кошика обчислюється кількома бітовими операціями, без розгалужень за значенням.</p>
+ *
+ * <p>Запис не виділяє пам'яті та потокобезпечний: лічильники розбиті на смуги
+ * (striped counters), і кожен потік оновлює смугу, обрану за його ідентифікатором.
+ * Смуга створюється лише під час першого запису з потоку, що на неї відображається.
+ * Під час читання смуги зводяться в один {@link Snapshot}.</p>
+ */
+public class OperationHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // найбільший степінь двійки, що розрізняється; довші операції (понад ~18 хв) потрапляють в останній кошик
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    // додаткові комірки смуги після кошиків
+    private static final int SUM_INDEX = BUCKET_COUNT;
+    private static final int MAX_INDEX = BUCKET_COUNT + 1;
+    private static final int STRIPE_LENGTH = BUCKET_COUNT + 2;
+
+    private static final int STRIPE_COUNT = stripeCountFor(Runtime.getRuntime().availableProcessors());
+
+    private final String operationName;
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPE_COUNT);
+
+    /**
+     * Створює порожню гістограму.
+     *
+     * @param operationName Назва операції
+     */
+    public OperationHistogram(String operationName) {
+        this.operationName = operationName;
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    private static int stripeCountFor(int processors) {
+        int count = 1;
+        while (count < processors && count < 16) {
+            count <<= 1;
+        }
+        return count;
+    }
+
+    /**
+     * Обчислює номер кошика для значення.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return value < 0 ? 0 : (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int mantissa = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKET_COUNT + mantissa - SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * Повертає найбільше значення, що потрапляє в кошик.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long mantissa = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Записує одне вимірювання.
+     *
+     * @param nanos Тривалість операції в наносекундах
+     */
+    public void record(long nanos) {
+        AtomicLongArray stripe = stripeForCurrentThread();
+        // кількість окремо не зберігається - вона дорівнює сумі кошиків
+        stripe.getAndIncrement(bucketIndex(nanos));
+        stripe.getAndAdd(SUM_INDEX, nanos);
+
+        long currentMax = stripe.get(MAX_INDEX);
+        while (nanos > currentMax && !stripe.compareAndSet(MAX_INDEX, currentMax, nanos)) {
+            currentMax = stripe.get(MAX_INDEX);
+        }
+    }
+
+    private AtomicLongArray stripeForCurrentThread() {
+        int index = (int) Thread.currentThread().getId() & (STRIPE_COUNT - 1);
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            AtomicLongArray created = new AtomicLongArray(STRIPE_LENGTH);
+            stripe = stripes.compareAndSet(index, null, created) ? created : stripes.get(index);
+        }
+        return stripe;
+    }
+
+    /**
+     * Очищує всі лічильники гістограми.
+     */
+    public void reset() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes.set(i, null);
+        }
+    }
+
+    /**
+     * Зводить усі смуги в знімок для звітності.
+     *
+     * @return Знімок гістограми
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        long sum = 0;
+        long max = 0;
+
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            AtomicLongArray stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                long bucketCount = stripe.get(bucket);
+                counts[bucket] += bucketCount;
+                count += bucketCount;
+            }
+            sum += stripe.get(SUM_INDEX);
+            max = Math.max(max, stripe.get(MAX_INDEX));
+        }
+        return new Snapshot(operationName, counts, count, sum, max);
+    }
+
+    /**
+     * Незмінний знімок гістограми в певний момент часу.
+     */
+    public static class Snapshot {
+        private final String operationName;
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        Snapshot(String operationName, long[] counts, long count, long sum, long max) {
+            this.operationName = operationName;
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public String getOperationName() {
+            return operationName;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * Повертає значення процентиля - верхню межу кошика, в якому він лежить
+         * (але не більше за точний максимум).
+         *
+         * @param percentile Процентиль від 0 до 100
+         * @return Значення в наносекундах
+         */
+        public long getPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(bucket), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Клас OperationMetrics об'єднує всі метрики однієї операції.
+ *
+ * <p>Метрики належать парі структура даних / розмір набору даних.
+ * Для кожної операції зберігаються гістограма тривалості, гістограма виділеної пам'яті
+ * та сумарні кількість і тривалість збирань сміття, що відбулися під час її виконання.</p>
+ */
+public class OperationMetrics {
+    private final String operationName;
+    private final String backend;
+    private final int datasetSize;
+    private final OperationHistogram latencyHistogram;
+    private final OperationHistogram allocationHistogram;
+    private final AtomicLong gcCount = new AtomicLong();
+    private final AtomicLong gcTimeMillis = new AtomicLong();
+
+    /**
+     * Створює порожній набір метрик.
+     *
+     * @param operationName Назва операції
+     * @param backend Структура даних, над якою виконується операція
+     * @param datasetSize Розмір набору даних
+     */
+    public OperationMetrics(String operationName, String backend, int datasetSize) {
+        this.operationName = operationName;
+        this.backend = backend;
+        this.datasetSize = datasetSize;
+        this.latencyHistogram = new OperationHistogram(operationName);
+        this.allocationHistogram = new OperationHistogram(operationName);
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    public String getBackend() {
+        return backend;
+    }
+
+    public int getDatasetSize() {
+        return datasetSize;
+    }
+
+    /**
+     * Записує тривалість операції.
+     *
+     * @param nanos Тривалість у наносекундах
+     */
+    public void recordLatency(long nanos) {
+        latencyHistogram.record(nanos);
+    }
+
+    /**
+     * Записує обсяг пам'яті, виділеної потоком під час операції, та збирання сміття.
+     *
+     * @param allocatedBytes Виділено байтів
+     * @param collections Кількість збирань сміття
+     * @param collectionMillis Тривалість збирань сміття в мілісекундах
+     */
+    public void recordAllocation(long allocatedBytes, long collections, long collectionMillis) {
+        allocationHistogram.record(allocatedBytes);
+        if (collections > 0) {
+            gcCount.addAndGet(collections);
+            gcTimeMillis.addAndGet(collectionMillis);
+        }
+    }
+
+    public OperationHistogram.Snapshot latencySnapshot() {
+        return latencyHistogram.snapshot();
+    }
+
+    public OperationHistogram.Snapshot allocationSnapshot() {
+        return allocationHistogram.snapshot();
+    }
+
+    public long getGcCount() {
+        return gcCount.get();
+    }
+
+    public long getGcTimeMillis() {
+        return gcTimeMillis.get();
+    }
+}
@@ -1,16 +1,277 @@
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Клас PerformanceTracker відстежує продуктивність операцій з даними.
+ * 
+ * <p>Кожне вимірювання записується в гістограму операції ({@link OperationHistogram}),
+ * що зберігає історію тривалостей без виділення пам'яті під час запису.
+ * Звіт з кількістю, середнім, p50/p99/p99.9 та максимумом виводить {@link #printSummary()}.</p>
+ * 
+ * <p>Якщо операцію розпочато через {@link #startOperation()}, разом з тривалістю
+ * записується обсяг пам'яті, виділеної потоком ({@code ThreadMXBean.getCurrentThreadAllocatedBytes}),
+ * а також кількість і тривалість збирань сміття, що відбулися під час операції.</p>
+ * 
+ * <p>Метрики розділяються за операцією, структурою даних (backend) і розміром набору даних;
+ * у машиночитному вигляді (JSON lines, Prometheus) їх вивантажує {@link MetricsExporter}.</p>
+ * 
+ * <p>Рядок з тривалістю кожної окремої операції виводиться через {@link ReportSink} лише в докладному
+ * режимі, який вимикається системною властивістю {@code -Dperformance.echo=false}.</p>
  */
 public class PerformanceTracker {
+    private static final ConcurrentHashMap<MetricKey, OperationMetrics> metrics = new ConcurrentHashMap<>();
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = allocationBean();
+    private static final List<GarbageCollectorMXBean> GC_BEANS = ManagementFactory.getGarbageCollectorMXBeans();
+
     /**
-     * Відображає тривалість виконання операції в наносекундах.
+     * Стан початку операції поточного потоку; один об'єкт на потік, що перевикористовується.
+     */
+    private static final class OperationStart {
+        long startTime = Long.MIN_VALUE;
+        long allocatedBytes;
+        long gcCount;
+        long gcTimeMillis;
+    }
+
+    private static final ThreadLocal<OperationStart> operationStart = ThreadLocal.withInitial(OperationStart::new);
+
+    /**
+     * Ключ метрик: операція, структура даних і розмір набору даних.
+     * Для пошуку кожен потік перевикористовує власний екземпляр, тож запис не виділяє пам'яті;
+     * у мапі зберігаються лише незмінні копії.
+     */
+    private static final class MetricKey {
+        String operationName;
+        String backend;
+        int datasetSize;
+        int hash;
+
+        MetricKey set(String operationName, String backend, int datasetSize) {
+            this.operationName = operationName;
+            this.backend = backend;
+            this.datasetSize = datasetSize;
+            this.hash = (operationName.hashCode() * 31 + backend.hashCode()) * 31 + datasetSize;
+            return this;
+        }
+
+        MetricKey copy() {
+            return new MetricKey().set(operationName, backend, datasetSize);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MetricKey)) {
+                return false;
+            }
+            MetricKey other = (MetricKey) obj;
+            return hash == other.hash && datasetSize == other.datasetSize
+                && operationName.equals(other.operationName) && backend.equals(other.backend);
+        }
+    }
+
+    private static final ThreadLocal<MetricKey> lookupKey = ThreadLocal.withInitial(MetricKey::new);
+
+    private static volatile boolean echoEnabled = !"false".equalsIgnoreCase(System.getProperty("performance.echo"));
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+            if (allocationBean.isThreadAllocatedMemorySupported()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+                return allocationBean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Фіксує початок операції: час, обсяг виділеної потоком пам'яті та лічильники збирача сміття.
+     * 
+     * @return Початковий час операції в наносекундах (для передачі в displayOperationTime).
+     */
+    public static long startOperation() {
+        OperationStart start = operationStart.get();
+        if (THREAD_BEAN != null) {
+            start.allocatedBytes = THREAD_BEAN.getCurrentThreadAllocatedBytes();
+        }
+        long collections = 0;
+        long collectionMillis = 0;
+        for (GarbageCollectorMXBean gcBean : GC_BEANS) {
+            collections += Math.max(0, gcBean.getCollectionCount());
+            collectionMillis += Math.max(0, gcBean.getCollectionTime());
+        }
+        start.gcCount = collections;
+        start.gcTimeMillis = collectionMillis;
+        // час фіксується останнім, щоб читання MXBean не потрапило у вимір
+        start.startTime = System.nanoTime();
+        return start.startTime;
+    }
+
+    /**
+     * Записує тривалість виконання операції в гістограму та, в докладному режимі, відображає її.
+     * Якщо startTime отримано з {@link #startOperation()} у цьому ж потоці, також записуються
+     * виділена пам'ять і збирання сміття.
      * 
      * @param startTime Початковий час операції в наносекундах.
      * @param operationName Назва операції.
+     * @param backend Структура даних, над якою виконано операцію (array, List, Queue, Set, HashMap ...).
+     * @param datasetSize Розмір набору даних, з яким працює операція.
      */
-    public static void displayOperationTime(long startTime, String operationName) {
+    public static void displayOperationTime(long startTime, String operationName, String backend, int datasetSize) {
         long finishTime = System.nanoTime();
         long executionTime = (finishTime - startTime);
-        System.out.println("\n========= Тривалість операції '" + operationName + "': " + executionTime + " нс =========");
+        OperationMetrics operationMetrics = metricsFor(operationName, backend, datasetSize);
+        operationMetrics.recordLatency(executionTime);
+
+        OperationStart start = operationStart.get();
+        boolean allocationTracked = start.startTime == startTime;
+        long allocatedBytes = 0;
+        long collections = 0;
+        long collectionMillis = 0;
+        if (allocationTracked) {
+            if (THREAD_BEAN != null) {
+                allocatedBytes = THREAD_BEAN.getCurrentThreadAllocatedBytes() - start.allocatedBytes;
+            }
+            for (GarbageCollectorMXBean gcBean : GC_BEANS) {
+                collections += Math.max(0, gcBean.getCollectionCount());
+                collectionMillis += Math.max(0, gcBean.getCollectionTime());
+            }
+            collections -= start.gcCount;
+            collectionMillis -= start.gcTimeMillis;
+            operationMetrics.recordAllocation(allocatedBytes, collections, collectionMillis);
+            start.startTime = Long.MIN_VALUE;
+        }
+
+        if (echoEnabled) {
+            ReportSink.operation(operationName, backend, datasetSize, executionTime,
+                allocationTracked ? allocatedBytes : -1, collections, collectionMillis);
+        }
+    }
+
+    /**
+     * Вмикає або вимикає виведення тривалості кожної операції.
+     * 
+     * @param enabled true - виводити кожне вимірювання, false - лише записувати в гістограми.
+     */
+    public static void setEchoEnabled(boolean enabled) {
+        echoEnabled = enabled;
+    }
+
+    public static boolean isEchoEnabled() {
+        return echoEnabled;
+    }
+
+    private static OperationMetrics metricsFor(String operationName, String backend, int datasetSize) {
+        MetricKey key = lookupKey.get().set(operationName, backend, datasetSize);
+        OperationMetrics operationMetrics = metrics.get(key);
+        if (operationMetrics == null) {
+            operationMetrics = metrics.computeIfAbsent(key.copy(),
+                storedKey -> new OperationMetrics(storedKey.operationName, storedKey.backend, storedKey.datasetSize));
+        }
+        return operationMetrics;
+    }
+
+    /**
+     * Повертає метрики всіх операцій, впорядковані за назвою операції, структурою даних і розміром набору.
+     * 
+     * @return Список метрик операцій.
+     */
+    public static List<OperationMetrics> allMetrics() {
+        List<OperationMetrics> result = new ArrayList<>(metrics.values());
+        result.sort(Comparator.comparing(OperationMetrics::getOperationName)
+            .thenComparing(OperationMetrics::getBackend)
+            .thenComparingInt(OperationMetrics::getDatasetSize));
+        return result;
+    }
+
+    /**
+     * Повертає знімки гістограм тривалості всіх операцій, впорядковані за назвою операції.
+     * 
+     * @return Список знімків гістограм.
+     */
+    public static List<OperationHistogram.Snapshot> snapshots() {
+        List<OperationHistogram.Snapshot> result = new ArrayList<>();
+        for (OperationMetrics operationMetrics : allMetrics()) {
+            result.add(operationMetrics.latencySnapshot());
+        }
+        return result;
+    }
+
+    /**
+     * Очищує всі накопичені метрики.
+     */
+    public static void reset() {
+        metrics.clear();
+    }
+
+    /**
+     * Виводить зведену статистику тривалостей для всіх операцій.
+     */
+    public static void printSummary() {
+        List<OperationMetrics> allMetrics = allMetrics();
+        if (allMetrics.isEmpty()) {
+            return;
+        }
+
+        if (ReportSink.isJson()) {
+            // у режимі JSON зведення - ті самі записи, що й у файлі метрик JSON lines
+            StringWriter json = new StringWriter();
+            try {
+                MetricsExporter.writeJsonLines(json, allMetrics, "summary");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            ReportSink.json(json.toString());
+            return;
+        }
+
+        ReportSink.status("\n========= Зведена статистика тривалості операцій (нс) та виділення пам'яті (байт) =========");
+        ReportSink.status(String.format("%-60s %-14s %8s %8s %12s %12s %12s %12s %12s %14s %14s %8s %8s",
+            "Операція", "Структура", "Розмір", "Кількість", "Середнє", "p50", "p99", "p99.9", "Макс",
+            "Виділено сер.", "Виділено макс", "GC", "GC мс"));
+        for (OperationMetrics operationMetrics : allMetrics) {
+            OperationHistogram.Snapshot latency = operationMetrics.latencySnapshot();
+            OperationHistogram.Snapshot allocation = operationMetrics.allocationSnapshot();
+            ReportSink.status(String.format("%-60s %-14s %8d %8d %12.0f %12d %12d %12d %12d %14.0f %14d %8d %8d",
+                latency.getOperationName(), operationMetrics.getBackend(), operationMetrics.getDatasetSize(), latency.getCount(), latency.getMean(),
+                latency.getPercentile(50), latency.getPercentile(99), latency.getPercentile(99.9),
+                latency.getMax(), allocation.getMean(), allocation.getMax(),
+                operationMetrics.getGcCount(), operationMetrics.getGcTimeMillis()));
+        }
+    }
+
+    /**
+     * Відображає статистику кешу: влучання, промахи, витіснення та частку влучань.
+     * 
+     * @param cacheName Назва кешу.
+     * @param hitCount Кількість влучань.
+     * @param missCount Кількість промахів.
+     * @param evictionCount Кількість витіснених записів.
+     */
+    public static void displayCacheStatistics(String cacheName, long hitCount, long missCount, long evictionCount) {
+        if (!ReportSink.isMessageEnabled()) {
+            return;
+        }
+        long requestCount = hitCount + missCount;
+        double hitRate = requestCount == 0 ? 0.0 : 100.0 * hitCount / requestCount;
+        ReportSink.message("\n========= Статистика кешу '" + cacheName + "': влучань " + hitCount + ", промахів " + missCount
+            + ", витіснень " + evictionCount + ", частка влучань " + String.format("%.1f", hitRate) + "% =========");
     }
-}
\ No newline at end of file
+}
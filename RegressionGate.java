@@ -0,0 +1,230 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Клас RegressionGate порівнює продуктивність операцій з еталонним (baseline) запуском.
+ *
+ * <p>Набір операцій виконується кілька раундів; у кожному раунді {@link PerformanceTracker}
+ * накопичує гістограми за кілька ітерацій, з яких беруться p50 і p99. Для порівняння
+ * використовується медіана раундів, тож поодинокий викид (збирання сміття, сторонній процес)
+ * не спричиняє хибної тривоги.</p>
+ *
+ * <p>Операція вважається регресією, якщо її p50 або p99 перевищує еталон більше ніж
+ * на заданий поріг у відсотках і водночас більше ніж на {@value #MIN_REGRESSION_NANOS} нс -
+ * різниці, менші за цю межу, лежать у межах шуму таймера.</p>
+ *
+ * <p>Еталон зберігається як текстовий файл UTF-8 з колонками, розділеними табуляцією:
+ * операція, структура даних, розмір набору, p50, p99.</p>
+ */
+public class RegressionGate {
+    static final long MIN_REGRESSION_NANOS = 1_000;
+    private static final String BASELINE_HEADER = "# операція\tструктура\tрозмір\tp50_нс\tp99_нс";
+
+    private RegressionGate() {
+    }
+
+    /**
+     * Перцентилі однієї операції.
+     */
+    static final class OperationPercentiles {
+        final String operationName;
+        final String backend;
+        final int datasetSize;
+        final long p50;
+        final long p99;
+
+        OperationPercentiles(String operationName, String backend, int datasetSize, long p50, long p99) {
+            this.operationName = operationName;
+            this.backend = backend;
+            this.datasetSize = datasetSize;
+            this.p50 = p50;
+            this.p99 = p99;
+        }
+
+        String key() {
+            return operationName + '\t' + backend + '\t' + datasetSize;
+        }
+    }
+
+    /**
+     * Вимірює перцентилі операцій: кілька раундів по кілька ітерацій, медіана раундів.
+     * Прогрівання має виконати викликач.
+     *
+     * @param iteration Одна ітерація набору операцій
+     * @param iterations Кількість ітерацій у раунді
+     * @param rounds Кількість раундів
+     * @return Медіанні перцентилі операцій
+     */
+    static List<OperationPercentiles> measure(Runnable iteration, int iterations, int rounds) {
+        Map<String, long[][]> roundValues = new LinkedHashMap<>();
+        Map<String, OperationMetrics> labels = new LinkedHashMap<>();
+
+        for (int round = 0; round < rounds; round++) {
+            PerformanceTracker.reset();
+            for (int i = 0; i < iterations; i++) {
+                iteration.run();
+            }
+            for (OperationMetrics operationMetrics : PerformanceTracker.allMetrics()) {
+                OperationHistogram.Snapshot latency = operationMetrics.latencySnapshot();
+                String key = operationMetrics.getOperationName() + '\t' + operationMetrics.getBackend()
+                    + '\t' + operationMetrics.getDatasetSize();
+                labels.putIfAbsent(key, operationMetrics);
+                long[][] values = roundValues.computeIfAbsent(key, k -> new long[2][rounds]);
+                values[0][round] = latency.getPercentile(50);
+                values[1][round] = latency.getPercentile(99);
+            }
+        }
+
+        List<OperationPercentiles> result = new ArrayList<>();
+        for (Map.Entry<String, long[][]> entry : roundValues.entrySet()) {
+            OperationMetrics operationMetrics = labels.get(entry.getKey());
+            result.add(new OperationPercentiles(operationMetrics.getOperationName(), operationMetrics.getBackend(),
+                operationMetrics.getDatasetSize(), median(entry.getValue()[0]), median(entry.getValue()[1])));
+        }
+        return result;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    /**
+     * Зберігає виміряні перцентилі як еталон (файл замінюється атомарно).
+     *
+     * @param path Шлях до файлу еталону
+     * @param percentiles Перцентилі операцій
+     */
+    static void writeBaseline(Path path, List<OperationPercentiles> percentiles) {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write(BASELINE_HEADER + "\n");
+                for (OperationPercentiles operation : percentiles) {
+                    writer.write(operation.key() + '\t' + operation.p50 + '\t' + operation.p99 + "\n");
+                }
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не вдалося записати еталон у " + path, e);
+        }
+    }
+
+    /**
+     * Читає еталон з файлу.
+     *
+     * @param path Шлях до файлу еталону
+     * @return Перцентилі операцій
+     */
+    static List<OperationPercentiles> readBaseline(Path path) {
+        List<OperationPercentiles> result = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                if (columns.length != 5) {
+                    throw new IllegalArgumentException("Невірний рядок еталону: " + line);
+                }
+                result.add(new OperationPercentiles(columns[0], columns[1], Integer.parseInt(columns[2]),
+                    Long.parseLong(columns[3]), Long.parseLong(columns[4])));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не вдалося прочитати еталон з " + path, e);
+        }
+        return result;
+    }
+
+    /**
+     * Порівнює поточні перцентилі з еталоном і виводить звіт.
+     *
+     * @param baseline Еталонні перцентилі
+     * @param current Поточні перцентилі
+     * @param thresholdPercent Допустиме погіршення у відсотках
+     * @return true, якщо жодна операція не погіршилася понад поріг
+     */
+    static boolean compare(List<OperationPercentiles> baseline, List<OperationPercentiles> current, double thresholdPercent) {
+        Map<String, OperationPercentiles> currentByKey = new LinkedHashMap<>();
+        for (OperationPercentiles operation : current) {
+            currentByKey.put(operation.key(), operation);
+        }
+
+        // у режимі JSON замість рядків таблиці - записи з іменованими числовими полями
+        boolean json = ReportSink.isJson();
+        ReportSink.status("\n========= Порівняння з еталоном (поріг {}%) =========", String.format("%.1f", thresholdPercent));
+        if (!json) {
+            ReportSink.status(String.format("%-60s %-14s %8s %12s %12s %9s %12s %12s %9s  %s",
+                "Операція", "Структура", "Розмір", "p50 еталон", "p50", "Δ p50", "p99 еталон", "p99", "Δ p99", "Стан"));
+        }
+
+        int regressions = 0;
+        for (OperationPercentiles expected : baseline) {
+            OperationPercentiles actual = currentByKey.remove(expected.key());
+            if (actual == null) {
+                if (json) {
+                    ReportSink.comparison(expected.operationName, expected.backend, expected.datasetSize,
+                        expected.p50, null, null, expected.p99, null, null, "missing");
+                } else {
+                    ReportSink.status(String.format("%-60s %-14s %8d %12d %12s %9s %12d %12s %9s  %s",
+                        expected.operationName, expected.backend, expected.datasetSize,
+                        expected.p50, "-", "-", expected.p99, "-", "-", "⚠ не виміряно"));
+                }
+                continue;
+            }
+            boolean regressed = isRegression(expected.p50, actual.p50, thresholdPercent)
+                || isRegression(expected.p99, actual.p99, thresholdPercent);
+            if (regressed) {
+                regressions++;
+            }
+            if (json) {
+                ReportSink.comparison(expected.operationName, expected.backend, expected.datasetSize,
+                    expected.p50, actual.p50, change(expected.p50, actual.p50),
+                    expected.p99, actual.p99, change(expected.p99, actual.p99), regressed ? "regression" : "ok");
+                continue;
+            }
+            ReportSink.status(String.format("%-60s %-14s %8d %12d %12d %8.1f%% %12d %12d %8.1f%%  %s",
+                expected.operationName, expected.backend, expected.datasetSize,
+                expected.p50, actual.p50, change(expected.p50, actual.p50),
+                expected.p99, actual.p99, change(expected.p99, actual.p99),
+                regressed ? "❌ регресія" : "✅"));
+        }
+        for (OperationPercentiles added : currentByKey.values()) {
+            if (json) {
+                ReportSink.comparison(added.operationName, added.backend, added.datasetSize,
+                    null, added.p50, null, null, added.p99, null, "new");
+                continue;
+            }
+            ReportSink.status(String.format("%-60s %-14s %8d %12s %12d %9s %12s %12d %9s  %s",
+                added.operationName, added.backend, added.datasetSize,
+                "-", added.p50, "-", "-", added.p99, "-", "нова операція"));
+        }
+
+        ReportSink.status(regressions == 0
+            ? "\n✅ Регресій продуктивності не виявлено"
+            : "\n❌ Виявлено регресій продуктивності: " + regressions);
+        return regressions == 0;
+    }
+
+    private static boolean isRegression(long expected, long actual, double thresholdPercent) {
+        return actual - expected > MIN_REGRESSION_NANOS && actual > expected * (1 + thresholdPercent / 100.0);
+    }
+
+    private static double change(long expected, long actual) {
+        return expected == 0 ? 0.0 : 100.0 * (actual - expected) / expected;
+    }
+}
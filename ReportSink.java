@@ -0,0 +1,423 @@
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Клас ReportSink - єдиний буферизований канал виводу результатів операцій.
+ *
+ * <p>Режими ({@link Mode}):</p>
+ * <ul>
+ *   <li>QUIET - повідомлення про окремі операції не формуються зовсім; виводяться лише
+ *       підсумки (статус, зведена таблиця);</li>
+ *   <li>TEXT - звичний текстовий вивід через буфер, а не рядок за рядком у System.out;</li>
+ *   <li>JSON - кожен запис є окремим рядком JSON (JSON lines) з типом запису,
+ *       шаблоном повідомлення та значеннями; підсумки вимірювань і порівняння з еталоном -
+ *       записи з іменованими числовими полями.</li>
+ * </ul>
+ *
+ * <p>Повідомлення задаються шаблоном з місцями {@code {}} і аргументами. Рядок формується
+ * лише тоді, коли запис справді виводиться, тож у тихому режимі гарячі шляхи не конкатенують
+ * рядків. Усі записи йдуть через один буфер, що скидається при заповненні, викликом
+ * {@link #flush()} та під час завершення JVM.</p>
+ *
+ * <p>Використання:</p>
+ * <pre>
+ * {@code
+ * ReportSink.section("📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST");
+ * ReportSink.message("Найменше значення в List: {}", minValue);
+ * ReportSink.status("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
+ * ReportSink.flush();
+ * }
+ * </pre>
+ *
+ * <p>Режим задається системною властивістю {@code -Dreport.mode=quiet|text|json}
+ * або методом {@link #setMode(Mode)}.</p>
+ */
+public final class ReportSink {
+    /**
+     * Режим виводу.
+     */
+    public enum Mode {
+        QUIET, TEXT, JSON;
+
+        /**
+         * @param name Назва режиму без урахування регістру
+         * @return Режим
+         */
+        public static Mode parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String SECTION_RULE = "-".repeat(50);
+
+    private static final Writer channel = new BufferedWriter(
+        new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), BUFFER_SIZE);
+
+    private static volatile Mode mode = Mode.parse(System.getProperty("report.mode", "text"));
+    // глибина вкладених quietly(): поки вона більша за нуль, повідомлення не виводяться
+    private static final AtomicInteger suppressionDepth = new AtomicInteger();
+    // вивід потоку, що виконується через capture()
+    private static final ThreadLocal<StringBuilder> captureBuffer = new ThreadLocal<>();
+    // як і PrintStream, після помилки запису (наприклад, закритого конвеєра) вивід відкидається
+    private static boolean channelFailed;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ReportSink::flush, "report-sink-flush"));
+    }
+
+    private ReportSink() {
+    }
+
+    public static Mode getMode() {
+        return mode;
+    }
+
+    public static void setMode(Mode newMode) {
+        mode = newMode;
+    }
+
+    public static boolean isJson() {
+        return mode == Mode.JSON;
+    }
+
+    /**
+     * Перевіряє, чи виводяться повідомлення про окремі операції. Варто викликати перед
+     * циклами, що лише виводять дані (наприклад, вміст мапи).
+     *
+     * @return true, якщо повідомлення виводяться
+     */
+    public static boolean isMessageEnabled() {
+        return mode != Mode.QUIET && suppressionDepth.get() == 0;
+    }
+
+    // ===== Повідомлення про окремі операції =====
+
+    public static void message(String template) {
+        if (isMessageEnabled()) {
+            emit("message", template, null, null, null, 0);
+        }
+    }
+
+    public static void message(String template, Object first) {
+        if (isMessageEnabled()) {
+            emit("message", template, first, null, null, 1);
+        }
+    }
+
+    public static void message(String template, Object first, Object second) {
+        if (isMessageEnabled()) {
+            emit("message", template, first, second, null, 2);
+        }
+    }
+
+    public static void message(String template, Object first, Object second, Object third) {
+        if (isMessageEnabled()) {
+            emit("message", template, first, second, third, 3);
+        }
+    }
+
+    /**
+     * Виводить заголовок розділу; у текстовому режимі під ним - лінія з дефісів.
+     *
+     * @param title Заголовок
+     */
+    public static void section(String title) {
+        if (!isMessageEnabled()) {
+            return;
+        }
+        if (mode == Mode.JSON) {
+            emit("section", title, null, null, null, 0);
+        } else {
+            write(title + "\n" + SECTION_RULE + "\n");
+        }
+    }
+
+    /**
+     * Виводить оформлення (розділювач, порожній рядок) лише в текстовому режимі.
+     *
+     * @param text Рядок оформлення
+     */
+    public static void decoration(String text) {
+        if (mode == Mode.TEXT && suppressionDepth.get() == 0) {
+            write(text + "\n");
+        }
+    }
+
+    /**
+     * Виводить тривалість окремої операції.
+     *
+     * @param operationName Назва операції
+     * @param backend Структура даних
+     * @param datasetSize Розмір набору даних
+     * @param durationNanos Тривалість, нс
+     * @param allocatedBytes Виділена пам'ять, байт (-1, якщо не вимірювалася)
+     * @param gcCount Кількість збирань сміття під час операції
+     * @param gcTimeMillis Тривалість збирань сміття, мс
+     */
+    public static void operation(String operationName, String backend, int datasetSize, long durationNanos,
+                                 long allocatedBytes, long gcCount, long gcTimeMillis) {
+        if (!isMessageEnabled()) {
+            return;
+        }
+        StringBuilder text = new StringBuilder(160);
+        if (mode == Mode.JSON) {
+            text.append("{\"type\":\"operation\",\"operation\":\"").append(MetricsExporter.escapeJson(operationName))
+                .append("\",\"backend\":\"").append(MetricsExporter.escapeJson(backend))
+                .append("\",\"dataset_size\":").append(datasetSize)
+                .append(",\"duration_ns\":").append(durationNanos);
+            if (allocatedBytes >= 0) {
+                text.append(",\"allocated_bytes\":").append(allocatedBytes)
+                    .append(",\"gc_count\":").append(gcCount)
+                    .append(",\"gc_time_ms\":").append(gcTimeMillis);
+            }
+            text.append("}\n");
+        } else {
+            text.append("\n========= Тривалість операції '").append(operationName).append("': ")
+                .append(durationNanos).append(" нс");
+            if (allocatedBytes >= 0) {
+                text.append(", виділено ").append(allocatedBytes).append(" байт");
+                if (gcCount > 0) {
+                    text.append(", збирань сміття ").append(gcCount).append(" (").append(gcTimeMillis).append(" мс)");
+                }
+            }
+            text.append(" =========\n");
+        }
+        write(text);
+    }
+
+    // ===== Підсумки, що виводяться завжди =====
+
+    public static void status(String template) {
+        emit("status", template, null, null, null, 0);
+    }
+
+    public static void status(String template, Object first) {
+        emit("status", template, first, null, null, 1);
+    }
+
+    public static void status(String template, Object first, Object second) {
+        emit("status", template, first, second, null, 2);
+    }
+
+    public static void status(String template, Object first, Object second, Object third) {
+        emit("status", template, first, second, third, 3);
+    }
+
+    /**
+     * Записує в режимі JSON підсумок вимірюваних ітерацій однієї операції (тривалості в нс).
+     * У текстовому режимі таблицю формує викликач.
+     *
+     * @param operationName Назва операції
+     * @param backend Структура даних
+     * @param datasetSize Розмір набору даних
+     * @param iterations Кількість вимірюваних ітерацій
+     * @param mean Середнє за ітераціями
+     * @param standardDeviation Стандартне відхилення
+     * @param confidenceHalfWidth Півширина довірчого інтервалу
+     * @param min Найменше середнє ітерації
+     * @param max Найбільше середнє ітерації
+     * @param p50 Медіана тривалості окремих виконань
+     * @param p99 99-й перцентиль тривалості окремих виконань
+     */
+    public static void measurement(String operationName, String backend, int datasetSize, long iterations,
+                                   double mean, double standardDeviation, double confidenceHalfWidth,
+                                   double min, double max, long p50, long p99) {
+        if (mode != Mode.JSON) {
+            return;
+        }
+        StringBuilder text = record("measurement", operationName, backend, datasetSize);
+        appendField(text, "iterations", iterations);
+        appendField(text, "mean", mean);
+        appendField(text, "stddev", standardDeviation);
+        appendField(text, "ci", confidenceHalfWidth);
+        appendField(text, "min", min);
+        appendField(text, "max", max);
+        appendField(text, "p50", p50);
+        appendField(text, "p99", p99);
+        write(text.append("}\n"));
+    }
+
+    /**
+     * Записує в режимі JSON порівняння однієї операції з еталоном (тривалості в нс, зміни у відсотках).
+     * Відсутні значення (операції немає в еталоні чи в поточному вимірі) записуються як null.
+     * У текстовому режимі таблицю формує викликач.
+     *
+     * @param operationName Назва операції
+     * @param backend Структура даних
+     * @param datasetSize Розмір набору даних
+     * @param baselineP50 p50 еталону або null
+     * @param p50 Поточний p50 або null
+     * @param deltaP50 Зміна p50 або null
+     * @param baselineP99 p99 еталону або null
+     * @param p99 Поточний p99 або null
+     * @param deltaP99 Зміна p99 або null
+     * @param state Стан: ok, regression, missing або new
+     */
+    public static void comparison(String operationName, String backend, int datasetSize,
+                                  Long baselineP50, Long p50, Double deltaP50,
+                                  Long baselineP99, Long p99, Double deltaP99, String state) {
+        if (mode != Mode.JSON) {
+            return;
+        }
+        StringBuilder text = record("comparison", operationName, backend, datasetSize);
+        appendField(text, "baseline_p50", baselineP50);
+        appendField(text, "p50", p50);
+        appendField(text, "delta_p50", deltaP50);
+        appendField(text, "baseline_p99", baselineP99);
+        appendField(text, "p99", p99);
+        appendField(text, "delta_p99", deltaP99);
+        appendField(text, "state", state);
+        write(text.append("}\n"));
+    }
+
+    /**
+     * Записує готові рядки JSON (наприклад, метрики {@link MetricsExporter}) у режимі JSON.
+     *
+     * @param json Рядки JSON, кожен з переведенням рядка в кінці
+     */
+    public static void json(CharSequence json) {
+        if (mode == Mode.JSON) {
+            write(json);
+        }
+    }
+
+    // ===== Керування виводом =====
+
+    /**
+     * Виконує дію, не виводячи повідомлень про окремі операції (підсумки виводяться).
+     *
+     * @param action Дія
+     */
+    public static void quietly(Runnable action) {
+        suppressionDepth.incrementAndGet();
+        try {
+            action.run();
+        } finally {
+            suppressionDepth.decrementAndGet();
+        }
+    }
+
+    /**
+     * Виконує дію, збираючи весь її вивід у поточному потоці замість спільного каналу.
+     *
+     * @param action Дія
+     * @return Зібраний вивід (для {@link #writeCaptured(String)})
+     */
+    public static String capture(Runnable action) {
+        StringBuilder buffer = new StringBuilder(1024);
+        captureBuffer.set(buffer);
+        try {
+            action.run();
+        } finally {
+            captureBuffer.remove();
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Записує зібраний через {@link #capture(Runnable)} вивід без повторної фільтрації.
+     *
+     * @param captured Зібраний вивід
+     */
+    public static void writeCaptured(String captured) {
+        write(captured);
+    }
+
+    /**
+     * Скидає буфер у стандартний вивід.
+     */
+    public static void flush() {
+        synchronized (channel) {
+            if (channelFailed) {
+                return;
+            }
+            try {
+                channel.flush();
+            } catch (IOException e) {
+                channelFailed = true;
+            }
+        }
+    }
+
+    // ===== Форматування =====
+
+    private static void emit(String type, String template, Object first, Object second, Object third, int argumentCount) {
+        StringBuilder text = new StringBuilder(template.length() + 32);
+        if (mode == Mode.JSON) {
+            text.append("{\"type\":\"").append(type).append("\",\"template\":\"")
+                .append(MetricsExporter.escapeJson(template)).append("\",\"values\":[");
+            for (int i = 0; i < argumentCount; i++) {
+                Object value = i == 0 ? first : i == 1 ? second : third;
+                if (i > 0) {
+                    text.append(',');
+                }
+                appendJsonValue(text, value);
+            }
+            text.append("]}\n");
+        } else {
+            int argument = 0;
+            int from = 0;
+            int placeholder;
+            while (argument < argumentCount && (placeholder = template.indexOf("{}", from)) >= 0) {
+                text.append(template, from, placeholder);
+                text.append(argument == 0 ? first : argument == 1 ? second : third);
+                argument++;
+                from = placeholder + 2;
+            }
+            text.append(template, from, template.length()).append('\n');
+        }
+        write(text);
+    }
+
+    private static StringBuilder record(String type, String operationName, String backend, int datasetSize) {
+        StringBuilder text = new StringBuilder(256);
+        text.append("{\"type\":\"").append(type).append('"');
+        appendField(text, "operation", operationName);
+        appendField(text, "backend", backend);
+        appendField(text, "n", datasetSize);
+        return text;
+    }
+
+    private static void appendField(StringBuilder text, String name, Object value) {
+        text.append(",\"").append(name).append("\":");
+        appendJsonValue(text, value);
+    }
+
+    private static void appendJsonValue(StringBuilder text, Object value) {
+        if (value instanceof Number) {
+            text.append(MetricsExporter.jsonNumber((Number) value));
+        } else if (value instanceof Boolean) {
+            text.append(value);
+        } else if (value == null) {
+            text.append("null");
+        } else {
+            text.append('"').append(MetricsExporter.escapeJson(String.valueOf(value))).append('"');
+        }
+    }
+
+    private static void write(CharSequence text) {
+        StringBuilder buffer = captureBuffer.get();
+        if (buffer != null) {
+            buffer.append(text);
+            return;
+        }
+        synchronized (channel) {
+            if (channelFailed) {
+                return;
+            }
+            try {
+                channel.append(text);
+            } catch (IOException e) {
+                channelFailed = true;
+            }
+        }
+    }
+}
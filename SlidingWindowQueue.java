@@ -0,0 +1,252 @@
+import java.util.Arrays;
+
+/**
+ * Клас SlidingWindowQueue - черга подій з ковзним вікном над ключами часових значень
+ * ({@link TemporalCodec}).
+ *
+ * <p>Для потоку подій одночасно відстежуються:</p>
+ * <ul>
+ *   <li>останні K подій у порядку надходження - кільцевий буфер на K ключів, O(1);</li>
+ *   <li>K найпізніших часів - обмежена купа мінімумів на K ключів: нова подія витісняє
+ *       корінь, лише якщо вона пізніша за нього, O(log K);</li>
+ *   <li>кількість подій у вікні (найпізніший час - довжина вікна, найпізніший час] -
+ *       кільцевий буфер ключів, упорядкований за часом. Нова подія вставляється з хвоста
+ *       (для впорядкованого потоку - одразу на місце), застарілі вилучаються з голови,
+ *       тож обробка амортизовано O(1). Подія, що не пізніша за початок вікна, вважається
+ *       запізнілою і до вікна не потрапляє.</li>
+ * </ul>
+ *
+ * <p>Усі структури - масиви long без упаковування. Буфер вікна подвоюється, лише коли
+ * у вікні одночасно більше подій, ніж будь-коли раніше, тож в усталеному режимі
+ * обробка події нічого не виділяє.</p>
+ *
+ * <p>Використання:</p>
+ * <pre>
+ * {@code
+ * SlidingWindowQueue window = new SlidingWindowQueue(10, TemporalCodec.LOCAL_TIME.keySpan(Duration.ofMinutes(5)));
+ * for (long key : keys) {
+ *     window.offer(key);
+ * }
+ * long inWindow = window.windowCount();
+ * long[] latest = window.latestTimes();
+ * }
+ * </pre>
+ */
+public final class SlidingWindowQueue {
+    private static final int INITIAL_WINDOW_CAPACITY = 1 << 10;
+
+    private final int capacity;
+    private final long windowSpan;
+
+    // останні K подій у порядку надходження
+    private final long[] recent;
+    private int recentNext;
+    private int recentSize;
+
+    // K найпізніших часів: купа мінімумів, корінь - найраніший з них
+    private final long[] latestHeap;
+    private int latestSize;
+
+    // ключі вікна за зростанням у кільцевому буфері з місткістю 2^n
+    private long[] window = new long[INITIAL_WINDOW_CAPACITY];
+    private int windowHead;
+    private int windowSize;
+
+    private long latestKey;
+    private long offeredCount;
+    private long lateCount;
+
+    /**
+     * Створює порожню чергу.
+     *
+     * @param capacity Кількість останніх подій і найпізніших часів, що зберігаються (K)
+     * @param windowSpan Довжина вікна в одиницях ключа ({@link TemporalCodec#keySpan})
+     * @throws IllegalArgumentException якщо K або довжина вікна не додатні
+     */
+    public SlidingWindowQueue(int capacity, long windowSpan) {
+        if (capacity < 1 || windowSpan < 1) {
+            throw new IllegalArgumentException("Розмір і довжина вікна мають бути додатними: " + capacity + ", " + windowSpan);
+        }
+        this.capacity = capacity;
+        this.windowSpan = windowSpan;
+        this.recent = new long[capacity];
+        this.latestHeap = new long[capacity];
+    }
+
+    /**
+     * Обробляє подію.
+     *
+     * @param key Ключ часу події
+     * @return false, якщо подія запізніла (не пізніша за початок вікна) і до вікна не потрапила
+     */
+    public boolean offer(long key) {
+        offeredCount++;
+
+        recent[recentNext] = key;
+        recentNext = recentNext + 1 == capacity ? 0 : recentNext + 1;
+        if (recentSize < capacity) {
+            recentSize++;
+        }
+
+        if (latestSize < capacity) {
+            latestHeap[latestSize] = key;
+            siftUp(latestSize++);
+        } else if (key > latestHeap[0]) {
+            latestHeap[0] = key;
+            siftDown(0);
+        }
+
+        if (offeredCount > 1 && key <= latestKey - windowSpan) {
+            lateCount++;
+            return false;
+        }
+        insertIntoWindow(key);
+        if (offeredCount == 1 || key > latestKey) {
+            latestKey = key;
+            evictExpired();
+        }
+        return true;
+    }
+
+    private void insertIntoWindow(long key) {
+        if (windowSize == window.length) {
+            growWindow();
+        }
+        int mask = window.length - 1;
+        // зсуваємо пізніші ключі на одну позицію до хвоста; для впорядкованого потоку - жодного зсуву
+        int position = windowSize;
+        while (position > 0) {
+            long previous = window[(windowHead + position - 1) & mask];
+            if (previous <= key) {
+                break;
+            }
+            window[(windowHead + position) & mask] = previous;
+            position--;
+        }
+        window[(windowHead + position) & mask] = key;
+        windowSize++;
+    }
+
+    private void evictExpired() {
+        long windowStart = latestKey - windowSpan;
+        int mask = window.length - 1;
+        while (windowSize > 0 && window[windowHead] <= windowStart) {
+            windowHead = (windowHead + 1) & mask;
+            windowSize--;
+        }
+    }
+
+    private void growWindow() {
+        long[] grown = new long[window.length * 2];
+        int firstPart = Math.min(windowSize, window.length - windowHead);
+        System.arraycopy(window, windowHead, grown, 0, firstPart);
+        System.arraycopy(window, 0, grown, firstPart, windowSize - firstPart);
+        window = grown;
+        windowHead = 0;
+    }
+
+    /**
+     * @return Кількість подій у вікні
+     */
+    public int windowCount() {
+        return windowSize;
+    }
+
+    /**
+     * @return Найпізніший ключ (кінець вікна); визначений лише після першої події
+     */
+    public long latestKey() {
+        return latestKey;
+    }
+
+    /**
+     * @return Ключ початку вікна (не включно)
+     */
+    public long windowStartKey() {
+        return latestKey - windowSpan;
+    }
+
+    /**
+     * @return Кількість оброблених подій
+     */
+    public long offeredCount() {
+        return offeredCount;
+    }
+
+    /**
+     * @return Кількість запізнілих подій
+     */
+    public long lateCount() {
+        return lateCount;
+    }
+
+    /**
+     * @return Останні K подій, від найдавнішої до найновішої за надходженням
+     */
+    public long[] latestArrivals() {
+        long[] arrivals = new long[recentSize];
+        int start = recentSize < capacity ? 0 : recentNext;
+        for (int i = 0; i < recentSize; i++) {
+            arrivals[i] = recent[(start + i) % capacity];
+        }
+        return arrivals;
+    }
+
+    /**
+     * @return K найпізніших часів за спаданням
+     */
+    public long[] latestTimes() {
+        long[] times = Arrays.copyOf(latestHeap, latestSize);
+        Arrays.sort(times);
+        for (int left = 0, right = times.length - 1; left < right; left++, right--) {
+            long swap = times[left];
+            times[left] = times[right];
+            times[right] = swap;
+        }
+        return times;
+    }
+
+    /**
+     * Очищає чергу без звільнення буферів, щоб наступний потік обробки не виділяв пам'ять.
+     */
+    public void clear() {
+        recentNext = 0;
+        recentSize = 0;
+        latestSize = 0;
+        windowHead = 0;
+        windowSize = 0;
+        latestKey = 0;
+        offeredCount = 0;
+        lateCount = 0;
+    }
+
+    private void siftUp(int index) {
+        long key = latestHeap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (latestHeap[parent] <= key) {
+                break;
+            }
+            latestHeap[index] = latestHeap[parent];
+            index = parent;
+        }
+        latestHeap[index] = key;
+    }
+
+    private void siftDown(int index) {
+        long key = latestHeap[index];
+        int half = latestSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < latestSize && latestHeap[child + 1] < latestHeap[child]) {
+                child++;
+            }
+            if (key <= latestHeap[child]) {
+                break;
+            }
+            latestHeap[index] = latestHeap[child];
+            index = child;
+        }
+        latestHeap[index] = key;
+    }
+}
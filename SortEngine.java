@@ -0,0 +1,387 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Клас SortEngine обирає спосіб сортування залежно від розміру і типу даних.
+ *
+ * <p>Стратегії:</p>
+ * <ul>
+ *   <li>вже впорядковані дані або дані, строго впорядковані за спаданням, розпізнаються
+ *       за один прохід O(n): перші не сортуються зовсім, другі лише розвертаються;</li>
+ *   <li>до {@value #INSERTION_SORT_THRESHOLD} елементів - сортування вставками;</li>
+ *   <li>до {@value #PARALLEL_THRESHOLD} елементів - послідовне {@link Arrays#sort}
+ *       (TimSort для об'єктів, dual-pivot quicksort для примітивів);</li>
+ *   <li>більші масиви об'єктів - {@link Arrays#parallelSort} (паралельне стійке злиття);</li>
+ *   <li>більші масиви long/int, а також об'єкти з числовим ключем - паралельне порозрядне
+ *       сортування LSD за байтами;</li>
+ *   <li>масиви int з вузьким діапазоном значень (не ширшим за кількість елементів і за
+ *       {@value FrequencyTable#MAX_KEY_COUNT} ключів, як у byte, short і char) - сортування
+ *       підрахунком через {@link FrequencyTable} за O(n + k).</li>
+ * </ul>
+ *
+ * <p>Порозрядне сортування лінійне за кількістю елементів, тож воно швидше за порівняльне
+ * на великих масивах навіть на одному ядрі; додаткові ядра лише прискорюють його проходи.</p>
+ *
+ * <p>Числовий ключ (наприклад, {@code LocalTime::toNanoOfDay}) має впорядковувати
+ * об'єкти так само, як їхній природний порядок. Усі стратегії стійкі, крім розвороту,
+ * що застосовується лише до строго спадних даних, де рівних елементів немає.</p>
+ */
+public class SortEngine {
+    static final int INSERTION_SORT_THRESHOLD = 32;
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    // мінімальна частина масиву для одного потоку порозрядного сортування
+    private static final int MIN_RADIX_CHUNK = 1 << 14;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_BUCKETS = 1 << RADIX_BITS;
+
+    /**
+     * Обрана стратегія сортування.
+     */
+    public enum Strategy {
+        ALREADY_SORTED("вже впорядковано"),
+        REVERSED("розворот спадної послідовності"),
+        INSERTION("сортування вставками"),
+        SEQUENTIAL("послідовне сортування"),
+        PARALLEL_MERGE("паралельне сортування злиттям"),
+        PARALLEL_RADIX("паралельне порозрядне сортування"),
+        COUNTING("сортування підрахунком");
+
+        private final String description;
+
+        Strategy(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private SortEngine() {
+    }
+
+    // ===== Об'єкти з природним порядком =====
+
+    /**
+     * Сортує масив за природним порядком елементів.
+     *
+     * @param array Масив
+     * @return Застосована стратегія
+     */
+    public static <T extends Comparable<? super T>> Strategy sort(T[] array) {
+        return sort(array, null);
+    }
+
+    /**
+     * Сортує масив за природним порядком; великі масиви сортуються порозрядно за числовим ключем.
+     *
+     * @param array Масив
+     * @param key Числовий ключ, узгоджений з природним порядком (null - лише порівняння)
+     * @return Застосована стратегія
+     */
+    public static <T extends Comparable<? super T>> Strategy sort(T[] array, ToLongFunction<? super T> key) {
+        int n = array.length;
+        Strategy presorted = detectOrder(array);
+        if (presorted != null) {
+            return presorted;
+        }
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(array);
+            return Strategy.INSERTION;
+        }
+        if (n < PARALLEL_THRESHOLD) {
+            Arrays.sort(array);
+            return Strategy.SEQUENTIAL;
+        }
+        if (key == null) {
+            Arrays.parallelSort(array);
+            return Strategy.PARALLEL_MERGE;
+        }
+
+        long[] keys = new long[n];
+        int[] order = new int[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            keys[i] = key.applyAsLong(array[i]);
+            order[i] = i;
+        });
+        radixSort(keys, order);
+
+        T[] original = array.clone();
+        IntStream.range(0, n).parallel().forEach(i -> array[i] = original[order[i]]);
+        return Strategy.PARALLEL_RADIX;
+    }
+
+    /**
+     * Сортує список за природним порядком елементів.
+     *
+     * @param list Список
+     * @return Застосована стратегія
+     */
+    public static <T extends Comparable<? super T>> Strategy sort(List<T> list) {
+        return sort(list, null);
+    }
+
+    /**
+     * Сортує список; великі списки сортуються порозрядно за числовим ключем.
+     *
+     * @param list Список
+     * @param key Числовий ключ, узгоджений з природним порядком (null - лише порівняння)
+     * @return Застосована стратегія
+     */
+    public static <T extends Comparable<? super T>> Strategy sort(List<T> list, ToLongFunction<? super T> key) {
+        // як і Collections.sort: сортуємо масив і записуємо результат назад через ітератор
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) list.toArray(new Comparable<?>[0]);
+        Strategy strategy = sort(array, key);
+        if (strategy != Strategy.ALREADY_SORTED) {
+            ListIterator<T> iterator = list.listIterator();
+            for (T element : array) {
+                iterator.next();
+                iterator.set(element);
+            }
+        }
+        return strategy;
+    }
+
+    private static <T extends Comparable<? super T>> Strategy detectOrder(T[] array) {
+        boolean ascending = true;
+        boolean strictlyDescending = true;
+        for (int i = 1; i < array.length && (ascending || strictlyDescending); i++) {
+            int comparison = array[i - 1].compareTo(array[i]);
+            ascending &= comparison <= 0;
+            strictlyDescending &= comparison > 0;
+        }
+        if (ascending) {
+            return Strategy.ALREADY_SORTED;
+        }
+        if (strictlyDescending) {
+            reverse(array);
+            return Strategy.REVERSED;
+        }
+        return null;
+    }
+
+    private static <T extends Comparable<? super T>> void insertionSort(T[] array) {
+        for (int i = 1; i < array.length; i++) {
+            T current = array[i];
+            int j = i - 1;
+            while (j >= 0 && array[j].compareTo(current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void reverse(Object[] array) {
+        for (int left = 0, right = array.length - 1; left < right; left++, right--) {
+            Object swap = array[left];
+            array[left] = array[right];
+            array[right] = swap;
+        }
+    }
+
+    // ===== Примітиви =====
+
+    /**
+     * Сортує масив long за зростанням.
+     *
+     * @param array Масив
+     * @return Застосована стратегія
+     */
+    public static Strategy sort(long[] array) {
+        int n = array.length;
+        boolean ascending = true;
+        boolean strictlyDescending = true;
+        for (int i = 1; i < n && (ascending || strictlyDescending); i++) {
+            ascending &= array[i - 1] <= array[i];
+            strictlyDescending &= array[i - 1] > array[i];
+        }
+        if (ascending) {
+            return Strategy.ALREADY_SORTED;
+        }
+        if (strictlyDescending) {
+            for (int left = 0, right = n - 1; left < right; left++, right--) {
+                long swap = array[left];
+                array[left] = array[right];
+                array[right] = swap;
+            }
+            return Strategy.REVERSED;
+        }
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            for (int i = 1; i < n; i++) {
+                long current = array[i];
+                int j = i - 1;
+                while (j >= 0 && array[j] > current) {
+                    array[j + 1] = array[j];
+                    j--;
+                }
+                array[j + 1] = current;
+            }
+            return Strategy.INSERTION;
+        }
+        if (n < PARALLEL_THRESHOLD) {
+            Arrays.sort(array);
+            return Strategy.SEQUENTIAL;
+        }
+        radixSort(array, null);
+        return Strategy.PARALLEL_RADIX;
+    }
+
+    /**
+     * Сортує масив int за зростанням.
+     *
+     * @param array Масив
+     * @return Застосована стратегія
+     */
+    public static Strategy sort(int[] array) {
+        int n = array.length;
+        if (n > INSERTION_SORT_THRESHOLD) {
+            int min = array[0];
+            int max = array[0];
+            boolean ascending = true;
+            for (int i = 1; i < n; i++) {
+                min = Math.min(min, array[i]);
+                max = Math.max(max, array[i]);
+                ascending &= array[i - 1] <= array[i];
+            }
+            if (ascending) {
+                return Strategy.ALREADY_SORTED;
+            }
+            // таблиця частот не довша за масив, тож підрахунок лінійний за n
+            long keyCount = (long) max - min + 1;
+            if (keyCount <= FrequencyTable.MAX_KEY_COUNT && keyCount <= n) {
+                FrequencyTable.of(array, min, max).writeSorted(array);
+                return Strategy.COUNTING;
+            }
+        }
+        if (n < PARALLEL_THRESHOLD) {
+            // для невеликих масивів перевірки порядку і вставки такі самі, як для long
+            long[] widened = new long[n];
+            for (int i = 0; i < n; i++) {
+                widened[i] = array[i];
+            }
+            Strategy strategy = sort(widened);
+            for (int i = 0; i < n; i++) {
+                array[i] = (int) widened[i];
+            }
+            return strategy;
+        }
+
+        long[] widened = new long[n];
+        IntStream.range(0, n).parallel().forEach(i -> widened[i] = array[i]);
+        Strategy strategy = sort(widened);
+        IntStream.range(0, n).parallel().forEach(i -> array[i] = (int) widened[i]);
+        return strategy;
+    }
+
+    // ===== Паралельне порозрядне сортування =====
+
+    /**
+     * Стійке порозрядне сортування LSD за байтами. Ключі зсуваються на мінімум,
+     * тож обробляються лише значущі байти діапазону, а байт, однаковий для всіх
+     * ключів, пропускається. Кожен прохід рахує гістограму і розкладає елементи
+     * паралельно по частинах масиву; порядок частин і елементів у частині зберігається.
+     *
+     * @param keys Ключі
+     * @param payload Супутні значення, що переставляються разом з ключами (може бути null)
+     */
+    static void radixSort(long[] keys, int[] payload) {
+        int n = keys.length;
+        if (n < 2) {
+            return;
+        }
+        long min = keys[0];
+        long max = keys[0];
+        for (long key : keys) {
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+        // різниця як беззнакове число зберігає порядок навіть для повного діапазону long
+        long range = max - min;
+        int significantBits = 64 - Long.numberOfLeadingZeros(range);
+
+        int chunkCount = Math.max(1, Math.min(parallelism() * 4, n / MIN_RADIX_CHUNK));
+        int chunkSize = (n + chunkCount - 1) / chunkCount;
+        int[][] counts = new int[chunkCount][RADIX_BUCKETS];
+
+        long[] sourceKeys = keys;
+        long[] targetKeys = new long[n];
+        int[] sourcePayload = payload;
+        int[] targetPayload = payload != null ? new int[n] : null;
+        final long offset = min;
+
+        for (int shift = 0; shift < significantBits; shift += RADIX_BITS) {
+            final int currentShift = shift;
+            final long[] fromKeys = sourceKeys;
+            final long[] toKeys = targetKeys;
+            final int[] fromPayload = sourcePayload;
+            final int[] toPayload = targetPayload;
+
+            IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+                int[] chunkCounts = counts[chunk];
+                Arrays.fill(chunkCounts, 0);
+                int end = Math.min(n, (chunk + 1) * chunkSize);
+                for (int i = chunk * chunkSize; i < end; i++) {
+                    chunkCounts[digit(fromKeys[i], offset, currentShift)]++;
+                }
+            });
+
+            // початкові позиції кожного розряду для кожної частини; прохід пропускається,
+            // якщо всі ключі мають однаковий байт
+            boolean uniformDigit = false;
+            int position = 0;
+            for (int bucket = 0; bucket < RADIX_BUCKETS; bucket++) {
+                int bucketStart = position;
+                for (int chunk = 0; chunk < chunkCount; chunk++) {
+                    int count = counts[chunk][bucket];
+                    counts[chunk][bucket] = position;
+                    position += count;
+                }
+                if (position - bucketStart == n) {
+                    uniformDigit = true;
+                }
+            }
+            if (uniformDigit) {
+                continue;
+            }
+
+            IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+                int[] positions = counts[chunk];
+                int end = Math.min(n, (chunk + 1) * chunkSize);
+                for (int i = chunk * chunkSize; i < end; i++) {
+                    int target = positions[digit(fromKeys[i], offset, currentShift)]++;
+                    toKeys[target] = fromKeys[i];
+                    if (fromPayload != null) {
+                        toPayload[target] = fromPayload[i];
+                    }
+                }
+            });
+
+            sourceKeys = toKeys;
+            targetKeys = fromKeys;
+            sourcePayload = toPayload;
+            targetPayload = fromPayload;
+        }
+
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, n);
+            if (payload != null) {
+                System.arraycopy(sourcePayload, 0, payload, 0, n);
+            }
+        }
+    }
+
+    private static int digit(long key, long offset, int shift) {
+        return (int) (((key - offset) >>> shift) & (RADIX_BUCKETS - 1));
+    }
+
+    private static int parallelism() {
+        return ForkJoinPool.getCommonPoolParallelism();
+    }
+}
@@ -0,0 +1,393 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Клас StringInvertedIndex - інвертований індекс слів для повнотекстового пошуку в рядках.
+ *
+ * <p>Кожен рядок отримує номер (позицію в порядку додавання) і розбивається на слова
+ * (послідовності літер і цифр у нижньому регістрі). Для кожного слова зберігається
+ * зростаючий список номерів рядків, у яких воно трапляється. Список стиснутий:
+ * зберігається різниця з попереднім номером, закодована змінною кількістю байтів
+ * (varint, 7 біт на байт), тож часті слова займають близько байта на рядок.</p>
+ *
+ * <p>Запити:</p>
+ * <ul>
+ *   <li>{@link #findTerm(String)} - рядки зі словом;</li>
+ *   <li>{@link #findAll(List)} - рядки з усіма словами (AND): найкоротший список
+ *       перетинається з рештою злиттям;</li>
+ *   <li>{@link #findAny(List)} - рядки з будь-яким словом (OR): злиття списків через купу;</li>
+ *   <li>{@link #findByPrefix(String)} - рядки зі словом, що починається з префікса:
+ *       слова знаходяться двійковим пошуком у впорядкованому словнику, далі - як OR.</li>
+ * </ul>
+ * <p>Тривалість запиту пропорційна довжині задіяних списків, а не кількості рядків.</p>
+ *
+ * <p>Рядки додаються по одному ({@link #add(String)}) і не зберігаються, тож індекс можна
+ * будувати потоково з файлу з мільйонами рядків ({@link DataFileHandler#indexTextFile(String)}).</p>
+ *
+ * <p>Використання:</p>
+ * <pre>
+ * {@code
+ * StringInvertedIndex index = DataFileHandler.indexTextFile("list/String.data");
+ * int[] lines = index.findAll(StringInvertedIndex.tokenize("tall trees"));
+ * int[] prefixed = index.findByPrefix("shin");
+ * }
+ * </pre>
+ */
+public class StringInvertedIndex {
+    private static final int[] NO_LINES = new int[0];
+    private static final int INITIAL_POSTINGS_CAPACITY = 8;
+
+    private final HashMap<String, Postings> postingsByTerm = new HashMap<>();
+    private int lineCount;
+    private long postingCount;
+    // впорядкований словник для запитів за префіксом; скидається, коли з'являються нові слова
+    private String[] sortedTerms;
+
+    /**
+     * Стиснутий список номерів рядків одного слова.
+     */
+    private static final class Postings {
+        byte[] data = new byte[INITIAL_POSTINGS_CAPACITY];
+        int length;
+        int lastLine = -1;
+        int lineCount;
+
+        void add(int line) {
+            // рядок уже записано для цього слова (слово повторюється в рядку)
+            if (line == lastLine) {
+                return;
+            }
+            int delta = line - lastLine;
+            // після trimToSize() масив може бути коротшим за одне число, тож подвоєння замало
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+            }
+            while ((delta & ~0x7F) != 0) {
+                data[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            data[length++] = (byte) delta;
+            lastLine = line;
+            lineCount++;
+        }
+    }
+
+    /**
+     * Послідовне читання списку з декодуванням різниць.
+     */
+    private static final class PostingsCursor {
+        private final byte[] data;
+        private final int end;
+        private int position;
+        int line = -1;
+
+        PostingsCursor(Postings postings) {
+            this.data = postings.data;
+            this.end = postings.length;
+        }
+
+        /**
+         * @return true, якщо прочитано наступний номер рядка (у полі line)
+         */
+        boolean next() {
+            if (position >= end) {
+                return false;
+            }
+            int delta = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = data[position++];
+                delta |= (current & 0x7F) << shift;
+                shift += 7;
+            } while (current < 0);
+            line += delta;
+            return true;
+        }
+    }
+
+    /**
+     * Створює порожній індекс.
+     */
+    public StringInvertedIndex() {
+    }
+
+    /**
+     * Розбиває текст на слова: послідовності літер і цифр у нижньому регістрі.
+     *
+     * @param text Текст (рядок даних або запит)
+     * @return Слова в порядку появи
+     */
+    public static List<String> tokenize(String text) {
+        // регістр змінюється один раз для всього рядка, тож на слово створюється лише один підрядок
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean wordChar = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Додає рядок до індексу під наступним номером.
+     *
+     * @param line Рядок тексту
+     * @return Номер рядка
+     */
+    public int add(String line) {
+        int lineNumber = lineCount++;
+        for (String term : tokenize(line)) {
+            Postings postings = postingsByTerm.get(term);
+            if (postings == null) {
+                postings = new Postings();
+                postingsByTerm.put(term, postings);
+                sortedTerms = null;
+            }
+            int before = postings.lineCount;
+            postings.add(lineNumber);
+            postingCount += postings.lineCount - before;
+        }
+        return lineNumber;
+    }
+
+    /**
+     * Обрізає запас місткості списків після завершення завантаження.
+     */
+    public void trimToSize() {
+        for (Postings postings : postingsByTerm.values()) {
+            if (postings.data.length != postings.length) {
+                postings.data = Arrays.copyOf(postings.data, postings.length);
+            }
+        }
+    }
+
+    public int lineCount() {
+        return lineCount;
+    }
+
+    public int termCount() {
+        return postingsByTerm.size();
+    }
+
+    /**
+     * @return Загальна кількість пар (слово, рядок) у списках
+     */
+    public long postingCount() {
+        return postingCount;
+    }
+
+    /**
+     * @return Обсяг стиснутих списків, байт
+     */
+    public long postingsBytes() {
+        long bytes = 0;
+        for (Postings postings : postingsByTerm.values()) {
+            bytes += postings.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Знаходить рядки, що містять слово.
+     *
+     * @param term Слово (регістр не враховується)
+     * @return Номери рядків за зростанням
+     */
+    public int[] findTerm(String term) {
+        Postings postings = postingsByTerm.get(term.toLowerCase(Locale.ROOT));
+        if (postings == null) {
+            return NO_LINES;
+        }
+        int[] lines = new int[postings.lineCount];
+        PostingsCursor cursor = new PostingsCursor(postings);
+        for (int i = 0; cursor.next(); i++) {
+            lines[i] = cursor.line;
+        }
+        return lines;
+    }
+
+    /**
+     * Знаходить рядки, що містять усі слова (AND).
+     *
+     * @param terms Слова
+     * @return Номери рядків за зростанням
+     */
+    public int[] findAll(List<String> terms) {
+        if (terms.isEmpty()) {
+            return NO_LINES;
+        }
+        Postings[] lists = new Postings[terms.size()];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postingsByTerm.get(terms.get(i).toLowerCase(Locale.ROOT));
+            if (lists[i] == null) {
+                return NO_LINES;
+            }
+        }
+        // перетин починається з найкоротшого списку, тож проміжний результат лише зменшується
+        Arrays.sort(lists, (first, second) -> Integer.compare(first.lineCount, second.lineCount));
+
+        int[] candidates = new int[lists[0].lineCount];
+        int candidateCount = 0;
+        PostingsCursor shortest = new PostingsCursor(lists[0]);
+        while (shortest.next()) {
+            candidates[candidateCount++] = shortest.line;
+        }
+        for (int i = 1; i < lists.length && candidateCount > 0; i++) {
+            PostingsCursor cursor = new PostingsCursor(lists[i]);
+            int kept = 0;
+            boolean hasLine = cursor.next();
+            for (int c = 0; c < candidateCount && hasLine; c++) {
+                int candidate = candidates[c];
+                while (hasLine && cursor.line < candidate) {
+                    hasLine = cursor.next();
+                }
+                if (hasLine && cursor.line == candidate) {
+                    candidates[kept++] = candidate;
+                }
+            }
+            candidateCount = kept;
+        }
+        return Arrays.copyOf(candidates, candidateCount);
+    }
+
+    /**
+     * Знаходить рядки, що містять хоча б одне зі слів (OR).
+     *
+     * @param terms Слова
+     * @return Номери рядків за зростанням без повторів
+     */
+    public int[] findAny(List<String> terms) {
+        List<Postings> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings postings = postingsByTerm.get(term.toLowerCase(Locale.ROOT));
+            if (postings != null) {
+                lists.add(postings);
+            }
+        }
+        return union(lists);
+    }
+
+    /**
+     * Знаходить рядки зі словами, що починаються з префікса.
+     *
+     * @param prefix Префікс слова (регістр не враховується)
+     * @return Номери рядків за зростанням без повторів
+     */
+    public int[] findByPrefix(String prefix) {
+        String normalized = prefix.toLowerCase(Locale.ROOT);
+        String[] terms = sortedTerms();
+        int from = Arrays.binarySearch(terms, normalized);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        List<Postings> lists = new ArrayList<>();
+        for (int i = from; i < terms.length && terms[i].startsWith(normalized); i++) {
+            lists.add(postingsByTerm.get(terms[i]));
+        }
+        return union(lists);
+    }
+
+    /**
+     * @return Кількість слів словника, що починаються з префікса
+     */
+    public int countTermsWithPrefix(String prefix) {
+        String normalized = prefix.toLowerCase(Locale.ROOT);
+        String[] terms = sortedTerms();
+        int from = Arrays.binarySearch(terms, normalized);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        int to = from;
+        while (to < terms.length && terms[to].startsWith(normalized)) {
+            to++;
+        }
+        return to - from;
+    }
+
+    private String[] sortedTerms() {
+        if (sortedTerms == null) {
+            String[] terms = postingsByTerm.keySet().toArray(new String[0]);
+            Arrays.sort(terms);
+            sortedTerms = terms;
+        }
+        return sortedTerms;
+    }
+
+    /**
+     * Об'єднує списки злиттям через мінімальну купу курсорів за поточним номером рядка:
+     * O(p log k), де p - сумарна довжина списків, k - їх кількість.
+     */
+    private static int[] union(List<Postings> lists) {
+        if (lists.isEmpty()) {
+            return NO_LINES;
+        }
+        long total = 0;
+        PostingsCursor[] heap = new PostingsCursor[lists.size()];
+        int heapSize = 0;
+        for (Postings postings : lists) {
+            total += postings.lineCount;
+            PostingsCursor cursor = new PostingsCursor(postings);
+            if (cursor.next()) {
+                heap[heapSize] = cursor;
+                siftUp(heap, heapSize++);
+            }
+        }
+
+        int[] lines = new int[(int) Math.min(total, Integer.MAX_VALUE - 8)];
+        int count = 0;
+        while (heapSize > 0) {
+            PostingsCursor top = heap[0];
+            if (count == 0 || lines[count - 1] != top.line) {
+                lines[count++] = top.line;
+            }
+            if (!top.next()) {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, 0, heapSize);
+        }
+        return Arrays.copyOf(lines, count);
+    }
+
+    private static void siftUp(PostingsCursor[] heap, int index) {
+        PostingsCursor cursor = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].line <= cursor.line) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = cursor;
+    }
+
+    private static void siftDown(PostingsCursor[] heap, int index, int size) {
+        if (size == 0) {
+            return;
+        }
+        PostingsCursor cursor = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1].line < heap[child].line) {
+                child++;
+            }
+            if (cursor.line <= heap[child].line) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = cursor;
+    }
+}
@@ -0,0 +1,162 @@
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Клас TemporalCodec кодує значення часового типу в примітивний ключ long і назад.
+ *
+ * <p>Кодування зберігає порядок: {@code a.compareTo(b) < 0} тоді й лише тоді, коли
+ * {@code encode(a) < encode(b)}. Тому сортування, пошук, діапазони та мінімум/максимум
+ * виконуються над стовпцем long однаково для всіх типів ({@link TemporalDataset}).</p>
+ * <ul>
+ *   <li>{@link #LOCAL_TIME} - наносекунди від початку доби;</li>
+ *   <li>{@link #LOCAL_DATE} - день епохи;</li>
+ *   <li>{@link #LOCAL_DATE_TIME} - секунда епохи в UTC; частки секунди відкидаються під час
+ *       розбору (файли даних мають точність до секунди).</li>
+ * </ul>
+ *
+ * <p>Використання:</p>
+ * <pre>
+ * {@code
+ * TemporalCodec<LocalDate> codec = TemporalCodec.LOCAL_DATE;
+ * long key = codec.encode(codec.parse("2025-02-12"));
+ * LocalDate value = codec.decode(key);
+ * }
+ * </pre>
+ *
+ * @param <T> Часовий тип
+ */
+public final class TemporalCodec<T extends Comparable<? super T>> {
+    public static final TemporalCodec<LocalTime> LOCAL_TIME = new TemporalCodec<>("LocalTime", LocalTime.class, ChronoUnit.NANOS,
+        text -> LocalTime.parse(text, DateTimeFormatter.ISO_TIME),
+        LocalTime::toNanoOfDay,
+        LocalTime::ofNanoOfDay);
+
+    public static final TemporalCodec<LocalDate> LOCAL_DATE = new TemporalCodec<>("LocalDate", LocalDate.class, ChronoUnit.DAYS,
+        text -> LocalDate.parse(text, DateTimeFormatter.ISO_DATE),
+        LocalDate::toEpochDay,
+        LocalDate::ofEpochDay);
+
+    // ISO_DATE_TIME приймає і значення зі зміщенням ("...Z"), зміщення відкидається
+    public static final TemporalCodec<LocalDateTime> LOCAL_DATE_TIME = new TemporalCodec<>("LocalDateTime", LocalDateTime.class, ChronoUnit.SECONDS,
+        text -> LocalDateTime.parse(text, DateTimeFormatter.ISO_DATE_TIME).truncatedTo(ChronoUnit.SECONDS),
+        value -> value.toEpochSecond(ZoneOffset.UTC),
+        epochSecond -> LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
+
+    private static final List<TemporalCodec<?>> ALL = List.of(LOCAL_TIME, LOCAL_DATE, LOCAL_DATE_TIME);
+
+    private final String name;
+    private final Class<T> type;
+    // тривалість, що відповідає різниці ключів на одиницю
+    private final ChronoUnit keyUnit;
+    private final Function<String, T> parser;
+    private final ToLongFunction<T> encoder;
+    private final LongFunction<T> decoder;
+
+    private TemporalCodec(String name, Class<T> type, ChronoUnit keyUnit, Function<String, T> parser,
+                          ToLongFunction<T> encoder, LongFunction<T> decoder) {
+        this.name = name;
+        this.type = type;
+        this.keyUnit = keyUnit;
+        this.parser = parser;
+        this.encoder = encoder;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Знаходить кодек за назвою типу (як у назвах файлів list/, без урахування регістру).
+     *
+     * @param name Назва типу, наприклад "LocalDate"
+     * @return Кодек
+     * @throws IllegalArgumentException якщо тип не підтримується
+     */
+    public static TemporalCodec<?> forName(String name) {
+        for (TemporalCodec<?> codec : ALL) {
+            if (codec.name.toLowerCase(Locale.ROOT).equals(name.trim().toLowerCase(Locale.ROOT))) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("Непідтримуваний тип: " + name);
+    }
+
+    /**
+     * Переводить тривалість у різницю ключів з округленням угору (для LocalDate година - це один день).
+     *
+     * @param duration Тривалість
+     * @return Різниця ключів, не менша за 1
+     */
+    public long keySpan(Duration duration) {
+        Duration unit = keyUnit.getDuration();
+        long span = duration.dividedBy(unit);
+        if (!duration.minus(unit.multipliedBy(span)).isZero()) {
+            span++;
+        }
+        return Math.max(1, span);
+    }
+
+    /**
+     * @return Назва типу, наприклад "LocalTime"
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @param text Значення у форматі ISO
+     * @return Розібране значення
+     * @throws java.time.format.DateTimeParseException якщо формат невірний
+     */
+    public T parse(String text) {
+        return parser.apply(text);
+    }
+
+    /**
+     * Перевіряє, чи належить об'єкт до типу кодека (для contains() подань над ключами).
+     *
+     * @param value Об'єкт
+     * @return true, якщо значення можна закодувати
+     */
+    public boolean accepts(Object value) {
+        return type.isInstance(value);
+    }
+
+    /**
+     * Кодує об'єкт, тип якого перевірено через {@link #accepts(Object)}.
+     *
+     * @param value Значення типу кодека
+     * @return Ключ
+     */
+    public long encodeObject(Object value) {
+        return encoder.applyAsLong(type.cast(value));
+    }
+
+    public long encode(T value) {
+        return encoder.applyAsLong(value);
+    }
+
+    public T decode(long key) {
+        return decoder.apply(key);
+    }
+
+    /**
+     * @param key Ключ
+     * @return Текстове подання значення (як {@code toString()} типу)
+     */
+    public String format(long key) {
+        return decoder.apply(key).toString();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
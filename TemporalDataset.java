@@ -0,0 +1,356 @@
+import java.util.AbstractList;
+import java.util.AbstractQueue;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Клас TemporalDataset - незмінний набір часових значень (LocalTime, LocalDate, LocalDateTime),
+ * збережений стовпцем примітивних ключів long ({@link TemporalCodec}).
+ *
+ * <p>Набір завантажується один раз і спільно використовується всіма обробниками.
+ * Замість власних копій (ArrayList, PriorityQueue, LinkedHashSet) обробники отримують
+ * легкі подання без копіювання:</p>
+ * <ul>
+ *   <li>{@link #asList()} - список у вихідному порядку;</li>
+ *   <li>{@link #asQueue()} - черга з пріоритетом: peek/poll повертають найменше з ще не
+ *       вилучених значень, вилучення лише зсуває курсор подання;</li>
+ *   <li>{@link #asSet()} - множина різних значень з пошуком за O(log n).</li>
+ * </ul>
+ *
+ * <p>Сортування, пошук, діапазони та мінімум/максимум працюють над ключами, тож спільні для
+ * всіх типів. Черга і множина спираються на власний відсортований стовпець, що будується
+ * під час створення подання за O(n log n). Набір нічого не кешує, тож кожне нове подання
+ * платить за побудову саме, а пошук у ньому ніколи не містить прихованого сортування.
+ * Значення створюються лише при читанні елемента, тож пам'ять - 8 байт на значення
+ * замість посилань, об'єктів і вузлів колекцій.</p>
+ *
+ * <p>Використання:</p>
+ * <pre>
+ * {@code
+ * TemporalDataset<LocalDate> dataset = DataFileHandler.loadDatasetFromFile("list/LocalDate.data", TemporalCodec.LOCAL_DATE);
+ * int position = Collections.binarySearch(dataset.asList(), value);
+ * long[] keys = dataset.copyKeys();
+ * SortEngine.sort(keys);
+ * TemporalDataset<LocalDate> sorted = TemporalDataset.wrap(dataset.codec(), keys);
+ * int inRange = sorted.countInSortedRange(from, to);
+ * }
+ * </pre>
+ *
+ * @param <T> Часовий тип
+ */
+public final class TemporalDataset<T extends Comparable<? super T>> {
+    private final TemporalCodec<T> codec;
+    private final long[] keys;
+
+    private TemporalDataset(TemporalCodec<T> codec, long[] keys) {
+        this.codec = codec;
+        this.keys = keys;
+    }
+
+    /**
+     * Створює набір з масиву значень.
+     *
+     * @param codec Кодек типу
+     * @param values Значення
+     * @return Набір даних
+     */
+    public static <T extends Comparable<? super T>> TemporalDataset<T> of(TemporalCodec<T> codec, T[] values) {
+        long[] column = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            column[i] = codec.encode(values[i]);
+        }
+        return new TemporalDataset<>(codec, column);
+    }
+
+    /**
+     * Створює набір, що володіє переданим стовпцем (без копіювання).
+     * Викликач не повинен змінювати масив після передачі.
+     *
+     * @param codec Кодек типу
+     * @param keys Ключі значень
+     * @return Набір даних
+     */
+    static <T extends Comparable<? super T>> TemporalDataset<T> wrap(TemporalCodec<T> codec, long[] keys) {
+        return new TemporalDataset<>(codec, keys);
+    }
+
+    public TemporalCodec<T> codec() {
+        return codec;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /**
+     * @param index Позиція
+     * @return Ключ значення
+     */
+    public long keyAt(int index) {
+        return keys[index];
+    }
+
+    public T get(int index) {
+        return codec.decode(keys[index]);
+    }
+
+    /**
+     * Двійковий пошук у вихідному порядку (як {@link Arrays#binarySearch(Object[], Object)}).
+     *
+     * @param value Шукане значення
+     * @return Позиція або від'ємне значення, якщо елемент не знайдено
+     */
+    public int binarySearch(T value) {
+        return Arrays.binarySearch(keys, codec.encode(value));
+    }
+
+    /**
+     * Знаходить найменший і найбільший ключі за один прохід.
+     *
+     * @return Масив {мінімум, максимум}
+     * @throws NoSuchElementException якщо набір порожній
+     */
+    public long[] minMaxKeys() {
+        if (keys.length == 0) {
+            throw new NoSuchElementException("Набір даних порожній");
+        }
+        long min = keys[0];
+        long max = min;
+        for (int i = 1; i < keys.length; i++) {
+            long key = keys[i];
+            if (key < min) {
+                min = key;
+            }
+            if (key > max) {
+                max = key;
+            }
+        }
+        return new long[] {min, max};
+    }
+
+    /**
+     * Рахує значення з діапазону [from, to) у відсортованому наборі двома двійковими пошуками.
+     *
+     * @param from Нижня межа (включно)
+     * @param to Верхня межа (не включно)
+     * @return Кількість значень у діапазоні
+     */
+    public int countInSortedRange(T from, T to) {
+        int start = lowerBound(keys, 0, keys.length, codec.encode(from));
+        int end = lowerBound(keys, start, keys.length, codec.encode(to));
+        return end - start;
+    }
+
+    /**
+     * @return Копія стовпця ключів (наприклад, для сортування обробником)
+     */
+    public long[] copyKeys() {
+        return keys.clone();
+    }
+
+    // ===== Подання =====
+
+    /**
+     * @return Незмінний список у вихідному порядку
+     */
+    public List<T> asList() {
+        return new ColumnList<>(codec, keys);
+    }
+
+    /**
+     * Будує чергу з пріоритетом: сортує власну копію стовпця за O(n log n).
+     *
+     * @return Нова черга з пріоритетом над відсортованим стовпцем; кожне подання має власний курсор
+     */
+    public Queue<T> asQueue() {
+        return new SortedColumnQueue<>(codec, sortedKeys());
+    }
+
+    /**
+     * Будує множину: сортує власну копію стовпця за O(n log n) і рахує різні значення.
+     *
+     * @return Незмінна множина різних значень набору
+     */
+    public Set<T> asSet() {
+        long[] sorted = sortedKeys();
+        int distinctCount = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[i - 1]) {
+                distinctCount++;
+            }
+        }
+        return new SortedColumnSet<>(codec, sorted, distinctCount);
+    }
+
+    private long[] sortedKeys() {
+        long[] sorted = keys.clone();
+        SortEngine.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * @return Перша позиція в [from, to), ключ на якій не менший за key
+     */
+    private static int lowerBound(long[] sorted, int from, int to, long key) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Список над стовпцем; RandomAccess дозволяє Collections.binarySearch працювати за індексами.
+     */
+    private static final class ColumnList<T extends Comparable<? super T>> extends AbstractList<T> implements RandomAccess {
+        private final TemporalCodec<T> codec;
+        private final long[] column;
+
+        ColumnList(TemporalCodec<T> codec, long[] column) {
+            this.codec = codec;
+            this.column = column;
+        }
+
+        @Override
+        public T get(int index) {
+            return codec.decode(column[index]);
+        }
+
+        @Override
+        public int size() {
+            return column.length;
+        }
+    }
+
+    /**
+     * Черга з пріоритетом над відсортованим стовпцем: голова - найменше невилучене значення.
+     * Додавання не підтримується, бо набір незмінний.
+     */
+    private static final class SortedColumnQueue<T extends Comparable<? super T>> extends AbstractQueue<T> {
+        private final TemporalCodec<T> codec;
+        private final long[] column;
+        private int head;
+
+        SortedColumnQueue(TemporalCodec<T> codec, long[] column) {
+            this.codec = codec;
+            this.column = column;
+        }
+
+        @Override
+        public boolean offer(T value) {
+            throw new UnsupportedOperationException("Набір даних незмінний");
+        }
+
+        @Override
+        public T peek() {
+            return isEmpty() ? null : codec.decode(column[head]);
+        }
+
+        @Override
+        public T poll() {
+            if (isEmpty()) {
+                return null;
+            }
+            return codec.decode(column[head++]);
+        }
+
+        @Override
+        public boolean contains(Object value) {
+            if (!codec.accepts(value)) {
+                return false;
+            }
+            return Arrays.binarySearch(column, head, column.length, codec.encodeObject(value)) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return column.length - head;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                private int position = head;
+
+                @Override
+                public boolean hasNext() {
+                    return position < column.length;
+                }
+
+                @Override
+                public T next() {
+                    if (position >= column.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return codec.decode(column[position++]);
+                }
+            };
+        }
+    }
+
+    /**
+     * Множина різних значень над відсортованим стовпцем; ітерується за зростанням.
+     */
+    private static final class SortedColumnSet<T extends Comparable<? super T>> extends AbstractSet<T> {
+        private final TemporalCodec<T> codec;
+        private final long[] column;
+        private final int distinctCount;
+
+        SortedColumnSet(TemporalCodec<T> codec, long[] column, int distinctCount) {
+            this.codec = codec;
+            this.column = column;
+            this.distinctCount = distinctCount;
+        }
+
+        @Override
+        public boolean contains(Object value) {
+            return codec.accepts(value) && Arrays.binarySearch(column, codec.encodeObject(value)) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return distinctCount;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                private int position;
+
+                @Override
+                public boolean hasNext() {
+                    return position < column.length;
+                }
+
+                @Override
+                public T next() {
+                    if (position >= column.length) {
+                        throw new NoSuchElementException();
+                    }
+                    long value = column[position++];
+                    // пропускаємо повтори
+                    while (position < column.length && column[position] == value) {
+                        position++;
+                    }
+                    return codec.decode(value);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,243 @@
+import java.time.LocalTime;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Клас TimeBucketAggregator - лічильники подій LocalTime у фіксованих інтервалах доби
+ * (секунда, хвилина або година).
+ *
+ * <p>Значення додаються по одному під час завантаження або дописування
+ * ({@link DataFileHandler#loadDatasetFromFile(String, TemporalCodec, TimeBucketAggregator)}),
+ * тож гістограма готова без окремого проходу і без сортування. Кожне додавання -
+ * одне ділення і збільшення лічильника.</p>
+ *
+ * <p>Запити працюють лише з лічильниками, тобто за O(b), де b - кількість інтервалів
+ * (86 400, 1 440 або 24), незалежно від кількості подій:</p>
+ * <ul>
+ *   <li>{@link #count(LocalTime)} - події в інтервалі, що містить час;</li>
+ *   <li>{@link #countBetween(LocalTime, LocalTime)} - події в інтервалах від одного часу до іншого;</li>
+ *   <li>{@link #busiestBucket()} - інтервал з найбільшою кількістю подій;</li>
+ *   <li>{@link #rollUp(Granularity)} - згортання до більших інтервалів (секунди - у хвилини, хвилини - у години).</li>
+ * </ul>
+ *
+ * <p>Лічильники кількох завантажувачів (наприклад, паралельних частин масиву в
+ * {@link #of(long[], Granularity)}) зводяться {@link #merge(TimeBucketAggregator)}.</p>
+ *
+ * <p>Використання:</p>
+ * <pre>
+ * {@code
+ * TimeBucketAggregator perMinute = new TimeBucketAggregator(TimeBucketAggregator.Granularity.MINUTE);
+ * TemporalDataset<LocalTime> dataset = DataFileHandler.loadDatasetFromFile("list/LocalTime.data", TemporalCodec.LOCAL_TIME, perMinute);
+ * long atNoon = perMinute.count(LocalTime.NOON);
+ * TimeBucketAggregator perHour = perMinute.rollUp(TimeBucketAggregator.Granularity.HOUR);
+ * }
+ * </pre>
+ */
+public final class TimeBucketAggregator {
+    private static final long NANOS_PER_DAY = 86_400_000_000_000L;
+    // мінімальна частина масиву для одного потоку
+    private static final int MIN_PARALLEL_CHUNK = 1 << 16;
+
+    /**
+     * Розмір інтервалу.
+     */
+    public enum Granularity {
+        SECOND(1_000_000_000L, "секунда"),
+        MINUTE(60_000_000_000L, "хвилина"),
+        HOUR(3_600_000_000_000L, "година");
+
+        private final long nanos;
+        private final String description;
+
+        Granularity(long nanos, String description) {
+            this.nanos = nanos;
+            this.description = description;
+        }
+
+        /**
+         * @return Кількість інтервалів у добі
+         */
+        public int bucketCount() {
+            return (int) (NANOS_PER_DAY / nanos);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final Granularity granularity;
+    private final long[] counts;
+    private long total;
+
+    /**
+     * Створює порожні лічильники.
+     *
+     * @param granularity Розмір інтервалу
+     */
+    public TimeBucketAggregator(Granularity granularity) {
+        this.granularity = granularity;
+        this.counts = new long[granularity.bucketCount()];
+    }
+
+    /**
+     * Рахує ключі LocalTime (наносекунди від початку доби); великі масиви - паралельно
+     * по частинах з власними лічильниками, що потім зливаються.
+     *
+     * @param nanoOfDayKeys Ключі {@link TemporalCodec#LOCAL_TIME}
+     * @param granularity Розмір інтервалу
+     * @return Лічильники
+     */
+    public static TimeBucketAggregator of(long[] nanoOfDayKeys, Granularity granularity) {
+        TimeBucketAggregator aggregator = new TimeBucketAggregator(granularity);
+        int n = nanoOfDayKeys.length;
+        int chunkCount = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(),
+            n / Math.max(MIN_PARALLEL_CHUNK, aggregator.counts.length)));
+        if (chunkCount == 1) {
+            for (long key : nanoOfDayKeys) {
+                aggregator.addNanoOfDay(key);
+            }
+            return aggregator;
+        }
+
+        int chunkSize = (n + chunkCount - 1) / chunkCount;
+        TimeBucketAggregator[] partial = new TimeBucketAggregator[chunkCount];
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            TimeBucketAggregator chunkAggregator = new TimeBucketAggregator(granularity);
+            int end = Math.min(n, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                chunkAggregator.addNanoOfDay(nanoOfDayKeys[i]);
+            }
+            partial[chunk] = chunkAggregator;
+        });
+        for (TimeBucketAggregator chunkAggregator : partial) {
+            aggregator.merge(chunkAggregator);
+        }
+        return aggregator;
+    }
+
+    public Granularity granularity() {
+        return granularity;
+    }
+
+    /**
+     * Додає подію.
+     *
+     * @param time Час події
+     */
+    public void add(LocalTime time) {
+        addNanoOfDay(time.toNanoOfDay());
+    }
+
+    /**
+     * Додає подію за ключем LocalTime.
+     *
+     * @param nanoOfDay Наносекунди від початку доби
+     */
+    public void addNanoOfDay(long nanoOfDay) {
+        counts[(int) (nanoOfDay / granularity.nanos)]++;
+        total++;
+    }
+
+    /**
+     * Додає лічильники іншого агрегатора з тим самим розміром інтервалу.
+     *
+     * @param other Агрегатор (наприклад, іншого завантажувача)
+     * @throws IllegalArgumentException якщо розміри інтервалів різні
+     */
+    public void merge(TimeBucketAggregator other) {
+        if (other.granularity != granularity) {
+            throw new IllegalArgumentException("Різні розміри інтервалів: " + granularity + " і " + other.granularity);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+    }
+
+    /**
+     * Згортає лічильники до більших інтервалів за O(b).
+     *
+     * @param coarser Розмір інтервалу, не менший за поточний
+     * @return Нові лічильники
+     * @throws IllegalArgumentException якщо інтервал менший за поточний
+     */
+    public TimeBucketAggregator rollUp(Granularity coarser) {
+        if (coarser.nanos < granularity.nanos) {
+            throw new IllegalArgumentException("Неможливо розгорнути " + granularity + " до " + coarser);
+        }
+        TimeBucketAggregator rolledUp = new TimeBucketAggregator(coarser);
+        int factor = (int) (coarser.nanos / granularity.nanos);
+        for (int i = 0; i < counts.length; i++) {
+            rolledUp.counts[i / factor] += counts[i];
+        }
+        rolledUp.total = total;
+        return rolledUp;
+    }
+
+    /**
+     * @return Кількість врахованих подій
+     */
+    public long total() {
+        return total;
+    }
+
+    public int bucketCount() {
+        return counts.length;
+    }
+
+    /**
+     * @param bucket Номер інтервалу
+     * @return Кількість подій в інтервалі
+     */
+    public long countAt(int bucket) {
+        return counts[bucket];
+    }
+
+    /**
+     * @param bucket Номер інтервалу
+     * @return Початок інтервалу
+     */
+    public LocalTime bucketStart(int bucket) {
+        return LocalTime.ofNanoOfDay(bucket * granularity.nanos);
+    }
+
+    /**
+     * @param time Час
+     * @return Кількість подій в інтервалі, що містить час
+     */
+    public long count(LocalTime time) {
+        return counts[bucketOf(time)];
+    }
+
+    /**
+     * @param from Час у першому інтервалі
+     * @param to Час в останньому інтервалі
+     * @return Кількість подій в інтервалах від того, що містить from, до того, що містить to (включно)
+     */
+    public long countBetween(LocalTime from, LocalTime to) {
+        long sum = 0;
+        for (int i = bucketOf(from), end = bucketOf(to); i <= end; i++) {
+            sum += counts[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return Номер інтервалу з найбільшою кількістю подій; з однакових - найраніший
+     */
+    public int busiestBucket() {
+        int busiest = 0;
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] > counts[busiest]) {
+                busiest = i;
+            }
+        }
+        return busiest;
+    }
+
+    private int bucketOf(LocalTime time) {
+        return (int) (time.toNanoOfDay() / granularity.nanos);
+    }
+}